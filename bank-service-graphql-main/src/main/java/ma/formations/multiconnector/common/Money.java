@@ -0,0 +1,120 @@
+package ma.formations.multiconnector.common;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount in MAD held as a whole number of centimes.
+ * Comparisons read the primitive value and never allocate; {@link #plus(Money)} and {@link #minus(Money)}
+ * return a new instance like any immutable value, so loops over many amounts (balance folding, totals)
+ * use the static {@code *Minor} methods on the centimes instead. There is no rounding drift,
+ * the decimal form is only built at the API boundaries. See MoneyBenchmark for the cost of each path.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the amount has more than two decimals
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(String.format("Montant invalide [%s] : deux décimales au maximum", amount));
+        }
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    public static Money of(double amount) {
+        return of(BigDecimal.valueOf(amount));
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Allocation-free addition of two amounts in centimes.
+     *
+     * @throws ArithmeticException on overflow
+     */
+    public static long addMinor(long minorUnits, long otherMinorUnits) {
+        return Math.addExact(minorUnits, otherMinorUnits);
+    }
+
+    /**
+     * Allocation-free subtraction of two amounts in centimes.
+     *
+     * @throws ArithmeticException on overflow
+     */
+    public static long subtractMinor(long minorUnits, long otherMinorUnits) {
+        return Math.subtractExact(minorUnits, otherMinorUnits);
+    }
+
+    /**
+     * @return true if a balance of {@code balanceMinor} centimes can be debited of {@code amountMinor} centimes
+     */
+    public static boolean covers(long balanceMinor, long amountMinor) {
+        return balanceMinor >= amountMinor;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(addMinor(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(subtractMinor(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return !covers(minorUnits, other.minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public double toDouble() {
+        return minorUnits / 100.0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && other.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,21 @@
+package ma.formations.multiconnector.common;
+
+import jakarta.xml.bind.annotation.adapters.XmlAdapter;
+
+import java.math.BigDecimal;
+
+/**
+ * Binds {@link Money} to an xs:decimal in SOAP messages.
+ */
+public class MoneyXmlAdapter extends XmlAdapter<BigDecimal, Money> {
+
+    @Override
+    public Money unmarshal(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+
+    @Override
+    public BigDecimal marshal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+}
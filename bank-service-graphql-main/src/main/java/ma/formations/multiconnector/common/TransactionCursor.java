@@ -0,0 +1,41 @@
+package ma.formations.multiconnector.common;
+
+import ma.formations.multiconnector.service.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Opaque position in a transaction history ordered by (date, id) descending.
+ * Clients send back the cursor of the last page they received to get the transactions that follow it.
+ */
+public record TransactionCursor(Date date, long id) {
+
+    public static TransactionCursor of(Date date, long id) {
+        return new TransactionCursor(date, id);
+    }
+
+    /**
+     * @return the cursor encoded by {@link #encode()}, or null when the value is null or empty
+     */
+    public static TransactionCursor decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(value);
+            }
+            return new TransactionCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Curseur de pagination invalide");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date.getTime() + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -1,6 +1,7 @@
 package ma.formations.multiconnector.config;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dao.RoleRepository;
@@ -80,7 +81,7 @@ public class DataInitializer {
                 // Create a bank account for the test client
                 BankAccount account1 = BankAccount.builder()
                         .rib("MA001234567890123456789012")
-                        .amount(5000.0)
+                        .amount(Money.of(5000.0))
                         .accountStatus(AccountStatus.OPENED)
                         .customer(savedClient)
                         .createdAt(new Date())
@@ -89,7 +90,7 @@ public class DataInitializer {
 
                 BankAccount account2 = BankAccount.builder()
                         .rib("MA009876543210987654321098")
-                        .amount(2000.0)
+                        .amount(Money.of(2000.0))
                         .accountStatus(AccountStatus.OPENED)
                         .customer(savedClient)
                         .createdAt(new Date())
@@ -121,7 +122,7 @@ public class DataInitializer {
                 // Create a bank account
                 BankAccount account3 = BankAccount.builder()
                         .rib("MA005555555555555555555555")
-                        .amount(10000.0)
+                        .amount(Money.of(10000.0))
                         .accountStatus(AccountStatus.OPENED)
                         .customer(savedClient2)
                         .createdAt(new Date())
@@ -0,0 +1,84 @@
+package ma.formations.multiconnector.config;
+
+import graphql.GraphQLContext;
+import graphql.execution.CoercedVariables;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.presentation.graphql.PersistedDocumentProvider;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public RuntimeWiringConfigurer moneyScalarConfigurer() {
+        return wiringBuilder -> wiringBuilder.scalar(GraphQLScalarType.newScalar()
+                .name("Money")
+                .description("Amount in MAD with at most two decimals, e.g. 1250.50")
+                .coercing(new MoneyCoercing())
+                .build());
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedDocumentsCustomizer(PersistedDocumentProvider documentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+
+    private static class MoneyCoercing implements Coercing<Money, BigDecimal> {
+
+        @Override
+        public BigDecimal serialize(Object dataFetcherResult, GraphQLContext context, Locale locale) {
+            if (dataFetcherResult instanceof Money money) {
+                return money.toBigDecimal();
+            }
+            throw new CoercingSerializeException("Expected a Money value but got " + dataFetcherResult);
+        }
+
+        @Override
+        public Money parseValue(Object input, GraphQLContext context, Locale locale) {
+            try {
+                if (input instanceof BigDecimal decimal) {
+                    return Money.of(decimal);
+                }
+                if (input instanceof Number || input instanceof String) {
+                    return Money.of(input.toString());
+                }
+            } catch (IllegalArgumentException e) {
+                throw new CoercingParseValueException(e.getMessage());
+            }
+            throw new CoercingParseValueException("Expected a number but got " + input);
+        }
+
+        @Override
+        public Money parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext context, Locale locale) {
+            try {
+                if (input instanceof FloatValue floatValue) {
+                    return Money.of(floatValue.getValue());
+                }
+                if (input instanceof IntValue intValue) {
+                    return Money.of(new BigDecimal(intValue.getValue()));
+                }
+                if (input instanceof StringValue stringValue) {
+                    return Money.of(stringValue.getValue());
+                }
+            } catch (IllegalArgumentException e) {
+                throw new CoercingParseLiteralException(e.getMessage());
+            }
+            throw new CoercingParseLiteralException("Expected a number literal but got " + input);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ma.formations.multiconnector.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Moves the id counters of the former id_block table to the *_seq tables of Hibernate's pooled generators
+ * before Hibernate starts, so that databases created with it keep handing out unused ids.
+ * Both tables store the next free id of the entity hierarchy. id_block is dropped once moved,
+ * an interrupted migration simply resumes on the next start.
+ */
+@Slf4j
+@Component
+public class IdBlockMigration implements InitializingBean {
+
+    private static final String ID_BLOCK = "id_block";
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "ma.formations.multiconnector.service.model.BankAccount", "bank_account_seq",
+            "ma.formations.multiconnector.service.model.BankAccountTransaction", "bank_account_transaction_seq",
+            "ma.formations.multiconnector.service.model.User", "user_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdBlockMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists(ID_BLOCK)) {
+            return;
+        }
+        for (Map<String, Object> block : jdbcTemplate.queryForList("select name, next_val from " + ID_BLOCK)) {
+            String table = SEQUENCE_TABLES.get((String) block.get("name"));
+            if (table == null) {
+                continue;
+            }
+            long nextVal = ((Number) block.get("next_val")).longValue();
+            if (!tableExists(table)) {
+                jdbcTemplate.execute("create table " + table + " (next_val bigint)");
+            }
+            Integer rows = jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+            if (Objects.requireNonNullElse(rows, 0) == 0) {
+                jdbcTemplate.update("insert into " + table + " (next_val) values (?)", nextVal);
+            } else {
+                jdbcTemplate.update("update " + table + " set next_val = ? where next_val < ?", nextVal, nextVal);
+            }
+            log.info("Moved the id counter of {} to {}, next id {}", block.get("name"), table, nextVal);
+        }
+        jdbcTemplate.execute("drop table " + ID_BLOCK);
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), null, table,
+                    new String[]{"TABLE"})) {
+                return resultSet.next();
+            }
+        }));
+    }
+
+    /**
+     * Makes the entity manager factory, and therefore Hibernate's schema update, wait for the migration.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(IdBlockMigration.class);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ma.formations.multiconnector.config;
+
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.service.model.IdempotencyRecord;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gives the idempotency records stored under the former "username:key" id the hashed id they are now looked up with,
+ * so that the retries of transfers made before the upgrade are still answered from their record.
+ * Generated usernames contain no colon, the former id is split at the first one. Hashed ids contain none,
+ * replaying the migration is harmless.
+ */
+@Slf4j
+@Component
+public class IdempotencyIdMigration implements InitializingBean {
+
+    private static final String TABLE = "idempotency_record";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyIdMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists()) {
+            return;
+        }
+        List<String> formerIds = jdbcTemplate.queryForList("select id from " + TABLE + " where id like '%:%'", String.class);
+        if (formerIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> renames = new ArrayList<>(formerIds.size());
+        for (String formerId : formerIds) {
+            int separator = formerId.indexOf(':');
+            String id = IdempotencyRecord.idOf(formerId.substring(0, separator), formerId.substring(separator + 1));
+            renames.add(new Object[]{id, formerId});
+        }
+        jdbcTemplate.batchUpdate("update " + TABLE + " set id = ? where id = ?", renames);
+        log.info("Hashed the ids of {} idempotency records", renames.size());
+    }
+
+    private boolean tableExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), null, TABLE,
+                    new String[]{"TABLE"})) {
+                return resultSet.next();
+            }
+        }));
+    }
+
+    /**
+     * Makes the entity manager factory, and therefore Hibernate's schema update, wait for the migration.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(IdempotencyIdMigration.class);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package ma.formations.multiconnector.config;
 
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
@@ -35,6 +37,8 @@ public class ModelMapperConfig {
         Converter<String, Date> stringToDateConverter = new AbstractConverter<>() {
             @Override
             public Date convert(String s) {
+                if (s == null)
+                    return null;
                 try {
                     return tools.stringToDate(s);
                 } catch (ParseException e) {
@@ -44,6 +48,9 @@ public class ModelMapperConfig {
         };
         modelMapper.addConverter(dateToStringConverter);
         modelMapper.addConverter(stringToDateConverter);
+        //With the loose strategy bankAccount.lastTransactionAt would also match transactionType
+        modelMapper.typeMap(BankAccountTransaction.class, TransactionDto.class).
+                addMappings(mapper -> mapper.map(BankAccountTransaction::getTransactionType, TransactionDto::setTransactionType));
 
         return modelMapper;
     }
@@ -0,0 +1,81 @@
+package ma.formations.multiconnector.config;
+
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Converts the legacy DOUBLE amount columns (in MAD) to BIGINT centimes before Hibernate starts,
+ * so databases created before {@link Money} keep their balances.
+ * Every step can be replayed, an interrupted migration simply resumes on the next start.
+ */
+@Slf4j
+@Component
+public class MoneyColumnMigration implements InitializingBean {
+
+    private static final List<String> TABLES = List.of("bank_account", "bank_account_transaction");
+    private static final Set<String> DECIMAL_TYPES = Set.of("DOUBLE", "DOUBLE PRECISION", "FLOAT", "REAL", "DECIMAL", "NUMERIC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MoneyColumnMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String table : TABLES) {
+            Map<String, String> columns = Objects.requireNonNull(
+                    jdbcTemplate.execute((Connection connection) -> readColumns(connection, table)));
+            String amountType = columns.get("amount");
+            if (amountType != null && DECIMAL_TYPES.contains(amountType)) {
+                log.info("Migrating {}.amount from {} to BIGINT centimes", table, amountType);
+                if (!columns.containsKey("amount_minor")) {
+                    jdbcTemplate.execute("alter table " + table + " add column amount_minor bigint");
+                }
+                jdbcTemplate.execute("update " + table + " set amount_minor = round(amount * 100)");
+                jdbcTemplate.execute("alter table " + table + " drop column amount");
+                amountType = null;
+            }
+            if (amountType == null && columns.containsKey("amount_minor")) {
+                jdbcTemplate.execute("alter table " + table + " rename column amount_minor to amount");
+            }
+        }
+    }
+
+    private Map<String, String> readColumns(Connection connection, String table) throws SQLException {
+        Map<String, String> columns = new HashMap<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+            while (resultSet.next()) {
+                columns.put(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT),
+                        resultSet.getString("TYPE_NAME").toUpperCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Makes the entity manager factory, and therefore Hibernate's schema update, wait for the migration.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(MoneyColumnMigration.class);
+        }
+    }
+}
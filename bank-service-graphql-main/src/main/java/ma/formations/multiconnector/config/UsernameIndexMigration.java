@@ -0,0 +1,71 @@
+package ma.formations.multiconnector.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Replaces the former non-unique index on user.username by the unique one declared on User,
+ * which Hibernate's schema update creates once the old index is gone.
+ * Usernames already given to several users would make that creation fail: they are reported and the old
+ * index is kept until they are renamed. Replaying it is harmless.
+ */
+@Slf4j
+@Component
+public class UsernameIndexMigration implements InitializingBean {
+
+    private static final String TABLE = "user";
+    private static final String FORMER_INDEX = "idx_user_username";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UsernameIndexMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.execute(this::hasFormerIndex))) {
+            return;
+        }
+        List<String> duplicates = jdbcTemplate.queryForList(
+                "select username from `" + TABLE + "` group by username having count(*) > 1", String.class);
+        if (!duplicates.isEmpty()) {
+            log.error("Usernames shared by several users, their index cannot be made unique until they are renamed: {}",
+                    duplicates);
+            return;
+        }
+        jdbcTemplate.execute("alter table `" + TABLE + "` drop index " + FORMER_INDEX);
+        log.info("Dropped the non-unique index {}, usernames are now unique", FORMER_INDEX);
+    }
+
+    private boolean hasFormerIndex(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), null, TABLE, false, false)) {
+            while (resultSet.next()) {
+                if (FORMER_INDEX.equalsIgnoreCase(resultSet.getString("INDEX_NAME"))) {
+                    return resultSet.getBoolean("NON_UNIQUE");
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Makes the entity manager factory, and therefore Hibernate's schema update, wait for the migration.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(UsernameIndexMigration.class);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ma.formations.multiconnector.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Sets the optimistic lock version of the accounts created before it existed.
+ * Hibernate's schema update added bank_account.version as a nullable column, which the bulk
+ * updates would keep NULL and Spring Data would take for a new entity: the rows are set to 0
+ * and the column made NOT NULL DEFAULT 0 before Hibernate starts. Replaying it is harmless.
+ */
+@Slf4j
+@Component
+public class VersionColumnMigration implements InitializingBean {
+
+    private static final String TABLE = "bank_account";
+    private static final String COLUMN = "version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionColumnMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        String nullable = jdbcTemplate.execute(this::readNullable);
+        if (nullable == null) {
+            // New database, or one created before the version: Hibernate adds it NOT NULL DEFAULT 0
+            return;
+        }
+        int backfilled = jdbcTemplate.update("update " + TABLE + " set " + COLUMN + " = 0 where " + COLUMN + " is null");
+        if (backfilled > 0) {
+            log.info("Initialized the version of {} accounts", backfilled);
+        }
+        if ("YES".equals(nullable)) {
+            jdbcTemplate.execute("alter table " + TABLE + " modify column " + COLUMN + " bigint not null default 0");
+        }
+    }
+
+    /**
+     * @return YES or NO, null when the column does not exist
+     */
+    private String readNullable(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, TABLE, COLUMN)) {
+            return resultSet.next() ? resultSet.getString("IS_NULLABLE") : null;
+        }
+    }
+
+    /**
+     * Makes the entity manager factory, and therefore Hibernate's schema update, wait for the migration.
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(VersionColumnMigration.class);
+        }
+    }
+}
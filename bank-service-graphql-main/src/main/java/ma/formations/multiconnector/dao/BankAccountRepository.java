@@ -1,10 +1,152 @@
 package ma.formations.multiconnector.dao;
 
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.enums.AccountStatus;
 import ma.formations.multiconnector.service.model.BankAccount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
     Optional<BankAccount> findByRib(String rib);
+
+    @Query("select b.id from BankAccount b where b.rib = :rib")
+    Optional<Long> findIdByRib(@Param("rib") String rib);
+
+    @Query("select b.rib from BankAccount b where b.rib in :ribs")
+    List<String> findRibsIn(@Param("ribs") Collection<String> ribs);
+
+    @Query("select b.id as id, b.rib as rib from BankAccount b where b.rib in :ribs")
+    List<AccountId> findIdsByRibIn(@Param("ribs") Collection<String> ribs);
+
+    @Query("select b from BankAccount b left join fetch b.customer where b.id > :afterId order by b.id")
+    List<BankAccount> findChunk(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select b.id as id, b.amount as amount from BankAccount b")
+    List<AccountBalance> findAllBalances();
+
+    @Query("select b.rib as rib, b.amount as amount from BankAccount b where b.rib in :ribs")
+    List<RibBalance> findBalancesByRibIn(@Param("ribs") Collection<String> ribs);
+
+    @Query("select b.id as id, b.rib as rib, b.amount as amount, b.accountStatus as accountStatus, b.version as version " +
+            "from BankAccount b where b.rib in :ribs")
+    List<AccountState> findStatesByRibIn(@Param("ribs") Collection<String> ribs);
+
+    /**
+     * Debits an opened account in a single statement, only if the balance covers the amount,
+     * and records the transaction on the account activity.
+     *
+     * @return 1 if the account was debited, 0 if it is missing, not opened or insufficiently funded
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update BankAccount b set b.amount = b.amount - :amount, b.version = coalesce(b.version, 0) + 1, " +
+            "b.lastTransactionAt = :at, b.transactionCount = b.transactionCount + 1 " +
+            "where b.rib = :rib and b.amount >= :amount " +
+            "and b.accountStatus = ma.formations.multiconnector.enums.AccountStatus.OPENED")
+    int postDebit(@Param("rib") String rib, @Param("amount") Money amount, @Param("at") Date at);
+
+    /**
+     * Credits an opened account in a single statement and records the transaction on the account activity.
+     *
+     * @return 1 if the account was credited, 0 if it is missing or not opened
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update BankAccount b set b.amount = b.amount + :amount, b.version = coalesce(b.version, 0) + 1, " +
+            "b.lastTransactionAt = :at, b.transactionCount = b.transactionCount + 1 " +
+            "where b.rib = :rib " +
+            "and b.accountStatus = ma.formations.multiconnector.enums.AccountStatus.OPENED")
+    int postCredit(@Param("rib") String rib, @Param("amount") Money amount, @Param("at") Date at);
+
+    /**
+     * Applies the net change of a batch to an account together with its transactions, only if the account
+     * is still at the version read when the batch started.
+     *
+     * @return 1 if the account was updated, 0 if another operation modified it meanwhile
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update BankAccount b set b.amount = b.amount + :delta, b.version = coalesce(b.version, 0) + 1, " +
+            "b.lastTransactionAt = :at, b.transactionCount = b.transactionCount + :count " +
+            "where b.rib = :rib and coalesce(b.version, 0) = :version")
+    int postBatch(@Param("rib") String rib, @Param("delta") Money delta, @Param("count") long count,
+                  @Param("at") Date at, @Param("version") long version);
+
+    /**
+     * Applies the net change of the transfers decided by the sharded engine, only if the account is still opened
+     * and the change leaves it covered ({@code minimum} is the opposite of the change): an account changed by
+     * another writer since its shard read it is left untouched.
+     *
+     * @return 1 if the account was updated, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update BankAccount b set b.amount = b.amount + :delta, b.version = coalesce(b.version, 0) + 1, " +
+            "b.lastTransactionAt = :at, b.transactionCount = b.transactionCount + :count " +
+            "where b.rib = :rib and b.amount >= :minimum " +
+            "and b.accountStatus = ma.formations.multiconnector.enums.AccountStatus.OPENED")
+    int postNet(@Param("rib") String rib, @Param("delta") Money delta, @Param("minimum") Money minimum,
+                @Param("count") long count, @Param("at") Date at);
+
+    @Query("select b.id from BankAccount b where b.transactionCount is null order by b.id")
+    List<Long> findIdsWithoutActivity(Pageable pageable);
+
+    /**
+     * Computes the activity of accounts created before it was tracked, from their transaction rows.
+     */
+    @Modifying
+    @Query("update BankAccount b set " +
+            "b.lastTransactionAt = coalesce((select max(t.createdAt) from BankAccountTransaction t where t.bankAccount = b), b.lastTransactionAt), " +
+            "b.transactionCount = (select count(t) from BankAccountTransaction t where t.bankAccount = b) " +
+            "where b.id in :ids and b.transactionCount is null")
+    int backfillActivity(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Debits one account and credits the other, always touching the rows in RIB order so that two
+     * opposite transfers running in parallel never wait on each other's row lock.
+     * The caller must roll back its transaction when false is returned, one update may have been applied.
+     *
+     * @return true if both accounts were updated
+     */
+    default boolean transfer(String ribFrom, String ribTo, Money amount, Date at) {
+        if (ribFrom.compareTo(ribTo) < 0) {
+            return postDebit(ribFrom, amount, at) == 1 && postCredit(ribTo, amount, at) == 1;
+        }
+        return postCredit(ribTo, amount, at) == 1 && postDebit(ribFrom, amount, at) == 1;
+    }
+
+    interface AccountId {
+        Long getId();
+
+        String getRib();
+    }
+
+    interface AccountBalance {
+        Long getId();
+
+        Money getAmount();
+    }
+
+    interface RibBalance {
+        String getRib();
+
+        Money getAmount();
+    }
+
+    interface AccountState {
+        Long getId();
+
+        String getRib();
+
+        Money getAmount();
+
+        AccountStatus getAccountStatus();
+
+        Long getVersion();
+    }
 }
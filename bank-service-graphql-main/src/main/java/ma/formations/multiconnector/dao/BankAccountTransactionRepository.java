@@ -1,15 +1,76 @@
 package ma.formations.multiconnector.dao;
 
+import jakarta.persistence.QueryHint;
+import ma.formations.multiconnector.dtos.transaction.TransactionExportRow;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface BankAccountTransactionRepository extends JpaRepository<BankAccountTransaction, Long> {
-    List<BankAccountTransaction> findByBankAccount_RibAndCreatedAtBetween(String rib, Date from, Date to);
-    Page<BankAccountTransaction> findByBankAccount(BankAccount bankAccount, Pageable pageable);
+    /*
+     * The account is resolved from its RIB once by the caller, these queries then filter on the foreign key
+     * without joining bank_account and are served by the (bank_account_id, ...) indexes of BankAccountTransaction.
+     */
+    @Query("select t from BankAccountTransaction t where t.bankAccount.id = :accountId and t.createdAt between :from and :to")
+    List<BankAccountTransaction> findByAccountAndCreatedAtBetween(@Param("accountId") Long accountId,
+                                                                  @Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Reads the rows of an export lazily, the caller must consume and close the stream inside a transaction.
+     * The fetch size makes the driver read them from the database in chunks instead of all at once.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new ma.formations.multiconnector.dtos.transaction.TransactionExportRow(" +
+            "t.id, t.createdAt, t.transactionType, t.amount, b.rib, u.username) " +
+            "from BankAccountTransaction t join t.bankAccount b left join t.user u " +
+            "where b.id = :accountId and t.createdAt between :from and :to order by t.createdAt, t.id")
+    Stream<TransactionExportRow> streamForExport(@Param("accountId") Long accountId,
+                                                 @Param("from") Date from, @Param("to") Date to);
+
+    @Query("select max(t.journalSeq) from BankAccountTransaction t")
+    Long findMaxJournalSeq();
+
+    /*
+     * Keyset pagination, newest first: a page starts strictly after the (date, id) of the previous one,
+     * written as an OR so that every database can seek it on an index instead of skipping an OFFSET.
+     * The limit is one more than the page size, the extra row only tells whether a next page exists.
+     */
+    @Query("select t from BankAccountTransaction t where t.bankAccount = :account order by t.date desc, t.id desc")
+    List<BankAccountTransaction> findLatest(@Param("account") BankAccount account, Limit limit);
+
+    @Query("select t from BankAccountTransaction t where t.bankAccount = :account " +
+            "and (t.date < :date or (t.date = :date and t.id < :id)) order by t.date desc, t.id desc")
+    List<BankAccountTransaction> findLatestBefore(@Param("account") BankAccount account, @Param("date") Date date,
+                                                  @Param("id") long id, Limit limit);
+
+    @Query("select t from BankAccountTransaction t where t.bankAccount.id = :accountId and t.date between :from and :to " +
+            "order by t.date desc, t.id desc")
+    List<BankAccountTransaction> findHistory(@Param("accountId") Long accountId, @Param("from") Date from,
+                                             @Param("to") Date to, Limit limit);
+
+    @Query("select t from BankAccountTransaction t where t.bankAccount.id = :accountId and t.date between :from and :to " +
+            "and (t.date < :date or (t.date = :date and t.id < :id)) order by t.date desc, t.id desc")
+    List<BankAccountTransaction> findHistoryBefore(@Param("accountId") Long accountId, @Param("from") Date from,
+                                                   @Param("to") Date to, @Param("date") Date date, @Param("id") long id,
+                                                   Limit limit);
+
+    @Query("select count(t) from BankAccountTransaction t where t.bankAccount.id = :accountId and t.date between :from and :to")
+    long countHistory(@Param("accountId") Long accountId, @Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Gives a date to the rows written before every transfer path set it, so that they can be paginated.
+     */
+    @Modifying
+    @Query("update BankAccountTransaction t set t.date = t.createdAt where t.date is null")
+    int fillMissingDates();
 }
@@ -1,12 +1,31 @@
 package ma.formations.multiconnector.dao;
 
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
 import ma.formations.multiconnector.service.model.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByIdentityNumber(String identityNumber);
     Optional<Customer> findByUsername(String username);
     Optional<Customer> findByEmail(String email);
+
+    @Query("select c.identityNumber from Customer c where c.identityNumber in :identityNumbers")
+    List<String> findIdentityNumbersIn(@Param("identityNumbers") Collection<String> identityNumbers);
+
+    @Query("select c from Customer c where c.id > :afterId order by c.id")
+    List<Customer> findChunk(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Projection used by the GraphQL batch loaders: one query for all the ids, without loading the roles.
+     */
+    @Query("select new ma.formations.multiconnector.dtos.customer.CustomerDto(" +
+            "c.id, c.username, c.identityNumber, c.firstname, c.lastname) from Customer c where c.id in :ids")
+    List<CustomerDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
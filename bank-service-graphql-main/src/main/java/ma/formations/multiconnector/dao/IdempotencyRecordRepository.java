@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :limit")
+    int deleteByCreatedAtBefore(@Param("limit") Date limit);
+
+    /**
+     * Records are never merged (see {@link IdempotencyRecord#isNew()}), an expired one is deleted before its key is reused.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.createdAt < :limit")
+    int deleteExpired(@Param("id") String id, @Param("limit") Date limit);
+}
@@ -0,0 +1,14 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.JournalCommit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JournalCommitRepository extends JpaRepository<JournalCommit, Long> {
+
+    @Modifying
+    @Query("delete from JournalCommit c where c.seq <= :seq")
+    int deleteUpTo(@Param("seq") long seq);
+}
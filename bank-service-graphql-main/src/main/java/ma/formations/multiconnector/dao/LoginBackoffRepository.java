@@ -0,0 +1,18 @@
+package ma.formations.multiconnector.dao;
+
+import ma.formations.multiconnector.service.model.LoginBackoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+public interface LoginBackoffRepository extends JpaRepository<LoginBackoff, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from LoginBackoff b where b.blockedUntil < :limit")
+    int deleteByBlockedUntilBefore(@Param("limit") Date limit);
+}
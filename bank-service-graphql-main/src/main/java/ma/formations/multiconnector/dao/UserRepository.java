@@ -1,12 +1,61 @@
 package ma.formations.multiconnector.dao;
 
+import ma.formations.multiconnector.dtos.user.UserDto;
 import ma.formations.multiconnector.service.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
+    boolean existsByUsername(String username);
 
+    @Query("select new ma.formations.multiconnector.dtos.user.UserDto(u.id, u.username, u.firstname, u.lastname) " +
+            "from User u where u.id in :ids")
+    List<UserDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * All the usernames starting with the prefix, in which the LIKE wildcards (and !) must be escaped with a !.
+     */
+    @Query("select u.username from User u where u.username like concat(:prefix, '%') escape '!'")
+    List<String> findUsernamesStartingWith(@Param("prefix") String prefix);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Reads only the status flags and the token epoch of a user, without its roles.
+     */
+    @Query("select u.username as username, u.tokenEpoch as tokenEpoch, u.enabled as enabled, " +
+            "u.accountNonExpired as accountNonExpired, u.credentialsNonExpired as credentialsNonExpired, " +
+            "u.accountNonLocked as accountNonLocked from User u where u.username = :username")
+    Optional<UserStatus> findStatusByUsername(@Param("username") String username);
+
+    @Query("select u.username as username, u.tokenEpoch as tokenEpoch, u.enabled as enabled, " +
+            "u.accountNonExpired as accountNonExpired, u.credentialsNonExpired as credentialsNonExpired, " +
+            "u.accountNonLocked as accountNonLocked from User u")
+    List<UserStatus> findAllStatuses();
+
+    interface UserStatus {
+        String getUsername();
+
+        Long getTokenEpoch();
+
+        boolean isEnabled();
+
+        boolean isAccountNonExpired();
+
+        boolean isCredentialsNonExpired();
+
+        boolean isAccountNonLocked();
+
+        default boolean isActive() {
+            return isEnabled() && isAccountNonExpired() && isCredentialsNonExpired() && isAccountNonLocked();
+        }
+    }
 }
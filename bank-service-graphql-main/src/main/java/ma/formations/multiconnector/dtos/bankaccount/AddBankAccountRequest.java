@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,6 +12,6 @@ import lombok.NoArgsConstructor;
 @Data
 public class AddBankAccountRequest {
     private String rib;
-    private Double amount;
+    private Money amount;
     private String identityNumber;
 }
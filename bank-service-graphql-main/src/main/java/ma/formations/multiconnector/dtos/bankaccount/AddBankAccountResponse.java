@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dtos.customer.CustomerDto;
 import ma.formations.multiconnector.enums.AccountStatus;
 
@@ -15,7 +16,7 @@ public class AddBankAccountResponse {
     private String message;
     private Long id;
     private String rib;
-    private Double amount;
+    private Money amount;
     private String createdAt;
     private AccountStatus accountStatus;
     private CustomerDto customer;
@@ -0,0 +1,16 @@
+package ma.formations.multiconnector.dtos.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class CustomerImportError {
+    private int row;
+    private String identityNumber;
+    private String message;
+}
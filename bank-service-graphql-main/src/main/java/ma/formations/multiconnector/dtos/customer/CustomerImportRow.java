@@ -0,0 +1,27 @@
+package ma.formations.multiconnector.dtos.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * One customer of a bulk import, with the accounts opened for it (their identityNumber is not read).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class CustomerImportRow {
+    private String firstname;
+    private String lastname;
+    private String identityNumber;
+    private Date birthDate;
+    private String email;
+    private String postalAddress;
+    private List<AddBankAccountRequest> accounts;
+}
@@ -0,0 +1,33 @@
+package ma.formations.multiconnector.dtos.customer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.enums.ImportStatus;
+
+import java.util.Date;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class CustomerImportStatus {
+    private String id;
+    private ImportStatus status;
+    private String message;
+    private String startedBy;
+    private Date startedAt;
+    private Date finishedAt;
+    private int total;
+    private int processed;
+    private int created;
+    private int failed;
+    private int accountsCreated;
+    private int emailsSent;
+    private int emailsFailed;
+    private int emailsPending;
+    private List<CustomerImportError> errors;
+    private boolean errorsTruncated;
+}
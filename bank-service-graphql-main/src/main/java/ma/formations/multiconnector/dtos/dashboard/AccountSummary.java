@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 
 import java.util.Date;
 
@@ -13,6 +14,7 @@ import java.util.Date;
 @Builder
 public class AccountSummary {
     private String rib;
-    private Double balance;
+    private Money balance;
     private Date lastTransactionDate;
+    private long transactionCount;
 }
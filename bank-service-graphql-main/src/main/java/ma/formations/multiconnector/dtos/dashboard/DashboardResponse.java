@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
 
 import java.util.List;
@@ -15,8 +16,10 @@ import java.util.List;
 public class DashboardResponse {
     private List<AccountSummary> accounts;
     private String selectedRib;
-    private Double selectedAccountBalance;
+    private Money selectedAccountBalance;
     private List<TransactionDto> recentTransactions;
+    private String nextCursor;
+    private boolean hasNext;
     private int totalPages;
     private long totalTransactions;
 }
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 
 @Data
 @NoArgsConstructor
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 public class AddWirerTransferRequest {
     private String ribFrom;
     private String ribTo;
-    private Double amount;
+    private Money amount;
     private String username;
+    private String idempotencyKey;
 }
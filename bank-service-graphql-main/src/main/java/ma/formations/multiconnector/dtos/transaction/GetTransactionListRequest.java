@@ -13,4 +13,7 @@ public class GetTransactionListRequest {
     private String rib;
     private String dateTo;
     private String dateFrom;
+    private String cursor;
+    private Integer size;
+    private Boolean withTotal;
 }
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.user.UserDto;
 
@@ -15,7 +16,7 @@ public class TransactionDto {
     private Long id;
     private String createdAt;
     private String transactionType;
-    private Double amount;
+    private Money amount;
     private BankAccountDto bankAccount;
     private UserDto user;
 }
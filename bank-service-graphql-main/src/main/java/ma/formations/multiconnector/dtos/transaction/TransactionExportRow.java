@@ -0,0 +1,13 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.enums.TransactionType;
+
+import java.util.Date;
+
+/**
+ * One exported transaction, selected directly by the export query so that no entity is attached to the session.
+ */
+public record TransactionExportRow(Long id, Date createdAt, TransactionType transactionType, Money amount,
+                                   String rib, String username) {
+}
@@ -0,0 +1,25 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class TransactionPage {
+    private List<TransactionEdge> edges;
+    /**
+     * Cursor to send back to get the next page, null on the last page.
+     */
+    private String nextCursor;
+    private boolean hasNext;
+    /**
+     * Number of transactions in the requested range, only counted when withTotal is set.
+     */
+    private Long totalCount;
+}
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.enums.BatchMode;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferRequest {
+    private List<TransferRequest> transfers;
+    private BatchMode mode;
+    private String username;
+    private String idempotencyKey;
+}
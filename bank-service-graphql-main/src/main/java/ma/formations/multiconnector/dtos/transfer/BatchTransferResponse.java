@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferResponse {
+    private boolean success;
+    private String message;
+    private int succeeded;
+    private int failed;
+    private List<BatchTransferItemResult> results;
+}
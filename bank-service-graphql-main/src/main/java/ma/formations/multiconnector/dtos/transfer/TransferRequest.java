@@ -3,6 +3,7 @@ package ma.formations.multiconnector.dtos.transfer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 
 @Data
 @NoArgsConstructor
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 public class TransferRequest {
     private String sourceRib;
     private String destinationRib;
-    private Double amount;
+    private Money amount;
     private String motif;
+    private String idempotencyKey;
 }
@@ -0,0 +1,6 @@
+@XmlJavaTypeAdapter(value = MoneyXmlAdapter.class, type = Money.class)
+package ma.formations.multiconnector.dtos.transfer;
+
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.common.MoneyXmlAdapter;
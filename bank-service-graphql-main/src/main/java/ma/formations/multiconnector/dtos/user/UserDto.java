@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 @Data
 @Builder
 public class UserDto {
+    protected Long id;
     protected String username;
     protected String firstname;
     protected String lastname;
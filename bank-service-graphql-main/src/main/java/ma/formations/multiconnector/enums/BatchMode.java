@@ -0,0 +1,5 @@
+package ma.formations.multiconnector.enums;
+
+public enum BatchMode {
+    ALL_OR_NOTHING,BEST_EFFORT
+}
@@ -0,0 +1,5 @@
+package ma.formations.multiconnector.enums;
+
+public enum ImportStatus {
+    QUEUED,RUNNING,COMPLETED,FAILED
+}
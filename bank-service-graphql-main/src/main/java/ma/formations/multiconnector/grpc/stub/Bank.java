@@ -8808,10 +8808,14 @@ public final class Bank {
         getRibBytes();
 
     /**
-     * <code>double amount = 3;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
      * @return The amount.
      */
-    double getAmount();
+    long getAmount();
 
     /**
      * <code>string createdAt = 4;</code>
@@ -8911,9 +8915,9 @@ public final class Bank {
               rib_ = s;
               break;
             }
-            case 25: {
+            case 24: {
 
-              amount_ = input.readDouble();
+              amount_ = input.readInt64();
               break;
             }
             case 34: {
@@ -9020,12 +9024,16 @@ public final class Bank {
     }
 
     public static final int AMOUNT_FIELD_NUMBER = 3;
-    private double amount_;
+    private long amount_;
     /**
-     * <code>double amount = 3;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
      * @return The amount.
      */
-    public double getAmount() {
+    public long getAmount() {
       return amount_;
     }
 
@@ -9144,8 +9152,8 @@ public final class Bank {
       if (!getRibBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, rib_);
       }
-      if (amount_ != 0D) {
-        output.writeDouble(3, amount_);
+      if (amount_ != 0L) {
+        output.writeInt64(3, amount_);
       }
       if (!getCreatedAtBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, createdAt_);
@@ -9172,9 +9180,9 @@ public final class Bank {
       if (!getRibBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, rib_);
       }
-      if (amount_ != 0D) {
+      if (amount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, amount_);
+          .computeInt64Size(3, amount_);
       }
       if (!getCreatedAtBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, createdAt_);
@@ -9205,9 +9213,8 @@ public final class Bank {
           != other.getId()) return false;
       if (!getRib()
           .equals(other.getRib())) return false;
-      if (java.lang.Double.doubleToLongBits(getAmount())
-          != java.lang.Double.doubleToLongBits(
-              other.getAmount())) return false;
+      if (getAmount()
+          != other.getAmount()) return false;
       if (!getCreatedAt()
           .equals(other.getCreatedAt())) return false;
       if (!getAccountStatus()
@@ -9235,7 +9242,7 @@ public final class Bank {
       hash = (53 * hash) + getRib().hashCode();
       hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getAmount()));
+          getAmount());
       hash = (37 * hash) + CREATEDAT_FIELD_NUMBER;
       hash = (53 * hash) + getCreatedAt().hashCode();
       hash = (37 * hash) + ACCOUNTSTATUS_FIELD_NUMBER;
@@ -9381,7 +9388,7 @@ public final class Bank {
 
         rib_ = "";
 
-        amount_ = 0D;
+        amount_ = 0L;
 
         createdAt_ = "";
 
@@ -9484,7 +9491,7 @@ public final class Bank {
           rib_ = other.rib_;
           onChanged();
         }
-        if (other.getAmount() != 0D) {
+        if (other.getAmount() != 0L) {
           setAmount(other.getAmount());
         }
         if (!other.getCreatedAt().isEmpty()) {
@@ -9633,32 +9640,44 @@ public final class Bank {
         return this;
       }
 
-      private double amount_ ;
+      private long amount_ ;
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @return The amount.
        */
-      public double getAmount() {
+      public long getAmount() {
         return amount_;
       }
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @param value The amount to set.
        * @return This builder for chaining.
        */
-      public Builder setAmount(double value) {
+      public Builder setAmount(long value) {
         
         amount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @return This builder for chaining.
        */
       public Builder clearAmount() {
         
-        amount_ = 0D;
+        amount_ = 0L;
         onChanged();
         return this;
       }
@@ -12393,10 +12412,14 @@ public final class Bank {
         getRibBytes();
 
     /**
-     * <code>double amount = 2;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 2;</code>
      * @return The amount.
      */
-    double getAmount();
+    long getAmount();
 
     /**
      * <code>string customerIdentityRef = 3;</code>
@@ -12463,9 +12486,9 @@ public final class Bank {
               rib_ = s;
               break;
             }
-            case 17: {
+            case 16: {
 
-              amount_ = input.readDouble();
+              amount_ = input.readInt64();
               break;
             }
             case 26: {
@@ -12543,12 +12566,16 @@ public final class Bank {
     }
 
     public static final int AMOUNT_FIELD_NUMBER = 2;
-    private double amount_;
+    private long amount_;
     /**
-     * <code>double amount = 2;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 2;</code>
      * @return The amount.
      */
-    public double getAmount() {
+    public long getAmount() {
       return amount_;
     }
 
@@ -12605,8 +12632,8 @@ public final class Bank {
       if (!getRibBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rib_);
       }
-      if (amount_ != 0D) {
-        output.writeDouble(2, amount_);
+      if (amount_ != 0L) {
+        output.writeInt64(2, amount_);
       }
       if (!getCustomerIdentityRefBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, customerIdentityRef_);
@@ -12623,9 +12650,9 @@ public final class Bank {
       if (!getRibBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, rib_);
       }
-      if (amount_ != 0D) {
+      if (amount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(2, amount_);
+          .computeInt64Size(2, amount_);
       }
       if (!getCustomerIdentityRefBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, customerIdentityRef_);
@@ -12647,9 +12674,8 @@ public final class Bank {
 
       if (!getRib()
           .equals(other.getRib())) return false;
-      if (java.lang.Double.doubleToLongBits(getAmount())
-          != java.lang.Double.doubleToLongBits(
-              other.getAmount())) return false;
+      if (getAmount()
+          != other.getAmount()) return false;
       if (!getCustomerIdentityRef()
           .equals(other.getCustomerIdentityRef())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
@@ -12667,7 +12693,7 @@ public final class Bank {
       hash = (53 * hash) + getRib().hashCode();
       hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getAmount()));
+          getAmount());
       hash = (37 * hash) + CUSTOMERIDENTITYREF_FIELD_NUMBER;
       hash = (53 * hash) + getCustomerIdentityRef().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
@@ -12805,7 +12831,7 @@ public final class Bank {
         super.clear();
         rib_ = "";
 
-        amount_ = 0D;
+        amount_ = 0L;
 
         customerIdentityRef_ = "";
 
@@ -12890,7 +12916,7 @@ public final class Bank {
           rib_ = other.rib_;
           onChanged();
         }
-        if (other.getAmount() != 0D) {
+        if (other.getAmount() != 0L) {
           setAmount(other.getAmount());
         }
         if (!other.getCustomerIdentityRef().isEmpty()) {
@@ -13002,32 +13028,44 @@ public final class Bank {
         return this;
       }
 
-      private double amount_ ;
+      private long amount_ ;
       /**
-       * <code>double amount = 2;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 2;</code>
        * @return The amount.
        */
-      public double getAmount() {
+      public long getAmount() {
         return amount_;
       }
       /**
-       * <code>double amount = 2;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 2;</code>
        * @param value The amount to set.
        * @return This builder for chaining.
        */
-      public Builder setAmount(double value) {
+      public Builder setAmount(long value) {
         
         amount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>double amount = 2;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 2;</code>
        * @return This builder for chaining.
        */
       public Builder clearAmount() {
         
-        amount_ = 0D;
+        amount_ = 0L;
         onChanged();
         return this;
       }
@@ -13955,10 +13993,14 @@ public final class Bank {
         getRibToBytes();
 
     /**
-     * <code>double amount = 3;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
      * @return The amount.
      */
-    double getAmount();
+    long getAmount();
 
     /**
      * <code>string username = 4;</code>
@@ -13971,6 +14013,18 @@ public final class Bank {
      */
     com.google.protobuf.ByteString
         getUsernameBytes();
+
+    /**
+     * <code>string idempotencyKey = 5;</code>
+     * @return The idempotencyKey.
+     */
+    java.lang.String getIdempotencyKey();
+    /**
+     * <code>string idempotencyKey = 5;</code>
+     * @return The bytes for idempotencyKey.
+     */
+    com.google.protobuf.ByteString
+        getIdempotencyKeyBytes();
   }
   /**
    * Protobuf type {@code AddWirerTransferRequest}
@@ -13988,6 +14042,7 @@ public final class Bank {
       ribFrom_ = "";
       ribTo_ = "";
       username_ = "";
+      idempotencyKey_ = "";
     }
 
     @java.lang.Override
@@ -14032,9 +14087,9 @@ public final class Bank {
               ribTo_ = s;
               break;
             }
-            case 25: {
+            case 24: {
 
-              amount_ = input.readDouble();
+              amount_ = input.readInt64();
               break;
             }
             case 34: {
@@ -14043,6 +14098,12 @@ public final class Bank {
               username_ = s;
               break;
             }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              idempotencyKey_ = s;
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -14148,12 +14209,16 @@ public final class Bank {
     }
 
     public static final int AMOUNT_FIELD_NUMBER = 3;
-    private double amount_;
+    private long amount_;
     /**
-     * <code>double amount = 3;</code>
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
      * @return The amount.
      */
-    public double getAmount() {
+    public long getAmount() {
       return amount_;
     }
 
@@ -14193,6 +14258,42 @@ public final class Bank {
       }
     }
 
+    public static final int IDEMPOTENCYKEY_FIELD_NUMBER = 5;
+    private volatile java.lang.Object idempotencyKey_;
+    /**
+     * <code>string idempotencyKey = 5;</code>
+     * @return The idempotencyKey.
+     */
+    public java.lang.String getIdempotencyKey() {
+      java.lang.Object ref = idempotencyKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idempotencyKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string idempotencyKey = 5;</code>
+     * @return The bytes for idempotencyKey.
+     */
+    public com.google.protobuf.ByteString
+        getIdempotencyKeyBytes() {
+      java.lang.Object ref = idempotencyKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idempotencyKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -14213,12 +14314,15 @@ public final class Bank {
       if (!getRibToBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, ribTo_);
       }
-      if (amount_ != 0D) {
-        output.writeDouble(3, amount_);
+      if (amount_ != 0L) {
+        output.writeInt64(3, amount_);
       }
       if (!getUsernameBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, username_);
       }
+      if (!getIdempotencyKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, idempotencyKey_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -14234,13 +14338,16 @@ public final class Bank {
       if (!getRibToBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, ribTo_);
       }
-      if (amount_ != 0D) {
+      if (amount_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, amount_);
+          .computeInt64Size(3, amount_);
       }
       if (!getUsernameBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, username_);
       }
+      if (!getIdempotencyKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, idempotencyKey_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -14260,11 +14367,12 @@ public final class Bank {
           .equals(other.getRibFrom())) return false;
       if (!getRibTo()
           .equals(other.getRibTo())) return false;
-      if (java.lang.Double.doubleToLongBits(getAmount())
-          != java.lang.Double.doubleToLongBits(
-              other.getAmount())) return false;
+      if (getAmount()
+          != other.getAmount()) return false;
       if (!getUsername()
           .equals(other.getUsername())) return false;
+      if (!getIdempotencyKey()
+          .equals(other.getIdempotencyKey())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -14282,9 +14390,11 @@ public final class Bank {
       hash = (53 * hash) + getRibTo().hashCode();
       hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getAmount()));
+          getAmount());
       hash = (37 * hash) + USERNAME_FIELD_NUMBER;
       hash = (53 * hash) + getUsername().hashCode();
+      hash = (37 * hash) + IDEMPOTENCYKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getIdempotencyKey().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -14422,10 +14532,12 @@ public final class Bank {
 
         ribTo_ = "";
 
-        amount_ = 0D;
+        amount_ = 0L;
 
         username_ = "";
 
+        idempotencyKey_ = "";
+
         return this;
       }
 
@@ -14456,6 +14568,7 @@ public final class Bank {
         result.ribTo_ = ribTo_;
         result.amount_ = amount_;
         result.username_ = username_;
+        result.idempotencyKey_ = idempotencyKey_;
         onBuilt();
         return result;
       }
@@ -14512,13 +14625,17 @@ public final class Bank {
           ribTo_ = other.ribTo_;
           onChanged();
         }
-        if (other.getAmount() != 0D) {
+        if (other.getAmount() != 0L) {
           setAmount(other.getAmount());
         }
         if (!other.getUsername().isEmpty()) {
           username_ = other.username_;
           onChanged();
         }
+        if (!other.getIdempotencyKey().isEmpty()) {
+          idempotencyKey_ = other.idempotencyKey_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -14700,32 +14817,44 @@ public final class Bank {
         return this;
       }
 
-      private double amount_ ;
+      private long amount_ ;
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @return The amount.
        */
-      public double getAmount() {
+      public long getAmount() {
         return amount_;
       }
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @param value The amount to set.
        * @return This builder for chaining.
        */
-      public Builder setAmount(double value) {
+      public Builder setAmount(long value) {
         
         amount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>double amount = 3;</code>
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
        * @return This builder for chaining.
        */
       public Builder clearAmount() {
         
-        amount_ = 0D;
+        amount_ = 0L;
         onChanged();
         return this;
       }
@@ -14805,6 +14934,82 @@ public final class Bank {
         onChanged();
         return this;
       }
+
+      private java.lang.Object idempotencyKey_ = "";
+      /**
+       * <code>string idempotencyKey = 5;</code>
+       * @return The idempotencyKey.
+       */
+      public java.lang.String getIdempotencyKey() {
+        java.lang.Object ref = idempotencyKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idempotencyKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string idempotencyKey = 5;</code>
+       * @return The bytes for idempotencyKey.
+       */
+      public com.google.protobuf.ByteString
+          getIdempotencyKeyBytes() {
+        java.lang.Object ref = idempotencyKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idempotencyKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string idempotencyKey = 5;</code>
+       * @param value The idempotencyKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdempotencyKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        idempotencyKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idempotencyKey = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdempotencyKey() {
+        
+        idempotencyKey_ = getDefaultInstance().getIdempotencyKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idempotencyKey = 5;</code>
+       * @param value The bytes for idempotencyKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdempotencyKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        idempotencyKey_ = value;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -15863,6 +16068,30 @@ public final class Bank {
      */
     com.google.protobuf.ByteString
         getDateFromBytes();
+
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>int32 size = 5;</code>
+     * @return The size.
+     */
+    int getSize();
+
+    /**
+     * <code>bool withTotal = 6;</code>
+     * @return The withTotal.
+     */
+    boolean getWithTotal();
   }
   /**
    * Protobuf type {@code GetTransactionsRequest}
@@ -15880,6 +16109,7 @@ public final class Bank {
       rib_ = "";
       dateTo_ = "";
       dateFrom_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
@@ -15930,6 +16160,22 @@ public final class Bank {
               dateFrom_ = s;
               break;
             }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              cursor_ = s;
+              break;
+            }
+            case 40: {
+
+              size_ = input.readInt32();
+              break;
+            }
+            case 48: {
+
+              withTotal_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -16070,6 +16316,62 @@ public final class Bank {
       }
     }
 
+    public static final int CURSOR_FIELD_NUMBER = 4;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The cursor.
+     */
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The bytes for cursor.
+     */
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 5;
+    private int size_;
+    /**
+     * <code>int32 size = 5;</code>
+     * @return The size.
+     */
+    public int getSize() {
+      return size_;
+    }
+
+    public static final int WITHTOTAL_FIELD_NUMBER = 6;
+    private boolean withTotal_;
+    /**
+     * <code>bool withTotal = 6;</code>
+     * @return The withTotal.
+     */
+    public boolean getWithTotal() {
+      return withTotal_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -16093,6 +16395,15 @@ public final class Bank {
       if (!getDateFromBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dateFrom_);
       }
+      if (!getCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, cursor_);
+      }
+      if (size_ != 0) {
+        output.writeInt32(5, size_);
+      }
+      if (withTotal_ != false) {
+        output.writeBool(6, withTotal_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -16111,6 +16422,17 @@ public final class Bank {
       if (!getDateFromBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dateFrom_);
       }
+      if (!getCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, cursor_);
+      }
+      if (size_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, size_);
+      }
+      if (withTotal_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, withTotal_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -16132,6 +16454,12 @@ public final class Bank {
           .equals(other.getDateTo())) return false;
       if (!getDateFrom()
           .equals(other.getDateFrom())) return false;
+      if (!getCursor()
+          .equals(other.getCursor())) return false;
+      if (getSize()
+          != other.getSize()) return false;
+      if (getWithTotal()
+          != other.getWithTotal()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -16149,6 +16477,13 @@ public final class Bank {
       hash = (53 * hash) + getDateTo().hashCode();
       hash = (37 * hash) + DATEFROM_FIELD_NUMBER;
       hash = (53 * hash) + getDateFrom().hashCode();
+      hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCursor().hashCode();
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getSize();
+      hash = (37 * hash) + WITHTOTAL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getWithTotal());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -16288,6 +16623,12 @@ public final class Bank {
 
         dateFrom_ = "";
 
+        cursor_ = "";
+
+        size_ = 0;
+
+        withTotal_ = false;
+
         return this;
       }
 
@@ -16317,6 +16658,9 @@ public final class Bank {
         result.rib_ = rib_;
         result.dateTo_ = dateTo_;
         result.dateFrom_ = dateFrom_;
+        result.cursor_ = cursor_;
+        result.size_ = size_;
+        result.withTotal_ = withTotal_;
         onBuilt();
         return result;
       }
@@ -16377,6 +16721,16 @@ public final class Bank {
           dateFrom_ = other.dateFrom_;
           onChanged();
         }
+        if (!other.getCursor().isEmpty()) {
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        if (other.getSize() != 0) {
+          setSize(other.getSize());
+        }
+        if (other.getWithTotal() != false) {
+          setWithTotal(other.getWithTotal());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -16633,6 +16987,142 @@ public final class Bank {
         onChanged();
         return this;
       }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>string cursor = 4;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int size_ ;
+      /**
+       * <code>int32 size = 5;</code>
+       * @return The size.
+       */
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>int32 size = 5;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(int value) {
+        
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 size = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        
+        size_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean withTotal_ ;
+      /**
+       * <code>bool withTotal = 6;</code>
+       * @return The withTotal.
+       */
+      public boolean getWithTotal() {
+        return withTotal_;
+      }
+      /**
+       * <code>bool withTotal = 6;</code>
+       * @param value The withTotal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWithTotal(boolean value) {
+        
+        withTotal_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool withTotal = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWithTotal() {
+        
+        withTotal_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -17474,69 +17964,80 @@ public final class Bank {
 
   }
 
-  public interface UserDtoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:UserDto)
+  public interface TransactionHistoryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransactionHistoryResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string username = 1;</code>
-     * @return The username.
+     * <code>repeated .TransactionEdge edges = 1;</code>
      */
-    java.lang.String getUsername();
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> 
+        getEdgesList();
     /**
-     * <code>string username = 1;</code>
-     * @return The bytes for username.
+     * <code>repeated .TransactionEdge edges = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getUsernameBytes();
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getEdges(int index);
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    int getEdgesCount();
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder> 
+        getEdgesOrBuilderList();
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder getEdgesOrBuilder(
+        int index);
 
     /**
-     * <code>string firstname = 2;</code>
-     * @return The firstname.
+     * <code>string nextCursor = 2;</code>
+     * @return The nextCursor.
      */
-    java.lang.String getFirstname();
+    java.lang.String getNextCursor();
     /**
-     * <code>string firstname = 2;</code>
-     * @return The bytes for firstname.
+     * <code>string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
      */
     com.google.protobuf.ByteString
-        getFirstnameBytes();
+        getNextCursorBytes();
 
     /**
-     * <code>string lastname = 3;</code>
-     * @return The lastname.
+     * <code>bool hasNext = 3;</code>
+     * @return The hasNext.
      */
-    java.lang.String getLastname();
+    boolean getHasNext();
+
     /**
-     * <code>string lastname = 3;</code>
-     * @return The bytes for lastname.
+     * <code>int64 totalCount = 4;</code>
+     * @return The totalCount.
      */
-    com.google.protobuf.ByteString
-        getLastnameBytes();
+    long getTotalCount();
   }
   /**
-   * Protobuf type {@code UserDto}
+   * Protobuf type {@code TransactionHistoryResponse}
    */
-  public  static final class UserDto extends
+  public  static final class TransactionHistoryResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:UserDto)
-      UserDtoOrBuilder {
+      // @@protoc_insertion_point(message_implements:TransactionHistoryResponse)
+      TransactionHistoryResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use UserDto.newBuilder() to construct.
-    private UserDto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use TransactionHistoryResponse.newBuilder() to construct.
+    private TransactionHistoryResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private UserDto() {
-      username_ = "";
-      firstname_ = "";
-      lastname_ = "";
+    private TransactionHistoryResponse() {
+      edges_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new UserDto();
+      return new TransactionHistoryResponse();
     }
 
     @java.lang.Override
@@ -17544,7 +18045,7 @@ public final class Bank {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private UserDto(
+    private TransactionHistoryResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -17552,6 +18053,7 @@ public final class Bank {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -17563,21 +18065,28 @@ public final class Bank {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              username_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                edges_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              edges_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.parser(), extensionRegistry));
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              firstname_ = s;
+              nextCursor_ = s;
               break;
             }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 24: {
 
-              lastname_ = s;
+              hasNext_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              totalCount_ = input.readInt64();
               break;
             }
             default: {
@@ -17595,129 +18104,115 @@ public final class Bank {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          edges_ = java.util.Collections.unmodifiableList(edges_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionHistoryResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_fieldAccessorTable
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionHistoryResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ma.formations.multiconnector.grpc.stub.Bank.UserDto.class, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder.class);
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.Builder.class);
     }
 
-    public static final int USERNAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object username_;
+    public static final int EDGES_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> edges_;
     /**
-     * <code>string username = 1;</code>
-     * @return The username.
+     * <code>repeated .TransactionEdge edges = 1;</code>
      */
-    public java.lang.String getUsername() {
-      java.lang.Object ref = username_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        username_ = s;
-        return s;
-      }
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> getEdgesList() {
+      return edges_;
     }
     /**
-     * <code>string username = 1;</code>
-     * @return The bytes for username.
+     * <code>repeated .TransactionEdge edges = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getUsernameBytes() {
-      java.lang.Object ref = username_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        username_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder> 
+        getEdgesOrBuilderList() {
+      return edges_;
+    }
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    public int getEdgesCount() {
+      return edges_.size();
+    }
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getEdges(int index) {
+      return edges_.get(index);
+    }
+    /**
+     * <code>repeated .TransactionEdge edges = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder getEdgesOrBuilder(
+        int index) {
+      return edges_.get(index);
     }
 
-    public static final int FIRSTNAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object firstname_;
+    public static final int NEXTCURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextCursor_;
     /**
-     * <code>string firstname = 2;</code>
-     * @return The firstname.
+     * <code>string nextCursor = 2;</code>
+     * @return The nextCursor.
      */
-    public java.lang.String getFirstname() {
-      java.lang.Object ref = firstname_;
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        firstname_ = s;
+        nextCursor_ = s;
         return s;
       }
     }
     /**
-     * <code>string firstname = 2;</code>
-     * @return The bytes for firstname.
+     * <code>string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
      */
     public com.google.protobuf.ByteString
-        getFirstnameBytes() {
-      java.lang.Object ref = firstname_;
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        firstname_ = b;
+        nextCursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int LASTNAME_FIELD_NUMBER = 3;
-    private volatile java.lang.Object lastname_;
+    public static final int HASNEXT_FIELD_NUMBER = 3;
+    private boolean hasNext_;
     /**
-     * <code>string lastname = 3;</code>
-     * @return The lastname.
+     * <code>bool hasNext = 3;</code>
+     * @return The hasNext.
      */
-    public java.lang.String getLastname() {
-      java.lang.Object ref = lastname_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        lastname_ = s;
-        return s;
-      }
+    public boolean getHasNext() {
+      return hasNext_;
     }
+
+    public static final int TOTALCOUNT_FIELD_NUMBER = 4;
+    private long totalCount_;
     /**
-     * <code>string lastname = 3;</code>
-     * @return The bytes for lastname.
+     * <code>int64 totalCount = 4;</code>
+     * @return The totalCount.
      */
-    public com.google.protobuf.ByteString
-        getLastnameBytes() {
-      java.lang.Object ref = lastname_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        lastname_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public long getTotalCount() {
+      return totalCount_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -17734,14 +18229,17 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getUsernameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, username_);
+      for (int i = 0; i < edges_.size(); i++) {
+        output.writeMessage(1, edges_.get(i));
       }
-      if (!getFirstnameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, firstname_);
+      if (!getNextCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextCursor_);
       }
-      if (!getLastnameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, lastname_);
+      if (hasNext_ != false) {
+        output.writeBool(3, hasNext_);
+      }
+      if (totalCount_ != 0L) {
+        output.writeInt64(4, totalCount_);
       }
       unknownFields.writeTo(output);
     }
@@ -17752,14 +18250,20 @@ public final class Bank {
       if (size != -1) return size;
 
       size = 0;
-      if (!getUsernameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, username_);
+      for (int i = 0; i < edges_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, edges_.get(i));
       }
-      if (!getFirstnameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, firstname_);
+      if (!getNextCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextCursor_);
       }
-      if (!getLastnameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, lastname_);
+      if (hasNext_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, hasNext_);
+      }
+      if (totalCount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, totalCount_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -17771,17 +18275,19 @@ public final class Bank {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.UserDto)) {
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse)) {
         return super.equals(obj);
       }
-      ma.formations.multiconnector.grpc.stub.Bank.UserDto other = (ma.formations.multiconnector.grpc.stub.Bank.UserDto) obj;
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse) obj;
 
-      if (!getUsername()
-          .equals(other.getUsername())) return false;
-      if (!getFirstname()
-          .equals(other.getFirstname())) return false;
-      if (!getLastname()
-          .equals(other.getLastname())) return false;
+      if (!getEdgesList()
+          .equals(other.getEdgesList())) return false;
+      if (!getNextCursor()
+          .equals(other.getNextCursor())) return false;
+      if (getHasNext()
+          != other.getHasNext()) return false;
+      if (getTotalCount()
+          != other.getTotalCount()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -17793,80 +18299,86 @@ public final class Bank {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + USERNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getUsername().hashCode();
-      hash = (37 * hash) + FIRSTNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getFirstname().hashCode();
-      hash = (37 * hash) + LASTNAME_FIELD_NUMBER;
-      hash = (53 * hash) + getLastname().hashCode();
+      if (getEdgesCount() > 0) {
+        hash = (37 * hash) + EDGES_FIELD_NUMBER;
+        hash = (53 * hash) + getEdgesList().hashCode();
+      }
+      hash = (37 * hash) + NEXTCURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
+      hash = (37 * hash) + HASNEXT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasNext());
+      hash = (37 * hash) + TOTALCOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTotalCount());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(byte[] data)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseDelimitedFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseDelimitedFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -17879,7 +18391,7 @@ public final class Bank {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.UserDto prototype) {
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -17895,26 +18407,26 @@ public final class Bank {
       return builder;
     }
     /**
-     * Protobuf type {@code UserDto}
+     * Protobuf type {@code TransactionHistoryResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:UserDto)
-        ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder {
+        // @@protoc_insertion_point(builder_implements:TransactionHistoryResponse)
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionHistoryResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_fieldAccessorTable
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionHistoryResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ma.formations.multiconnector.grpc.stub.Bank.UserDto.class, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder.class);
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.Builder.class);
       }
 
-      // Construct using ma.formations.multiconnector.grpc.stub.Bank.UserDto.newBuilder()
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -17927,16 +18439,23 @@ public final class Bank {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getEdgesFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        username_ = "";
+        if (edgesBuilder_ == null) {
+          edges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          edgesBuilder_.clear();
+        }
+        nextCursor_ = "";
 
-        firstname_ = "";
+        hasNext_ = false;
 
-        lastname_ = "";
+        totalCount_ = 0L;
 
         return this;
       }
@@ -17944,17 +18463,17 @@ public final class Bank {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionHistoryResponse_descriptor;
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstanceForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDto build() {
-        ma.formations.multiconnector.grpc.stub.Bank.UserDto result = buildPartial();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -17962,11 +18481,21 @@ public final class Bank {
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDto buildPartial() {
-        ma.formations.multiconnector.grpc.stub.Bank.UserDto result = new ma.formations.multiconnector.grpc.stub.Bank.UserDto(this);
-        result.username_ = username_;
-        result.firstname_ = firstname_;
-        result.lastname_ = lastname_;
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (edgesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            edges_ = java.util.Collections.unmodifiableList(edges_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.edges_ = edges_;
+        } else {
+          result.edges_ = edgesBuilder_.build();
+        }
+        result.nextCursor_ = nextCursor_;
+        result.hasNext_ = hasNext_;
+        result.totalCount_ = totalCount_;
         onBuilt();
         return result;
       }
@@ -18005,27 +18534,51 @@ public final class Bank {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.UserDto) {
-          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.UserDto)other);
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.UserDto other) {
-        if (other == ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance()) return this;
-        if (!other.getUsername().isEmpty()) {
-          username_ = other.username_;
-          onChanged();
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.getDefaultInstance()) return this;
+        if (edgesBuilder_ == null) {
+          if (!other.edges_.isEmpty()) {
+            if (edges_.isEmpty()) {
+              edges_ = other.edges_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEdgesIsMutable();
+              edges_.addAll(other.edges_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.edges_.isEmpty()) {
+            if (edgesBuilder_.isEmpty()) {
+              edgesBuilder_.dispose();
+              edgesBuilder_ = null;
+              edges_ = other.edges_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              edgesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEdgesFieldBuilder() : null;
+            } else {
+              edgesBuilder_.addAllMessages(other.edges_);
+            }
+          }
         }
-        if (!other.getFirstname().isEmpty()) {
-          firstname_ = other.firstname_;
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
           onChanged();
         }
-        if (!other.getLastname().isEmpty()) {
-          lastname_ = other.lastname_;
-          onChanged();
+        if (other.getHasNext() != false) {
+          setHasNext(other.getHasNext());
+        }
+        if (other.getTotalCount() != 0L) {
+          setTotalCount(other.getTotalCount());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -18042,11 +18595,11 @@ public final class Bank {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ma.formations.multiconnector.grpc.stub.Bank.UserDto parsedMessage = null;
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.UserDto) e.getUnfinishedMessage();
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -18055,231 +18608,380 @@ public final class Bank {
         }
         return this;
       }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> edges_ =
+        java.util.Collections.emptyList();
+      private void ensureEdgesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          edges_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge>(edges_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder> edgesBuilder_;
 
-      private java.lang.Object username_ = "";
       /**
-       * <code>string username = 1;</code>
-       * @return The username.
+       * <code>repeated .TransactionEdge edges = 1;</code>
        */
-      public java.lang.String getUsername() {
-        java.lang.Object ref = username_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          username_ = s;
-          return s;
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> getEdgesList() {
+        if (edgesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(edges_);
         } else {
-          return (java.lang.String) ref;
+          return edgesBuilder_.getMessageList();
         }
       }
       /**
-       * <code>string username = 1;</code>
-       * @return The bytes for username.
+       * <code>repeated .TransactionEdge edges = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getUsernameBytes() {
-        java.lang.Object ref = username_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          username_ = b;
-          return b;
+      public int getEdgesCount() {
+        if (edgesBuilder_ == null) {
+          return edges_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return edgesBuilder_.getCount();
         }
       }
       /**
-       * <code>string username = 1;</code>
-       * @param value The username to set.
-       * @return This builder for chaining.
+       * <code>repeated .TransactionEdge edges = 1;</code>
        */
-      public Builder setUsername(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        username_ = value;
-        onChanged();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getEdges(int index) {
+        if (edgesBuilder_ == null) {
+          return edges_.get(index);
+        } else {
+          return edgesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder setEdges(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.set(index, value);
+          onChanged();
+        } else {
+          edgesBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>string username = 1;</code>
-       * @return This builder for chaining.
+       * <code>repeated .TransactionEdge edges = 1;</code>
        */
-      public Builder clearUsername() {
-        
-        username_ = getDefaultInstance().getUsername();
-        onChanged();
+      public Builder setEdges(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>string username = 1;</code>
-       * @param value The bytes for username to set.
-       * @return This builder for chaining.
+       * <code>repeated .TransactionEdge edges = 1;</code>
        */
-      public Builder setUsernameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        username_ = value;
-        onChanged();
+      public Builder addEdges(ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.add(value);
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder addEdges(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.add(index, value);
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder addEdges(
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.add(builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder addEdges(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder addAllEdges(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge> values) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, edges_);
+          onChanged();
+        } else {
+          edgesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder clearEdges() {
+        if (edgesBuilder_ == null) {
+          edges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          edgesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public Builder removeEdges(int index) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.remove(index);
+          onChanged();
+        } else {
+          edgesBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder getEdgesBuilder(
+          int index) {
+        return getEdgesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder getEdgesOrBuilder(
+          int index) {
+        if (edgesBuilder_ == null) {
+          return edges_.get(index);  } else {
+          return edgesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder> 
+           getEdgesOrBuilderList() {
+        if (edgesBuilder_ != null) {
+          return edgesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(edges_);
+        }
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder addEdgesBuilder() {
+        return getEdgesFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder addEdgesBuilder(
+          int index) {
+        return getEdgesFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionEdge edges = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder> 
+           getEdgesBuilderList() {
+        return getEdgesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder> 
+          getEdgesFieldBuilder() {
+        if (edgesBuilder_ == null) {
+          edgesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder>(
+                  edges_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          edges_ = null;
+        }
+        return edgesBuilder_;
+      }
 
-      private java.lang.Object firstname_ = "";
+      private java.lang.Object nextCursor_ = "";
       /**
-       * <code>string firstname = 2;</code>
-       * @return The firstname.
+       * <code>string nextCursor = 2;</code>
+       * @return The nextCursor.
        */
-      public java.lang.String getFirstname() {
-        java.lang.Object ref = firstname_;
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          firstname_ = s;
+          nextCursor_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string firstname = 2;</code>
-       * @return The bytes for firstname.
+       * <code>string nextCursor = 2;</code>
+       * @return The bytes for nextCursor.
        */
       public com.google.protobuf.ByteString
-          getFirstnameBytes() {
-        java.lang.Object ref = firstname_;
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          firstname_ = b;
+          nextCursor_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string firstname = 2;</code>
-       * @param value The firstname to set.
+       * <code>string nextCursor = 2;</code>
+       * @param value The nextCursor to set.
        * @return This builder for chaining.
        */
-      public Builder setFirstname(
+      public Builder setNextCursor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        firstname_ = value;
+        nextCursor_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string firstname = 2;</code>
+       * <code>string nextCursor = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearFirstname() {
+      public Builder clearNextCursor() {
         
-        firstname_ = getDefaultInstance().getFirstname();
+        nextCursor_ = getDefaultInstance().getNextCursor();
         onChanged();
         return this;
       }
       /**
-       * <code>string firstname = 2;</code>
-       * @param value The bytes for firstname to set.
+       * <code>string nextCursor = 2;</code>
+       * @param value The bytes for nextCursor to set.
        * @return This builder for chaining.
        */
-      public Builder setFirstnameBytes(
+      public Builder setNextCursorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        firstname_ = value;
+        nextCursor_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object lastname_ = "";
+      private boolean hasNext_ ;
       /**
-       * <code>string lastname = 3;</code>
-       * @return The lastname.
+       * <code>bool hasNext = 3;</code>
+       * @return The hasNext.
        */
-      public java.lang.String getLastname() {
-        java.lang.Object ref = lastname_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          lastname_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public boolean getHasNext() {
+        return hasNext_;
       }
       /**
-       * <code>string lastname = 3;</code>
-       * @return The bytes for lastname.
+       * <code>bool hasNext = 3;</code>
+       * @param value The hasNext to set.
+       * @return This builder for chaining.
        */
-      public com.google.protobuf.ByteString
-          getLastnameBytes() {
-        java.lang.Object ref = lastname_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          lastname_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setHasNext(boolean value) {
+        
+        hasNext_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>string lastname = 3;</code>
-       * @param value The lastname to set.
+       * <code>bool hasNext = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder setLastname(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        lastname_ = value;
+      public Builder clearHasNext() {
+        
+        hasNext_ = false;
         onChanged();
         return this;
       }
+
+      private long totalCount_ ;
+      /**
+       * <code>int64 totalCount = 4;</code>
+       * @return The totalCount.
+       */
+      public long getTotalCount() {
+        return totalCount_;
+      }
       /**
-       * <code>string lastname = 3;</code>
+       * <code>int64 totalCount = 4;</code>
+       * @param value The totalCount to set.
        * @return This builder for chaining.
        */
-      public Builder clearLastname() {
+      public Builder setTotalCount(long value) {
         
-        lastname_ = getDefaultInstance().getLastname();
+        totalCount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string lastname = 3;</code>
-       * @param value The bytes for lastname to set.
+       * <code>int64 totalCount = 4;</code>
        * @return This builder for chaining.
        */
-      public Builder setLastnameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearTotalCount() {
         
-        lastname_ = value;
+        totalCount_ = 0L;
         onChanged();
         return this;
       }
@@ -18296,132 +18998,98 @@ public final class Bank {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:UserDto)
+      // @@protoc_insertion_point(builder_scope:TransactionHistoryResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:UserDto)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.UserDto DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:TransactionHistoryResponse)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.UserDto();
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse();
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstance() {
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<UserDto>
-        PARSER = new com.google.protobuf.AbstractParser<UserDto>() {
+    private static final com.google.protobuf.Parser<TransactionHistoryResponse>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionHistoryResponse>() {
       @java.lang.Override
-      public UserDto parsePartialFrom(
+      public TransactionHistoryResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new UserDto(input, extensionRegistry);
+        return new TransactionHistoryResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<UserDto> parser() {
+    public static com.google.protobuf.Parser<TransactionHistoryResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<UserDto> getParserForType() {
+    public com.google.protobuf.Parser<TransactionHistoryResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstanceForType() {
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface TransactionDtoOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:TransactionDto)
+  public interface TransactionEdgeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransactionEdge)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string createdAt = 1;</code>
-     * @return The createdAt.
-     */
-    java.lang.String getCreatedAt();
-    /**
-     * <code>string createdAt = 1;</code>
-     * @return The bytes for createdAt.
+     * <code>.TransactionDto node = 1;</code>
+     * @return Whether the node field is set.
      */
-    com.google.protobuf.ByteString
-        getCreatedAtBytes();
-
+    boolean hasNode();
     /**
-     * <code>string transactionType = 2;</code>
-     * @return The transactionType.
+     * <code>.TransactionDto node = 1;</code>
+     * @return The node.
      */
-    java.lang.String getTransactionType();
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getNode();
     /**
-     * <code>string transactionType = 2;</code>
-     * @return The bytes for transactionType.
+     * <code>.TransactionDto node = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getTransactionTypeBytes();
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getNodeOrBuilder();
 
     /**
-     * <code>double amount = 3;</code>
-     * @return The amount.
+     * <code>string cursor = 2;</code>
+     * @return The cursor.
      */
-    double getAmount();
-
+    java.lang.String getCursor();
     /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     * @return Whether the bankAccount field is set.
-     */
-    boolean hasBankAccount();
-    /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     * @return The bankAccount.
-     */
-    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount();
-    /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     */
-    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder();
-
-    /**
-     * <code>.UserDto user = 5;</code>
-     * @return Whether the user field is set.
-     */
-    boolean hasUser();
-    /**
-     * <code>.UserDto user = 5;</code>
-     * @return The user.
-     */
-    ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser();
-    /**
-     * <code>.UserDto user = 5;</code>
+     * <code>string cursor = 2;</code>
+     * @return The bytes for cursor.
      */
-    ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder();
+    com.google.protobuf.ByteString
+        getCursorBytes();
   }
   /**
-   * Protobuf type {@code TransactionDto}
+   * Protobuf type {@code TransactionEdge}
    */
-  public  static final class TransactionDto extends
+  public  static final class TransactionEdge extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:TransactionDto)
-      TransactionDtoOrBuilder {
+      // @@protoc_insertion_point(message_implements:TransactionEdge)
+      TransactionEdgeOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use TransactionDto.newBuilder() to construct.
-    private TransactionDto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use TransactionEdge.newBuilder() to construct.
+    private TransactionEdge(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private TransactionDto() {
-      createdAt_ = "";
-      transactionType_ = "";
+    private TransactionEdge() {
+      cursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new TransactionDto();
+      return new TransactionEdge();
     }
 
     @java.lang.Override
@@ -18429,7 +19097,7 @@ public final class Bank {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private TransactionDto(
+    private TransactionEdge(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -18448,46 +19116,22 @@ public final class Bank {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              createdAt_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              transactionType_ = s;
-              break;
-            }
-            case 25: {
-
-              amount_ = input.readDouble();
-              break;
-            }
-            case 34: {
-              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder subBuilder = null;
-              if (bankAccount_ != null) {
-                subBuilder = bankAccount_.toBuilder();
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder subBuilder = null;
+              if (node_ != null) {
+                subBuilder = node_.toBuilder();
               }
-              bankAccount_ = input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.parser(), extensionRegistry);
+              node_ = input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(bankAccount_);
-                bankAccount_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(node_);
+                node_ = subBuilder.buildPartial();
               }
 
               break;
             }
-            case 42: {
-              ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder subBuilder = null;
-              if (user_ != null) {
-                subBuilder = user_.toBuilder();
-              }
-              user_ = input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.UserDto.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(user_);
-                user_ = subBuilder.buildPartial();
-              }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
 
+              cursor_ = s;
               break;
             }
             default: {
@@ -18511,145 +19155,76 @@ public final class Bank {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionEdge_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_fieldAccessorTable
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionEdge_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder.class);
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder.class);
     }
 
-    public static final int CREATEDAT_FIELD_NUMBER = 1;
-    private volatile java.lang.Object createdAt_;
+    public static final int NODE_FIELD_NUMBER = 1;
+    private ma.formations.multiconnector.grpc.stub.Bank.TransactionDto node_;
     /**
-     * <code>string createdAt = 1;</code>
-     * @return The createdAt.
+     * <code>.TransactionDto node = 1;</code>
+     * @return Whether the node field is set.
      */
-    public java.lang.String getCreatedAt() {
-      java.lang.Object ref = createdAt_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        createdAt_ = s;
-        return s;
-      }
+    public boolean hasNode() {
+      return node_ != null;
     }
     /**
-     * <code>string createdAt = 1;</code>
-     * @return The bytes for createdAt.
+     * <code>.TransactionDto node = 1;</code>
+     * @return The node.
      */
-    public com.google.protobuf.ByteString
-        getCreatedAtBytes() {
-      java.lang.Object ref = createdAt_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        createdAt_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getNode() {
+      return node_ == null ? ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance() : node_;
+    }
+    /**
+     * <code>.TransactionDto node = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getNodeOrBuilder() {
+      return getNode();
     }
 
-    public static final int TRANSACTIONTYPE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object transactionType_;
+    public static final int CURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object cursor_;
     /**
-     * <code>string transactionType = 2;</code>
-     * @return The transactionType.
+     * <code>string cursor = 2;</code>
+     * @return The cursor.
      */
-    public java.lang.String getTransactionType() {
-      java.lang.Object ref = transactionType_;
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        transactionType_ = s;
+        cursor_ = s;
         return s;
       }
     }
     /**
-     * <code>string transactionType = 2;</code>
-     * @return The bytes for transactionType.
+     * <code>string cursor = 2;</code>
+     * @return The bytes for cursor.
      */
     public com.google.protobuf.ByteString
-        getTransactionTypeBytes() {
-      java.lang.Object ref = transactionType_;
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        transactionType_ = b;
+        cursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int AMOUNT_FIELD_NUMBER = 3;
-    private double amount_;
-    /**
-     * <code>double amount = 3;</code>
-     * @return The amount.
-     */
-    public double getAmount() {
-      return amount_;
-    }
-
-    public static final int BANKACCOUNT_FIELD_NUMBER = 4;
-    private ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto bankAccount_;
-    /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     * @return Whether the bankAccount field is set.
-     */
-    public boolean hasBankAccount() {
-      return bankAccount_ != null;
-    }
-    /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     * @return The bankAccount.
-     */
-    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount() {
-      return bankAccount_ == null ? ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
-    }
-    /**
-     * <code>.BankAccountDto bankAccount = 4;</code>
-     */
-    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder() {
-      return getBankAccount();
-    }
-
-    public static final int USER_FIELD_NUMBER = 5;
-    private ma.formations.multiconnector.grpc.stub.Bank.UserDto user_;
-    /**
-     * <code>.UserDto user = 5;</code>
-     * @return Whether the user field is set.
-     */
-    public boolean hasUser() {
-      return user_ != null;
-    }
-    /**
-     * <code>.UserDto user = 5;</code>
-     * @return The user.
-     */
-    public ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser() {
-      return user_ == null ? ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
-    }
-    /**
-     * <code>.UserDto user = 5;</code>
-     */
-    public ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder() {
-      return getUser();
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -18664,20 +19239,11 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getCreatedAtBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, createdAt_);
-      }
-      if (!getTransactionTypeBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, transactionType_);
-      }
-      if (amount_ != 0D) {
-        output.writeDouble(3, amount_);
-      }
-      if (bankAccount_ != null) {
-        output.writeMessage(4, getBankAccount());
+      if (node_ != null) {
+        output.writeMessage(1, getNode());
       }
-      if (user_ != null) {
-        output.writeMessage(5, getUser());
+      if (!getCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, cursor_);
       }
       unknownFields.writeTo(output);
     }
@@ -18688,23 +19254,12 @@ public final class Bank {
       if (size != -1) return size;
 
       size = 0;
-      if (!getCreatedAtBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, createdAt_);
-      }
-      if (!getTransactionTypeBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, transactionType_);
-      }
-      if (amount_ != 0D) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, amount_);
-      }
-      if (bankAccount_ != null) {
+      if (node_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getBankAccount());
+          .computeMessageSize(1, getNode());
       }
-      if (user_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, getUser());
+      if (!getCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, cursor_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -18716,28 +19271,18 @@ public final class Bank {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionDto)) {
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge)) {
         return super.equals(obj);
       }
-      ma.formations.multiconnector.grpc.stub.Bank.TransactionDto other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) obj;
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge) obj;
 
-      if (!getCreatedAt()
-          .equals(other.getCreatedAt())) return false;
-      if (!getTransactionType()
-          .equals(other.getTransactionType())) return false;
-      if (java.lang.Double.doubleToLongBits(getAmount())
-          != java.lang.Double.doubleToLongBits(
-              other.getAmount())) return false;
-      if (hasBankAccount() != other.hasBankAccount()) return false;
-      if (hasBankAccount()) {
-        if (!getBankAccount()
-            .equals(other.getBankAccount())) return false;
-      }
-      if (hasUser() != other.hasUser()) return false;
-      if (hasUser()) {
-        if (!getUser()
-            .equals(other.getUser())) return false;
+      if (hasNode() != other.hasNode()) return false;
+      if (hasNode()) {
+        if (!getNode()
+            .equals(other.getNode())) return false;
       }
+      if (!getCursor()
+          .equals(other.getCursor())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -18749,89 +19294,80 @@ public final class Bank {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + CREATEDAT_FIELD_NUMBER;
-      hash = (53 * hash) + getCreatedAt().hashCode();
-      hash = (37 * hash) + TRANSACTIONTYPE_FIELD_NUMBER;
-      hash = (53 * hash) + getTransactionType().hashCode();
-      hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getAmount()));
-      if (hasBankAccount()) {
-        hash = (37 * hash) + BANKACCOUNT_FIELD_NUMBER;
-        hash = (53 * hash) + getBankAccount().hashCode();
-      }
-      if (hasUser()) {
-        hash = (37 * hash) + USER_FIELD_NUMBER;
-        hash = (53 * hash) + getUser().hashCode();
+      if (hasNode()) {
+        hash = (37 * hash) + NODE_FIELD_NUMBER;
+        hash = (53 * hash) + getNode().hashCode();
       }
+      hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCursor().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(byte[] data)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseDelimitedFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseDelimitedFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -18844,7 +19380,7 @@ public final class Bank {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto prototype) {
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -18860,26 +19396,26 @@ public final class Bank {
       return builder;
     }
     /**
-     * Protobuf type {@code TransactionDto}
+     * Protobuf type {@code TransactionEdge}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:TransactionDto)
-        ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder {
+        // @@protoc_insertion_point(builder_implements:TransactionEdge)
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionEdgeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionEdge_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_fieldAccessorTable
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionEdge_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder.class);
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.Builder.class);
       }
 
-      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.newBuilder()
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -18897,41 +19433,31 @@ public final class Bank {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        createdAt_ = "";
+        if (nodeBuilder_ == null) {
+          node_ = null;
+        } else {
+          node_ = null;
+          nodeBuilder_ = null;
+        }
+        cursor_ = "";
 
-        transactionType_ = "";
+        return this;
+      }
 
-        amount_ = 0D;
-
-        if (bankAccountBuilder_ == null) {
-          bankAccount_ = null;
-        } else {
-          bankAccount_ = null;
-          bankAccountBuilder_ = null;
-        }
-        if (userBuilder_ == null) {
-          user_ = null;
-        } else {
-          user_ = null;
-          userBuilder_ = null;
-        }
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
-      }
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionEdge_descriptor;
+      }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstanceForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto build() {
-        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto result = buildPartial();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -18939,21 +19465,14 @@ public final class Bank {
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto buildPartial() {
-        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionDto(this);
-        result.createdAt_ = createdAt_;
-        result.transactionType_ = transactionType_;
-        result.amount_ = amount_;
-        if (bankAccountBuilder_ == null) {
-          result.bankAccount_ = bankAccount_;
-        } else {
-          result.bankAccount_ = bankAccountBuilder_.build();
-        }
-        if (userBuilder_ == null) {
-          result.user_ = user_;
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge(this);
+        if (nodeBuilder_ == null) {
+          result.node_ = node_;
         } else {
-          result.user_ = userBuilder_.build();
+          result.node_ = nodeBuilder_.build();
         }
+        result.cursor_ = cursor_;
         onBuilt();
         return result;
       }
@@ -18992,33 +19511,23 @@ public final class Bank {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) {
-          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionDto)other);
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto other) {
-        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance()) return this;
-        if (!other.getCreatedAt().isEmpty()) {
-          createdAt_ = other.createdAt_;
-          onChanged();
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge.getDefaultInstance()) return this;
+        if (other.hasNode()) {
+          mergeNode(other.getNode());
         }
-        if (!other.getTransactionType().isEmpty()) {
-          transactionType_ = other.transactionType_;
+        if (!other.getCursor().isEmpty()) {
+          cursor_ = other.cursor_;
           onChanged();
         }
-        if (other.getAmount() != 0D) {
-          setAmount(other.getAmount());
-        }
-        if (other.hasBankAccount()) {
-          mergeBankAccount(other.getBankAccount());
-        }
-        if (other.hasUser()) {
-          mergeUser(other.getUser());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -19034,11 +19543,11 @@ public final class Bank {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parsedMessage = null;
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) e.getUnfinishedMessage();
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -19048,424 +19557,10278 @@ public final class Bank {
         return this;
       }
 
-      private java.lang.Object createdAt_ = "";
+      private ma.formations.multiconnector.grpc.stub.Bank.TransactionDto node_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> nodeBuilder_;
       /**
-       * <code>string createdAt = 1;</code>
-       * @return The createdAt.
+       * <code>.TransactionDto node = 1;</code>
+       * @return Whether the node field is set.
        */
-      public java.lang.String getCreatedAt() {
-        java.lang.Object ref = createdAt_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          createdAt_ = s;
-          return s;
+      public boolean hasNode() {
+        return nodeBuilder_ != null || node_ != null;
+      }
+      /**
+       * <code>.TransactionDto node = 1;</code>
+       * @return The node.
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getNode() {
+        if (nodeBuilder_ == null) {
+          return node_ == null ? ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance() : node_;
         } else {
-          return (java.lang.String) ref;
+          return nodeBuilder_.getMessage();
         }
       }
       /**
-       * <code>string createdAt = 1;</code>
-       * @return The bytes for createdAt.
+       * <code>.TransactionDto node = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getCreatedAtBytes() {
-        java.lang.Object ref = createdAt_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          createdAt_ = b;
-          return b;
+      public Builder setNode(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          node_ = value;
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          nodeBuilder_.setMessage(value);
         }
+
+        return this;
       }
       /**
-       * <code>string createdAt = 1;</code>
-       * @param value The createdAt to set.
-       * @return This builder for chaining.
+       * <code>.TransactionDto node = 1;</code>
        */
-      public Builder setCreatedAt(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        createdAt_ = value;
-        onChanged();
+      public Builder setNode(
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          node_ = builderForValue.build();
+          onChanged();
+        } else {
+          nodeBuilder_.setMessage(builderForValue.build());
+        }
+
         return this;
       }
       /**
-       * <code>string createdAt = 1;</code>
-       * @return This builder for chaining.
+       * <code>.TransactionDto node = 1;</code>
        */
-      public Builder clearCreatedAt() {
-        
-        createdAt_ = getDefaultInstance().getCreatedAt();
-        onChanged();
+      public Builder mergeNode(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (nodeBuilder_ == null) {
+          if (node_ != null) {
+            node_ =
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.newBuilder(node_).mergeFrom(value).buildPartial();
+          } else {
+            node_ = value;
+          }
+          onChanged();
+        } else {
+          nodeBuilder_.mergeFrom(value);
+        }
+
         return this;
       }
       /**
-       * <code>string createdAt = 1;</code>
-       * @param value The bytes for createdAt to set.
-       * @return This builder for chaining.
+       * <code>.TransactionDto node = 1;</code>
        */
-      public Builder setCreatedAtBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearNode() {
+        if (nodeBuilder_ == null) {
+          node_ = null;
+          onChanged();
+        } else {
+          node_ = null;
+          nodeBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.TransactionDto node = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder getNodeBuilder() {
         
-        createdAt_ = value;
         onChanged();
-        return this;
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.TransactionDto node = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getNodeOrBuilder() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilder();
+        } else {
+          return node_ == null ?
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance() : node_;
+        }
+      }
+      /**
+       * <code>.TransactionDto node = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder>(
+                  getNode(),
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        return nodeBuilder_;
       }
 
-      private java.lang.Object transactionType_ = "";
+      private java.lang.Object cursor_ = "";
       /**
-       * <code>string transactionType = 2;</code>
-       * @return The transactionType.
+       * <code>string cursor = 2;</code>
+       * @return The cursor.
        */
-      public java.lang.String getTransactionType() {
-        java.lang.Object ref = transactionType_;
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          transactionType_ = s;
+          cursor_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string transactionType = 2;</code>
-       * @return The bytes for transactionType.
+       * <code>string cursor = 2;</code>
+       * @return The bytes for cursor.
        */
       public com.google.protobuf.ByteString
-          getTransactionTypeBytes() {
-        java.lang.Object ref = transactionType_;
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          transactionType_ = b;
+          cursor_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string transactionType = 2;</code>
-       * @param value The transactionType to set.
+       * <code>string cursor = 2;</code>
+       * @param value The cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setTransactionType(
+      public Builder setCursor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        transactionType_ = value;
+        cursor_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string transactionType = 2;</code>
+       * <code>string cursor = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearTransactionType() {
+      public Builder clearCursor() {
         
-        transactionType_ = getDefaultInstance().getTransactionType();
+        cursor_ = getDefaultInstance().getCursor();
         onChanged();
         return this;
       }
       /**
-       * <code>string transactionType = 2;</code>
-       * @param value The bytes for transactionType to set.
+       * <code>string cursor = 2;</code>
+       * @param value The bytes for cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setTransactionTypeBytes(
+      public Builder setCursorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        transactionType_ = value;
-        onChanged();
-        return this;
-      }
-
-      private double amount_ ;
-      /**
-       * <code>double amount = 3;</code>
-       * @return The amount.
-       */
-      public double getAmount() {
-        return amount_;
-      }
-      /**
-       * <code>double amount = 3;</code>
-       * @param value The amount to set.
-       * @return This builder for chaining.
-       */
-      public Builder setAmount(double value) {
-        
-        amount_ = value;
+        cursor_ = value;
         onChanged();
         return this;
       }
-      /**
-       * <code>double amount = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearAmount() {
-        
-        amount_ = 0D;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
 
-      private ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto bankAccount_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> bankAccountBuilder_;
-      /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
-       * @return Whether the bankAccount field is set.
-       */
-      public boolean hasBankAccount() {
-        return bankAccountBuilder_ != null || bankAccount_ != null;
-      }
-      /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
-       * @return The bankAccount.
-       */
-      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount() {
-        if (bankAccountBuilder_ == null) {
-          return bankAccount_ == null ? ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
-        } else {
-          return bankAccountBuilder_.getMessage();
-        }
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
-       */
-      public Builder setBankAccount(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
-        if (bankAccountBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          bankAccount_ = value;
-          onChanged();
-        } else {
-          bankAccountBuilder_.setMessage(value);
-        }
 
-        return this;
-      }
-      /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
-       */
-      public Builder setBankAccount(
-          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder builderForValue) {
-        if (bankAccountBuilder_ == null) {
-          bankAccount_ = builderForValue.build();
-          onChanged();
-        } else {
-          bankAccountBuilder_.setMessage(builderForValue.build());
-        }
 
-        return this;
-      }
-      /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
-       */
-      public Builder mergeBankAccount(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
-        if (bankAccountBuilder_ == null) {
+      // @@protoc_insertion_point(builder_scope:TransactionEdge)
+    }
+
+    // @@protoc_insertion_point(class_scope:TransactionEdge)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionEdge>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionEdge>() {
+      @java.lang.Override
+      public TransactionEdge parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionEdge(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransactionEdge> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionEdge> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionEdge getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransferLegOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransferLeg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string sourceRib = 1;</code>
+     * @return The sourceRib.
+     */
+    java.lang.String getSourceRib();
+    /**
+     * <code>string sourceRib = 1;</code>
+     * @return The bytes for sourceRib.
+     */
+    com.google.protobuf.ByteString
+        getSourceRibBytes();
+
+    /**
+     * <code>string destinationRib = 2;</code>
+     * @return The destinationRib.
+     */
+    java.lang.String getDestinationRib();
+    /**
+     * <code>string destinationRib = 2;</code>
+     * @return The bytes for destinationRib.
+     */
+    com.google.protobuf.ByteString
+        getDestinationRibBytes();
+
+    /**
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
+     * @return The amount.
+     */
+    long getAmount();
+
+    /**
+     * <code>string motif = 4;</code>
+     * @return The motif.
+     */
+    java.lang.String getMotif();
+    /**
+     * <code>string motif = 4;</code>
+     * @return The bytes for motif.
+     */
+    com.google.protobuf.ByteString
+        getMotifBytes();
+  }
+  /**
+   * Protobuf type {@code TransferLeg}
+   */
+  public  static final class TransferLeg extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TransferLeg)
+      TransferLegOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransferLeg.newBuilder() to construct.
+    private TransferLeg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransferLeg() {
+      sourceRib_ = "";
+      destinationRib_ = "";
+      motif_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransferLeg();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransferLeg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              sourceRib_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              destinationRib_ = s;
+              break;
+            }
+            case 24: {
+
+              amount_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              motif_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransferLeg_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransferLeg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.class, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder.class);
+    }
+
+    public static final int SOURCERIB_FIELD_NUMBER = 1;
+    private volatile java.lang.Object sourceRib_;
+    /**
+     * <code>string sourceRib = 1;</code>
+     * @return The sourceRib.
+     */
+    public java.lang.String getSourceRib() {
+      java.lang.Object ref = sourceRib_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sourceRib_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string sourceRib = 1;</code>
+     * @return The bytes for sourceRib.
+     */
+    public com.google.protobuf.ByteString
+        getSourceRibBytes() {
+      java.lang.Object ref = sourceRib_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sourceRib_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESTINATIONRIB_FIELD_NUMBER = 2;
+    private volatile java.lang.Object destinationRib_;
+    /**
+     * <code>string destinationRib = 2;</code>
+     * @return The destinationRib.
+     */
+    public java.lang.String getDestinationRib() {
+      java.lang.Object ref = destinationRib_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destinationRib_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destinationRib = 2;</code>
+     * @return The bytes for destinationRib.
+     */
+    public com.google.protobuf.ByteString
+        getDestinationRibBytes() {
+      java.lang.Object ref = destinationRib_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destinationRib_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AMOUNT_FIELD_NUMBER = 3;
+    private long amount_;
+    /**
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
+     * @return The amount.
+     */
+    public long getAmount() {
+      return amount_;
+    }
+
+    public static final int MOTIF_FIELD_NUMBER = 4;
+    private volatile java.lang.Object motif_;
+    /**
+     * <code>string motif = 4;</code>
+     * @return The motif.
+     */
+    public java.lang.String getMotif() {
+      java.lang.Object ref = motif_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        motif_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string motif = 4;</code>
+     * @return The bytes for motif.
+     */
+    public com.google.protobuf.ByteString
+        getMotifBytes() {
+      java.lang.Object ref = motif_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        motif_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getSourceRibBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, sourceRib_);
+      }
+      if (!getDestinationRibBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, destinationRib_);
+      }
+      if (amount_ != 0L) {
+        output.writeInt64(3, amount_);
+      }
+      if (!getMotifBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, motif_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getSourceRibBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, sourceRib_);
+      }
+      if (!getDestinationRibBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, destinationRib_);
+      }
+      if (amount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, amount_);
+      }
+      if (!getMotifBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, motif_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransferLeg)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.TransferLeg other = (ma.formations.multiconnector.grpc.stub.Bank.TransferLeg) obj;
+
+      if (!getSourceRib()
+          .equals(other.getSourceRib())) return false;
+      if (!getDestinationRib()
+          .equals(other.getDestinationRib())) return false;
+      if (getAmount()
+          != other.getAmount()) return false;
+      if (!getMotif()
+          .equals(other.getMotif())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SOURCERIB_FIELD_NUMBER;
+      hash = (53 * hash) + getSourceRib().hashCode();
+      hash = (37 * hash) + DESTINATIONRIB_FIELD_NUMBER;
+      hash = (53 * hash) + getDestinationRib().hashCode();
+      hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getAmount());
+      hash = (37 * hash) + MOTIF_FIELD_NUMBER;
+      hash = (53 * hash) + getMotif().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransferLeg prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TransferLeg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TransferLeg)
+        ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransferLeg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransferLeg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.class, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sourceRib_ = "";
+
+        destinationRib_ = "";
+
+        amount_ = 0L;
+
+        motif_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransferLeg_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransferLeg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransferLeg result = new ma.formations.multiconnector.grpc.stub.Bank.TransferLeg(this);
+        result.sourceRib_ = sourceRib_;
+        result.destinationRib_ = destinationRib_;
+        result.amount_ = amount_;
+        result.motif_ = motif_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransferLeg) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransferLeg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransferLeg other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.getDefaultInstance()) return this;
+        if (!other.getSourceRib().isEmpty()) {
+          sourceRib_ = other.sourceRib_;
+          onChanged();
+        }
+        if (!other.getDestinationRib().isEmpty()) {
+          destinationRib_ = other.destinationRib_;
+          onChanged();
+        }
+        if (other.getAmount() != 0L) {
+          setAmount(other.getAmount());
+        }
+        if (!other.getMotif().isEmpty()) {
+          motif_ = other.motif_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.TransferLeg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransferLeg) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object sourceRib_ = "";
+      /**
+       * <code>string sourceRib = 1;</code>
+       * @return The sourceRib.
+       */
+      public java.lang.String getSourceRib() {
+        java.lang.Object ref = sourceRib_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sourceRib_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string sourceRib = 1;</code>
+       * @return The bytes for sourceRib.
+       */
+      public com.google.protobuf.ByteString
+          getSourceRibBytes() {
+        java.lang.Object ref = sourceRib_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sourceRib_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string sourceRib = 1;</code>
+       * @param value The sourceRib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceRib(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        sourceRib_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sourceRib = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSourceRib() {
+        
+        sourceRib_ = getDefaultInstance().getSourceRib();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sourceRib = 1;</code>
+       * @param value The bytes for sourceRib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceRibBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        sourceRib_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object destinationRib_ = "";
+      /**
+       * <code>string destinationRib = 2;</code>
+       * @return The destinationRib.
+       */
+      public java.lang.String getDestinationRib() {
+        java.lang.Object ref = destinationRib_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destinationRib_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destinationRib = 2;</code>
+       * @return The bytes for destinationRib.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationRibBytes() {
+        java.lang.Object ref = destinationRib_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destinationRib_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destinationRib = 2;</code>
+       * @param value The destinationRib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationRib(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        destinationRib_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destinationRib = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestinationRib() {
+        
+        destinationRib_ = getDefaultInstance().getDestinationRib();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destinationRib = 2;</code>
+       * @param value The bytes for destinationRib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationRibBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        destinationRib_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long amount_ ;
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @return The amount.
+       */
+      public long getAmount() {
+        return amount_;
+      }
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @param value The amount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAmount(long value) {
+        
+        amount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAmount() {
+        
+        amount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object motif_ = "";
+      /**
+       * <code>string motif = 4;</code>
+       * @return The motif.
+       */
+      public java.lang.String getMotif() {
+        java.lang.Object ref = motif_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          motif_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string motif = 4;</code>
+       * @return The bytes for motif.
+       */
+      public com.google.protobuf.ByteString
+          getMotifBytes() {
+        java.lang.Object ref = motif_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          motif_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string motif = 4;</code>
+       * @param value The motif to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMotif(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        motif_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string motif = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMotif() {
+        
+        motif_ = getDefaultInstance().getMotif();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string motif = 4;</code>
+       * @param value The bytes for motif to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMotifBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        motif_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TransferLeg)
+    }
+
+    // @@protoc_insertion_point(class_scope:TransferLeg)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransferLeg DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransferLeg();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransferLeg>
+        PARSER = new com.google.protobuf.AbstractParser<TransferLeg>() {
+      @java.lang.Override
+      public TransferLeg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransferLeg(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransferLeg> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransferLeg> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchTransferRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchTransferRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> 
+        getTransfersList();
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getTransfers(int index);
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    int getTransfersCount();
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder> 
+        getTransfersOrBuilderList();
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder getTransfersOrBuilder(
+        int index);
+
+    /**
+     * <code>string mode = 2;</code>
+     * @return The mode.
+     */
+    java.lang.String getMode();
+    /**
+     * <code>string mode = 2;</code>
+     * @return The bytes for mode.
+     */
+    com.google.protobuf.ByteString
+        getModeBytes();
+
+    /**
+     * <code>string username = 3;</code>
+     * @return The username.
+     */
+    java.lang.String getUsername();
+    /**
+     * <code>string username = 3;</code>
+     * @return The bytes for username.
+     */
+    com.google.protobuf.ByteString
+        getUsernameBytes();
+
+    /**
+     * <code>string idempotencyKey = 4;</code>
+     * @return The idempotencyKey.
+     */
+    java.lang.String getIdempotencyKey();
+    /**
+     * <code>string idempotencyKey = 4;</code>
+     * @return The bytes for idempotencyKey.
+     */
+    com.google.protobuf.ByteString
+        getIdempotencyKeyBytes();
+  }
+  /**
+   * Protobuf type {@code BatchTransferRequest}
+   */
+  public  static final class BatchTransferRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchTransferRequest)
+      BatchTransferRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchTransferRequest.newBuilder() to construct.
+    private BatchTransferRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchTransferRequest() {
+      transfers_ = java.util.Collections.emptyList();
+      mode_ = "";
+      username_ = "";
+      idempotencyKey_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchTransferRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchTransferRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transfers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transfers_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              mode_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              username_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              idempotencyKey_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transfers_ = java.util.Collections.unmodifiableList(transfers_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.Builder.class);
+    }
+
+    public static final int TRANSFERS_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> transfers_;
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> getTransfersList() {
+      return transfers_;
+    }
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder> 
+        getTransfersOrBuilderList() {
+      return transfers_;
+    }
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    public int getTransfersCount() {
+      return transfers_.size();
+    }
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getTransfers(int index) {
+      return transfers_.get(index);
+    }
+    /**
+     * <code>repeated .TransferLeg transfers = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder getTransfersOrBuilder(
+        int index) {
+      return transfers_.get(index);
+    }
+
+    public static final int MODE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object mode_;
+    /**
+     * <code>string mode = 2;</code>
+     * @return The mode.
+     */
+    public java.lang.String getMode() {
+      java.lang.Object ref = mode_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mode_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string mode = 2;</code>
+     * @return The bytes for mode.
+     */
+    public com.google.protobuf.ByteString
+        getModeBytes() {
+      java.lang.Object ref = mode_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int USERNAME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object username_;
+    /**
+     * <code>string username = 3;</code>
+     * @return The username.
+     */
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        username_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string username = 3;</code>
+     * @return The bytes for username.
+     */
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IDEMPOTENCYKEY_FIELD_NUMBER = 4;
+    private volatile java.lang.Object idempotencyKey_;
+    /**
+     * <code>string idempotencyKey = 4;</code>
+     * @return The idempotencyKey.
+     */
+    public java.lang.String getIdempotencyKey() {
+      java.lang.Object ref = idempotencyKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idempotencyKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string idempotencyKey = 4;</code>
+     * @return The bytes for idempotencyKey.
+     */
+    public com.google.protobuf.ByteString
+        getIdempotencyKeyBytes() {
+      java.lang.Object ref = idempotencyKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idempotencyKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < transfers_.size(); i++) {
+        output.writeMessage(1, transfers_.get(i));
+      }
+      if (!getModeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, mode_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, username_);
+      }
+      if (!getIdempotencyKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, idempotencyKey_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transfers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transfers_.get(i));
+      }
+      if (!getModeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, mode_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, username_);
+      }
+      if (!getIdempotencyKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, idempotencyKey_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest other = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest) obj;
+
+      if (!getTransfersList()
+          .equals(other.getTransfersList())) return false;
+      if (!getMode()
+          .equals(other.getMode())) return false;
+      if (!getUsername()
+          .equals(other.getUsername())) return false;
+      if (!getIdempotencyKey()
+          .equals(other.getIdempotencyKey())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransfersCount() > 0) {
+        hash = (37 * hash) + TRANSFERS_FIELD_NUMBER;
+        hash = (53 * hash) + getTransfersList().hashCode();
+      }
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + getMode().hashCode();
+      hash = (37 * hash) + USERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getUsername().hashCode();
+      hash = (37 * hash) + IDEMPOTENCYKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getIdempotencyKey().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchTransferRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchTransferRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransfersFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transfersBuilder_ == null) {
+          transfers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transfersBuilder_.clear();
+        }
+        mode_ = "";
+
+        username_ = "";
+
+        idempotencyKey_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest result = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (transfersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transfers_ = java.util.Collections.unmodifiableList(transfers_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transfers_ = transfers_;
+        } else {
+          result.transfers_ = transfersBuilder_.build();
+        }
+        result.mode_ = mode_;
+        result.username_ = username_;
+        result.idempotencyKey_ = idempotencyKey_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.getDefaultInstance()) return this;
+        if (transfersBuilder_ == null) {
+          if (!other.transfers_.isEmpty()) {
+            if (transfers_.isEmpty()) {
+              transfers_ = other.transfers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransfersIsMutable();
+              transfers_.addAll(other.transfers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transfers_.isEmpty()) {
+            if (transfersBuilder_.isEmpty()) {
+              transfersBuilder_.dispose();
+              transfersBuilder_ = null;
+              transfers_ = other.transfers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transfersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransfersFieldBuilder() : null;
+            } else {
+              transfersBuilder_.addAllMessages(other.transfers_);
+            }
+          }
+        }
+        if (!other.getMode().isEmpty()) {
+          mode_ = other.mode_;
+          onChanged();
+        }
+        if (!other.getUsername().isEmpty()) {
+          username_ = other.username_;
+          onChanged();
+        }
+        if (!other.getIdempotencyKey().isEmpty()) {
+          idempotencyKey_ = other.idempotencyKey_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> transfers_ =
+        java.util.Collections.emptyList();
+      private void ensureTransfersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transfers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg>(transfers_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransferLeg, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder> transfersBuilder_;
+
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> getTransfersList() {
+        if (transfersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transfers_);
+        } else {
+          return transfersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public int getTransfersCount() {
+        if (transfersBuilder_ == null) {
+          return transfers_.size();
+        } else {
+          return transfersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg getTransfers(int index) {
+        if (transfersBuilder_ == null) {
+          return transfers_.get(index);
+        } else {
+          return transfersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder setTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.set(index, value);
+          onChanged();
+        } else {
+          transfersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder setTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder addTransfers(ma.formations.multiconnector.grpc.stub.Bank.TransferLeg value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.add(value);
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.add(index, value);
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder addAllTransfers(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.TransferLeg> values) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transfers_);
+          onChanged();
+        } else {
+          transfersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder clearTransfers() {
+        if (transfersBuilder_ == null) {
+          transfers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transfersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public Builder removeTransfers(int index) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.remove(index);
+          onChanged();
+        } else {
+          transfersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder getTransfersBuilder(
+          int index) {
+        return getTransfersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder getTransfersOrBuilder(
+          int index) {
+        if (transfersBuilder_ == null) {
+          return transfers_.get(index);  } else {
+          return transfersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder> 
+           getTransfersOrBuilderList() {
+        if (transfersBuilder_ != null) {
+          return transfersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transfers_);
+        }
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder addTransfersBuilder() {
+        return getTransfersFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder addTransfersBuilder(
+          int index) {
+        return getTransfersFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransferLeg transfers = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder> 
+           getTransfersBuilderList() {
+        return getTransfersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransferLeg, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder> 
+          getTransfersFieldBuilder() {
+        if (transfersBuilder_ == null) {
+          transfersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.TransferLeg, ma.formations.multiconnector.grpc.stub.Bank.TransferLeg.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransferLegOrBuilder>(
+                  transfers_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transfers_ = null;
+        }
+        return transfersBuilder_;
+      }
+
+      private java.lang.Object mode_ = "";
+      /**
+       * <code>string mode = 2;</code>
+       * @return The mode.
+       */
+      public java.lang.String getMode() {
+        java.lang.Object ref = mode_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mode_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string mode = 2;</code>
+       * @return The bytes for mode.
+       */
+      public com.google.protobuf.ByteString
+          getModeBytes() {
+        java.lang.Object ref = mode_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string mode = 2;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string mode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        
+        mode_ = getDefaultInstance().getMode();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string mode = 2;</code>
+       * @param value The bytes for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object username_ = "";
+      /**
+       * <code>string username = 3;</code>
+       * @return The username.
+       */
+      public java.lang.String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          username_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string username = 3;</code>
+       * @return The bytes for username.
+       */
+      public com.google.protobuf.ByteString
+          getUsernameBytes() {
+        java.lang.Object ref = username_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          username_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string username = 3;</code>
+       * @param value The username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string username = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUsername() {
+        
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string username = 3;</code>
+       * @param value The bytes for username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        username_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object idempotencyKey_ = "";
+      /**
+       * <code>string idempotencyKey = 4;</code>
+       * @return The idempotencyKey.
+       */
+      public java.lang.String getIdempotencyKey() {
+        java.lang.Object ref = idempotencyKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idempotencyKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string idempotencyKey = 4;</code>
+       * @return The bytes for idempotencyKey.
+       */
+      public com.google.protobuf.ByteString
+          getIdempotencyKeyBytes() {
+        java.lang.Object ref = idempotencyKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idempotencyKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string idempotencyKey = 4;</code>
+       * @param value The idempotencyKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdempotencyKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        idempotencyKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idempotencyKey = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdempotencyKey() {
+        
+        idempotencyKey_ = getDefaultInstance().getIdempotencyKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string idempotencyKey = 4;</code>
+       * @param value The bytes for idempotencyKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdempotencyKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        idempotencyKey_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchTransferRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchTransferRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchTransferRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchTransferRequest>() {
+      @java.lang.Override
+      public BatchTransferRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchTransferRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchTransferRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchTransferRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchTransferItemResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchTransferItemResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 index = 1;</code>
+     * @return The index.
+     */
+    int getIndex();
+
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+
+    /**
+     * <code>int64 debitTransactionId = 4;</code>
+     * @return The debitTransactionId.
+     */
+    long getDebitTransactionId();
+
+    /**
+     * <code>int64 creditTransactionId = 5;</code>
+     * @return The creditTransactionId.
+     */
+    long getCreditTransactionId();
+  }
+  /**
+   * Protobuf type {@code BatchTransferItemResult}
+   */
+  public  static final class BatchTransferItemResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchTransferItemResult)
+      BatchTransferItemResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchTransferItemResult.newBuilder() to construct.
+    private BatchTransferItemResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchTransferItemResult() {
+      message_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchTransferItemResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchTransferItemResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              index_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              success_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+            case 32: {
+
+              debitTransactionId_ = input.readInt64();
+              break;
+            }
+            case 40: {
+
+              creditTransactionId_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferItemResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferItemResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder.class);
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 1;
+    private int index_;
+    /**
+     * <code>int32 index = 1;</code>
+     * @return The index.
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DEBITTRANSACTIONID_FIELD_NUMBER = 4;
+    private long debitTransactionId_;
+    /**
+     * <code>int64 debitTransactionId = 4;</code>
+     * @return The debitTransactionId.
+     */
+    public long getDebitTransactionId() {
+      return debitTransactionId_;
+    }
+
+    public static final int CREDITTRANSACTIONID_FIELD_NUMBER = 5;
+    private long creditTransactionId_;
+    /**
+     * <code>int64 creditTransactionId = 5;</code>
+     * @return The creditTransactionId.
+     */
+    public long getCreditTransactionId() {
+      return creditTransactionId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (index_ != 0) {
+        output.writeInt32(1, index_);
+      }
+      if (success_ != false) {
+        output.writeBool(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, message_);
+      }
+      if (debitTransactionId_ != 0L) {
+        output.writeInt64(4, debitTransactionId_);
+      }
+      if (creditTransactionId_ != 0L) {
+        output.writeInt64(5, creditTransactionId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (index_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, index_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, message_);
+      }
+      if (debitTransactionId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, debitTransactionId_);
+      }
+      if (creditTransactionId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, creditTransactionId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult other = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult) obj;
+
+      if (getIndex()
+          != other.getIndex()) return false;
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (getDebitTransactionId()
+          != other.getDebitTransactionId()) return false;
+      if (getCreditTransactionId()
+          != other.getCreditTransactionId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + DEBITTRANSACTIONID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDebitTransactionId());
+      hash = (37 * hash) + CREDITTRANSACTIONID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCreditTransactionId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchTransferItemResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchTransferItemResult)
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferItemResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferItemResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        index_ = 0;
+
+        success_ = false;
+
+        message_ = "";
+
+        debitTransactionId_ = 0L;
+
+        creditTransactionId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferItemResult_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult build() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult result = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult(this);
+        result.index_ = index_;
+        result.success_ = success_;
+        result.message_ = message_;
+        result.debitTransactionId_ = debitTransactionId_;
+        result.creditTransactionId_ = creditTransactionId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.getDefaultInstance()) return this;
+        if (other.getIndex() != 0) {
+          setIndex(other.getIndex());
+        }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        if (other.getDebitTransactionId() != 0L) {
+          setDebitTransactionId(other.getDebitTransactionId());
+        }
+        if (other.getCreditTransactionId() != 0L) {
+          setCreditTransactionId(other.getCreditTransactionId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int index_ ;
+      /**
+       * <code>int32 index = 1;</code>
+       * @return The index.
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       * @param value The index to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIndex(int value) {
+        
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIndex() {
+        
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 2;</code>
+       * @return The success.
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+        
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>string message = 3;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long debitTransactionId_ ;
+      /**
+       * <code>int64 debitTransactionId = 4;</code>
+       * @return The debitTransactionId.
+       */
+      public long getDebitTransactionId() {
+        return debitTransactionId_;
+      }
+      /**
+       * <code>int64 debitTransactionId = 4;</code>
+       * @param value The debitTransactionId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDebitTransactionId(long value) {
+        
+        debitTransactionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 debitTransactionId = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDebitTransactionId() {
+        
+        debitTransactionId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long creditTransactionId_ ;
+      /**
+       * <code>int64 creditTransactionId = 5;</code>
+       * @return The creditTransactionId.
+       */
+      public long getCreditTransactionId() {
+        return creditTransactionId_;
+      }
+      /**
+       * <code>int64 creditTransactionId = 5;</code>
+       * @param value The creditTransactionId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreditTransactionId(long value) {
+        
+        creditTransactionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 creditTransactionId = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreditTransactionId() {
+        
+        creditTransactionId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchTransferItemResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchTransferItemResult)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchTransferItemResult>
+        PARSER = new com.google.protobuf.AbstractParser<BatchTransferItemResult>() {
+      @java.lang.Override
+      public BatchTransferItemResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchTransferItemResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchTransferItemResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchTransferItemResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchTransferResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BatchTransferResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool success = 1;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+
+    /**
+     * <code>int32 succeeded = 3;</code>
+     * @return The succeeded.
+     */
+    int getSucceeded();
+
+    /**
+     * <code>int32 failed = 4;</code>
+     * @return The failed.
+     */
+    int getFailed();
+
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> 
+        getResultsList();
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getResults(int index);
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code BatchTransferResponse}
+   */
+  public  static final class BatchTransferResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BatchTransferResponse)
+      BatchTransferResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchTransferResponse.newBuilder() to construct.
+    private BatchTransferResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchTransferResponse() {
+      message_ = "";
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchTransferResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchTransferResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              success_ = input.readBool();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+            case 24: {
+
+              succeeded_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              failed_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                results_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.Builder.class);
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_;
+    /**
+     * <code>bool success = 1;</code>
+     * @return The success.
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>string message = 2;</code>
+     * @return The message.
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 2;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SUCCEEDED_FIELD_NUMBER = 3;
+    private int succeeded_;
+    /**
+     * <code>int32 succeeded = 3;</code>
+     * @return The succeeded.
+     */
+    public int getSucceeded() {
+      return succeeded_;
+    }
+
+    public static final int FAILED_FIELD_NUMBER = 4;
+    private int failed_;
+    /**
+     * <code>int32 failed = 4;</code>
+     * @return The failed.
+     */
+    public int getFailed() {
+      return failed_;
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 5;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> results_;
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .BatchTransferItemResult results = 5;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (success_ != false) {
+        output.writeBool(1, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, message_);
+      }
+      if (succeeded_ != 0) {
+        output.writeInt32(3, succeeded_);
+      }
+      if (failed_ != 0) {
+        output.writeInt32(4, failed_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(5, results_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, message_);
+      }
+      if (succeeded_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, succeeded_);
+      }
+      if (failed_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, failed_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, results_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse other = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse) obj;
+
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (getSucceeded()
+          != other.getSucceeded()) return false;
+      if (getFailed()
+          != other.getFailed()) return false;
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + SUCCEEDED_FIELD_NUMBER;
+      hash = (53 * hash) + getSucceeded();
+      hash = (37 * hash) + FAILED_FIELD_NUMBER;
+      hash = (53 * hash) + getFailed();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BatchTransferResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BatchTransferResponse)
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.class, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        success_ = false;
+
+        message_ = "";
+
+        succeeded_ = 0;
+
+        failed_ = 0;
+
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BatchTransferResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse build() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse result = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse(this);
+        int from_bitField0_ = bitField0_;
+        result.success_ = success_;
+        result.message_ = message_;
+        result.succeeded_ = succeeded_;
+        result.failed_ = failed_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.getDefaultInstance()) return this;
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        if (other.getSucceeded() != 0) {
+          setSucceeded(other.getSucceeded());
+        }
+        if (other.getFailed() != 0) {
+          setFailed(other.getFailed());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 1;</code>
+       * @return The success.
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 1;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+        
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>string message = 2;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string message = 2;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 2;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 2;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int succeeded_ ;
+      /**
+       * <code>int32 succeeded = 3;</code>
+       * @return The succeeded.
+       */
+      public int getSucceeded() {
+        return succeeded_;
+      }
+      /**
+       * <code>int32 succeeded = 3;</code>
+       * @param value The succeeded to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSucceeded(int value) {
+        
+        succeeded_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 succeeded = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSucceeded() {
+        
+        succeeded_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int failed_ ;
+      /**
+       * <code>int32 failed = 4;</code>
+       * @return The failed.
+       */
+      public int getFailed() {
+        return failed_;
+      }
+      /**
+       * <code>int32 failed = 4;</code>
+       * @param value The failed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFailed(int value) {
+        
+        failed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 failed = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFailed() {
+        
+        failed_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          results_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder setResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder setResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder addResults(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder addResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder addResults(
+          ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder addResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .BatchTransferItemResult results = 5;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferItemResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BatchTransferResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:BatchTransferResponse)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchTransferResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchTransferResponse>() {
+      @java.lang.Override
+      public BatchTransferResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchTransferResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchTransferResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchTransferResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UserDtoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UserDto)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string username = 1;</code>
+     * @return The username.
+     */
+    java.lang.String getUsername();
+    /**
+     * <code>string username = 1;</code>
+     * @return The bytes for username.
+     */
+    com.google.protobuf.ByteString
+        getUsernameBytes();
+
+    /**
+     * <code>string firstname = 2;</code>
+     * @return The firstname.
+     */
+    java.lang.String getFirstname();
+    /**
+     * <code>string firstname = 2;</code>
+     * @return The bytes for firstname.
+     */
+    com.google.protobuf.ByteString
+        getFirstnameBytes();
+
+    /**
+     * <code>string lastname = 3;</code>
+     * @return The lastname.
+     */
+    java.lang.String getLastname();
+    /**
+     * <code>string lastname = 3;</code>
+     * @return The bytes for lastname.
+     */
+    com.google.protobuf.ByteString
+        getLastnameBytes();
+  }
+  /**
+   * Protobuf type {@code UserDto}
+   */
+  public  static final class UserDto extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:UserDto)
+      UserDtoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UserDto.newBuilder() to construct.
+    private UserDto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UserDto() {
+      username_ = "";
+      firstname_ = "";
+      lastname_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UserDto();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UserDto(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              username_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              firstname_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              lastname_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.UserDto.class, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder.class);
+    }
+
+    public static final int USERNAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object username_;
+    /**
+     * <code>string username = 1;</code>
+     * @return The username.
+     */
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        username_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string username = 1;</code>
+     * @return The bytes for username.
+     */
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FIRSTNAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object firstname_;
+    /**
+     * <code>string firstname = 2;</code>
+     * @return The firstname.
+     */
+    public java.lang.String getFirstname() {
+      java.lang.Object ref = firstname_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        firstname_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string firstname = 2;</code>
+     * @return The bytes for firstname.
+     */
+    public com.google.protobuf.ByteString
+        getFirstnameBytes() {
+      java.lang.Object ref = firstname_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        firstname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LASTNAME_FIELD_NUMBER = 3;
+    private volatile java.lang.Object lastname_;
+    /**
+     * <code>string lastname = 3;</code>
+     * @return The lastname.
+     */
+    public java.lang.String getLastname() {
+      java.lang.Object ref = lastname_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastname_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string lastname = 3;</code>
+     * @return The bytes for lastname.
+     */
+    public com.google.protobuf.ByteString
+        getLastnameBytes() {
+      java.lang.Object ref = lastname_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getUsernameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, username_);
+      }
+      if (!getFirstnameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, firstname_);
+      }
+      if (!getLastnameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, lastname_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getUsernameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, username_);
+      }
+      if (!getFirstnameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, firstname_);
+      }
+      if (!getLastnameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, lastname_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.UserDto)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.UserDto other = (ma.formations.multiconnector.grpc.stub.Bank.UserDto) obj;
+
+      if (!getUsername()
+          .equals(other.getUsername())) return false;
+      if (!getFirstname()
+          .equals(other.getFirstname())) return false;
+      if (!getLastname()
+          .equals(other.getLastname())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + USERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getUsername().hashCode();
+      hash = (37 * hash) + FIRSTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getFirstname().hashCode();
+      hash = (37 * hash) + LASTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getLastname().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.UserDto prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code UserDto}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:UserDto)
+        ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.UserDto.class, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.UserDto.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        username_ = "";
+
+        firstname_ = "";
+
+        lastname_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_UserDto_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDto build() {
+        ma.formations.multiconnector.grpc.stub.Bank.UserDto result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDto buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.UserDto result = new ma.formations.multiconnector.grpc.stub.Bank.UserDto(this);
+        result.username_ = username_;
+        result.firstname_ = firstname_;
+        result.lastname_ = lastname_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.UserDto) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.UserDto)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.UserDto other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance()) return this;
+        if (!other.getUsername().isEmpty()) {
+          username_ = other.username_;
+          onChanged();
+        }
+        if (!other.getFirstname().isEmpty()) {
+          firstname_ = other.firstname_;
+          onChanged();
+        }
+        if (!other.getLastname().isEmpty()) {
+          lastname_ = other.lastname_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.UserDto parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.UserDto) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object username_ = "";
+      /**
+       * <code>string username = 1;</code>
+       * @return The username.
+       */
+      public java.lang.String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          username_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string username = 1;</code>
+       * @return The bytes for username.
+       */
+      public com.google.protobuf.ByteString
+          getUsernameBytes() {
+        java.lang.Object ref = username_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          username_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string username = 1;</code>
+       * @param value The username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string username = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUsername() {
+        
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string username = 1;</code>
+       * @param value The bytes for username to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        username_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object firstname_ = "";
+      /**
+       * <code>string firstname = 2;</code>
+       * @return The firstname.
+       */
+      public java.lang.String getFirstname() {
+        java.lang.Object ref = firstname_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          firstname_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string firstname = 2;</code>
+       * @return The bytes for firstname.
+       */
+      public com.google.protobuf.ByteString
+          getFirstnameBytes() {
+        java.lang.Object ref = firstname_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          firstname_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string firstname = 2;</code>
+       * @param value The firstname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstname(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        firstname_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string firstname = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFirstname() {
+        
+        firstname_ = getDefaultInstance().getFirstname();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string firstname = 2;</code>
+       * @param value The bytes for firstname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstnameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        firstname_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastname_ = "";
+      /**
+       * <code>string lastname = 3;</code>
+       * @return The lastname.
+       */
+      public java.lang.String getLastname() {
+        java.lang.Object ref = lastname_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastname_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string lastname = 3;</code>
+       * @return The bytes for lastname.
+       */
+      public com.google.protobuf.ByteString
+          getLastnameBytes() {
+        java.lang.Object ref = lastname_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastname_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string lastname = 3;</code>
+       * @param value The lastname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastname(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        lastname_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lastname = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastname() {
+        
+        lastname_ = getDefaultInstance().getLastname();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string lastname = 3;</code>
+       * @param value The bytes for lastname to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastnameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        lastname_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:UserDto)
+    }
+
+    // @@protoc_insertion_point(class_scope:UserDto)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.UserDto DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.UserDto();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UserDto>
+        PARSER = new com.google.protobuf.AbstractParser<UserDto>() {
+      @java.lang.Override
+      public UserDto parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UserDto(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UserDto> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UserDto> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.UserDto getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionDtoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransactionDto)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string createdAt = 1;</code>
+     * @return The createdAt.
+     */
+    java.lang.String getCreatedAt();
+    /**
+     * <code>string createdAt = 1;</code>
+     * @return The bytes for createdAt.
+     */
+    com.google.protobuf.ByteString
+        getCreatedAtBytes();
+
+    /**
+     * <code>string transactionType = 2;</code>
+     * @return The transactionType.
+     */
+    java.lang.String getTransactionType();
+    /**
+     * <code>string transactionType = 2;</code>
+     * @return The bytes for transactionType.
+     */
+    com.google.protobuf.ByteString
+        getTransactionTypeBytes();
+
+    /**
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
+     * @return The amount.
+     */
+    long getAmount();
+
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     * @return Whether the bankAccount field is set.
+     */
+    boolean hasBankAccount();
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     * @return The bankAccount.
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount();
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder();
+
+    /**
+     * <code>.UserDto user = 5;</code>
+     * @return Whether the user field is set.
+     */
+    boolean hasUser();
+    /**
+     * <code>.UserDto user = 5;</code>
+     * @return The user.
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser();
+    /**
+     * <code>.UserDto user = 5;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder();
+
+    /**
+     * <code>int64 id = 6;</code>
+     * @return The id.
+     */
+    long getId();
+  }
+  /**
+   * Protobuf type {@code TransactionDto}
+   */
+  public  static final class TransactionDto extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TransactionDto)
+      TransactionDtoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransactionDto.newBuilder() to construct.
+    private TransactionDto(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransactionDto() {
+      createdAt_ = "";
+      transactionType_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransactionDto();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransactionDto(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              createdAt_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              transactionType_ = s;
+              break;
+            }
+            case 24: {
+
+              amount_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder subBuilder = null;
+              if (bankAccount_ != null) {
+                subBuilder = bankAccount_.toBuilder();
+              }
+              bankAccount_ = input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(bankAccount_);
+                bankAccount_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+              ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder subBuilder = null;
+              if (user_ != null) {
+                subBuilder = user_.toBuilder();
+              }
+              user_ = input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.UserDto.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(user_);
+                user_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 48: {
+
+              id_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder.class);
+    }
+
+    public static final int CREATEDAT_FIELD_NUMBER = 1;
+    private volatile java.lang.Object createdAt_;
+    /**
+     * <code>string createdAt = 1;</code>
+     * @return The createdAt.
+     */
+    public java.lang.String getCreatedAt() {
+      java.lang.Object ref = createdAt_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        createdAt_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string createdAt = 1;</code>
+     * @return The bytes for createdAt.
+     */
+    public com.google.protobuf.ByteString
+        getCreatedAtBytes() {
+      java.lang.Object ref = createdAt_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        createdAt_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRANSACTIONTYPE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object transactionType_;
+    /**
+     * <code>string transactionType = 2;</code>
+     * @return The transactionType.
+     */
+    public java.lang.String getTransactionType() {
+      java.lang.Object ref = transactionType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        transactionType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string transactionType = 2;</code>
+     * @return The bytes for transactionType.
+     */
+    public com.google.protobuf.ByteString
+        getTransactionTypeBytes() {
+      java.lang.Object ref = transactionType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        transactionType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AMOUNT_FIELD_NUMBER = 3;
+    private long amount_;
+    /**
+     * <pre>
+     * centimes
+     * </pre>
+     *
+     * <code>int64 amount = 3;</code>
+     * @return The amount.
+     */
+    public long getAmount() {
+      return amount_;
+    }
+
+    public static final int BANKACCOUNT_FIELD_NUMBER = 4;
+    private ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto bankAccount_;
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     * @return Whether the bankAccount field is set.
+     */
+    public boolean hasBankAccount() {
+      return bankAccount_ != null;
+    }
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     * @return The bankAccount.
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount() {
+      return bankAccount_ == null ? ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
+    }
+    /**
+     * <code>.BankAccountDto bankAccount = 4;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder() {
+      return getBankAccount();
+    }
+
+    public static final int USER_FIELD_NUMBER = 5;
+    private ma.formations.multiconnector.grpc.stub.Bank.UserDto user_;
+    /**
+     * <code>.UserDto user = 5;</code>
+     * @return Whether the user field is set.
+     */
+    public boolean hasUser() {
+      return user_ != null;
+    }
+    /**
+     * <code>.UserDto user = 5;</code>
+     * @return The user.
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser() {
+      return user_ == null ? ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
+    }
+    /**
+     * <code>.UserDto user = 5;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder() {
+      return getUser();
+    }
+
+    public static final int ID_FIELD_NUMBER = 6;
+    private long id_;
+    /**
+     * <code>int64 id = 6;</code>
+     * @return The id.
+     */
+    public long getId() {
+      return id_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getCreatedAtBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, createdAt_);
+      }
+      if (!getTransactionTypeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, transactionType_);
+      }
+      if (amount_ != 0L) {
+        output.writeInt64(3, amount_);
+      }
+      if (bankAccount_ != null) {
+        output.writeMessage(4, getBankAccount());
+      }
+      if (user_ != null) {
+        output.writeMessage(5, getUser());
+      }
+      if (id_ != 0L) {
+        output.writeInt64(6, id_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getCreatedAtBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, createdAt_);
+      }
+      if (!getTransactionTypeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, transactionType_);
+      }
+      if (amount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, amount_);
+      }
+      if (bankAccount_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getBankAccount());
+      }
+      if (user_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getUser());
+      }
+      if (id_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, id_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionDto)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionDto other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) obj;
+
+      if (!getCreatedAt()
+          .equals(other.getCreatedAt())) return false;
+      if (!getTransactionType()
+          .equals(other.getTransactionType())) return false;
+      if (getAmount()
+          != other.getAmount()) return false;
+      if (hasBankAccount() != other.hasBankAccount()) return false;
+      if (hasBankAccount()) {
+        if (!getBankAccount()
+            .equals(other.getBankAccount())) return false;
+      }
+      if (hasUser() != other.hasUser()) return false;
+      if (hasUser()) {
+        if (!getUser()
+            .equals(other.getUser())) return false;
+      }
+      if (getId()
+          != other.getId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CREATEDAT_FIELD_NUMBER;
+      hash = (53 * hash) + getCreatedAt().hashCode();
+      hash = (37 * hash) + TRANSACTIONTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getTransactionType().hashCode();
+      hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getAmount());
+      if (hasBankAccount()) {
+        hash = (37 * hash) + BANKACCOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getBankAccount().hashCode();
+      }
+      if (hasUser()) {
+        hash = (37 * hash) + USER_FIELD_NUMBER;
+        hash = (53 * hash) + getUser().hashCode();
+      }
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TransactionDto}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TransactionDto)
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        createdAt_ = "";
+
+        transactionType_ = "";
+
+        amount_ = 0L;
+
+        if (bankAccountBuilder_ == null) {
+          bankAccount_ = null;
+        } else {
+          bankAccount_ = null;
+          bankAccountBuilder_ = null;
+        }
+        if (userBuilder_ == null) {
+          user_ = null;
+        } else {
+          user_ = null;
+          userBuilder_ = null;
+        }
+        id_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionDto_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionDto(this);
+        result.createdAt_ = createdAt_;
+        result.transactionType_ = transactionType_;
+        result.amount_ = amount_;
+        if (bankAccountBuilder_ == null) {
+          result.bankAccount_ = bankAccount_;
+        } else {
+          result.bankAccount_ = bankAccountBuilder_.build();
+        }
+        if (userBuilder_ == null) {
+          result.user_ = user_;
+        } else {
+          result.user_ = userBuilder_.build();
+        }
+        result.id_ = id_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionDto)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance()) return this;
+        if (!other.getCreatedAt().isEmpty()) {
+          createdAt_ = other.createdAt_;
+          onChanged();
+        }
+        if (!other.getTransactionType().isEmpty()) {
+          transactionType_ = other.transactionType_;
+          onChanged();
+        }
+        if (other.getAmount() != 0L) {
+          setAmount(other.getAmount());
+        }
+        if (other.hasBankAccount()) {
+          mergeBankAccount(other.getBankAccount());
+        }
+        if (other.hasUser()) {
+          mergeUser(other.getUser());
+        }
+        if (other.getId() != 0L) {
+          setId(other.getId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionDto parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionDto) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object createdAt_ = "";
+      /**
+       * <code>string createdAt = 1;</code>
+       * @return The createdAt.
+       */
+      public java.lang.String getCreatedAt() {
+        java.lang.Object ref = createdAt_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          createdAt_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string createdAt = 1;</code>
+       * @return The bytes for createdAt.
+       */
+      public com.google.protobuf.ByteString
+          getCreatedAtBytes() {
+        java.lang.Object ref = createdAt_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          createdAt_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string createdAt = 1;</code>
+       * @param value The createdAt to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedAt(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        createdAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string createdAt = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreatedAt() {
+        
+        createdAt_ = getDefaultInstance().getCreatedAt();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string createdAt = 1;</code>
+       * @param value The bytes for createdAt to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedAtBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        createdAt_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object transactionType_ = "";
+      /**
+       * <code>string transactionType = 2;</code>
+       * @return The transactionType.
+       */
+      public java.lang.String getTransactionType() {
+        java.lang.Object ref = transactionType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          transactionType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string transactionType = 2;</code>
+       * @return The bytes for transactionType.
+       */
+      public com.google.protobuf.ByteString
+          getTransactionTypeBytes() {
+        java.lang.Object ref = transactionType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          transactionType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string transactionType = 2;</code>
+       * @param value The transactionType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTransactionType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        transactionType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string transactionType = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTransactionType() {
+        
+        transactionType_ = getDefaultInstance().getTransactionType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string transactionType = 2;</code>
+       * @param value The bytes for transactionType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTransactionTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        transactionType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long amount_ ;
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @return The amount.
+       */
+      public long getAmount() {
+        return amount_;
+      }
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @param value The amount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAmount(long value) {
+        
+        amount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * centimes
+       * </pre>
+       *
+       * <code>int64 amount = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAmount() {
+        
+        amount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto bankAccount_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> bankAccountBuilder_;
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       * @return Whether the bankAccount field is set.
+       */
+      public boolean hasBankAccount() {
+        return bankAccountBuilder_ != null || bankAccount_ != null;
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       * @return The bankAccount.
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount() {
+        if (bankAccountBuilder_ == null) {
+          return bankAccount_ == null ? ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
+        } else {
+          return bankAccountBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public Builder setBankAccount(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
+        if (bankAccountBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bankAccount_ = value;
+          onChanged();
+        } else {
+          bankAccountBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public Builder setBankAccount(
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder builderForValue) {
+        if (bankAccountBuilder_ == null) {
+          bankAccount_ = builderForValue.build();
+          onChanged();
+        } else {
+          bankAccountBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public Builder mergeBankAccount(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
+        if (bankAccountBuilder_ == null) {
           if (bankAccount_ != null) {
             bankAccount_ =
               ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.newBuilder(bankAccount_).mergeFrom(value).buildPartial();
           } else {
-            bankAccount_ = value;
+            bankAccount_ = value;
+          }
+          onChanged();
+        } else {
+          bankAccountBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public Builder clearBankAccount() {
+        if (bankAccountBuilder_ == null) {
+          bankAccount_ = null;
+          onChanged();
+        } else {
+          bankAccount_ = null;
+          bankAccountBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder getBankAccountBuilder() {
+        
+        onChanged();
+        return getBankAccountFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder() {
+        if (bankAccountBuilder_ != null) {
+          return bankAccountBuilder_.getMessageOrBuilder();
+        } else {
+          return bankAccount_ == null ?
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
+        }
+      }
+      /**
+       * <code>.BankAccountDto bankAccount = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
+          getBankAccountFieldBuilder() {
+        if (bankAccountBuilder_ == null) {
+          bankAccountBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder>(
+                  getBankAccount(),
+                  getParentForChildren(),
+                  isClean());
+          bankAccount_ = null;
+        }
+        return bankAccountBuilder_;
+      }
+
+      private ma.formations.multiconnector.grpc.stub.Bank.UserDto user_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder> userBuilder_;
+      /**
+       * <code>.UserDto user = 5;</code>
+       * @return Whether the user field is set.
+       */
+      public boolean hasUser() {
+        return userBuilder_ != null || user_ != null;
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       * @return The user.
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser() {
+        if (userBuilder_ == null) {
+          return user_ == null ? ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
+        } else {
+          return userBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public Builder setUser(ma.formations.multiconnector.grpc.stub.Bank.UserDto value) {
+        if (userBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          user_ = value;
+          onChanged();
+        } else {
+          userBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public Builder setUser(
+          ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder builderForValue) {
+        if (userBuilder_ == null) {
+          user_ = builderForValue.build();
+          onChanged();
+        } else {
+          userBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public Builder mergeUser(ma.formations.multiconnector.grpc.stub.Bank.UserDto value) {
+        if (userBuilder_ == null) {
+          if (user_ != null) {
+            user_ =
+              ma.formations.multiconnector.grpc.stub.Bank.UserDto.newBuilder(user_).mergeFrom(value).buildPartial();
+          } else {
+            user_ = value;
+          }
+          onChanged();
+        } else {
+          userBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public Builder clearUser() {
+        if (userBuilder_ == null) {
+          user_ = null;
+          onChanged();
+        } else {
+          user_ = null;
+          userBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder getUserBuilder() {
+        
+        onChanged();
+        return getUserFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder() {
+        if (userBuilder_ != null) {
+          return userBuilder_.getMessageOrBuilder();
+        } else {
+          return user_ == null ?
+              ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
+        }
+      }
+      /**
+       * <code>.UserDto user = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder> 
+          getUserFieldBuilder() {
+        if (userBuilder_ == null) {
+          userBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder>(
+                  getUser(),
+                  getParentForChildren(),
+                  isClean());
+          user_ = null;
+        }
+        return userBuilder_;
+      }
+
+      private long id_ ;
+      /**
+       * <code>int64 id = 6;</code>
+       * @return The id.
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>int64 id = 6;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(long value) {
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 id = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TransactionDto)
+    }
+
+    // @@protoc_insertion_point(class_scope:TransactionDto)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionDto DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionDto();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionDto>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionDto>() {
+      @java.lang.Override
+      public TransactionDto parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionDto(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransactionDto> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionDto> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StreamRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 chunkSize = 1;</code>
+     * @return The chunkSize.
+     */
+    int getChunkSize();
+  }
+  /**
+   * Protobuf type {@code StreamRequest}
+   */
+  public  static final class StreamRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StreamRequest)
+      StreamRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StreamRequest.newBuilder() to construct.
+    private StreamRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamRequest() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StreamRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StreamRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              chunkSize_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.class, ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.Builder.class);
+    }
+
+    public static final int CHUNKSIZE_FIELD_NUMBER = 1;
+    private int chunkSize_;
+    /**
+     * <code>int32 chunkSize = 1;</code>
+     * @return The chunkSize.
+     */
+    public int getChunkSize() {
+      return chunkSize_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (chunkSize_ != 0) {
+        output.writeInt32(1, chunkSize_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (chunkSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, chunkSize_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.StreamRequest)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.StreamRequest other = (ma.formations.multiconnector.grpc.stub.Bank.StreamRequest) obj;
+
+      if (getChunkSize()
+          != other.getChunkSize()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CHUNKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getChunkSize();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StreamRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StreamRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.class, ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        chunkSize_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequest result = new ma.formations.multiconnector.grpc.stub.Bank.StreamRequest(this);
+        result.chunkSize_ = chunkSize_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.StreamRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.StreamRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.getDefaultInstance()) return this;
+        if (other.getChunkSize() != 0) {
+          setChunkSize(other.getChunkSize());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.StreamRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int chunkSize_ ;
+      /**
+       * <code>int32 chunkSize = 1;</code>
+       * @return The chunkSize.
+       */
+      public int getChunkSize() {
+        return chunkSize_;
+      }
+      /**
+       * <code>int32 chunkSize = 1;</code>
+       * @param value The chunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkSize(int value) {
+        
+        chunkSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 chunkSize = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkSize() {
+        
+        chunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:StreamRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:StreamRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.StreamRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.StreamRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StreamRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StreamRequest>() {
+      @java.lang.Override
+      public StreamRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StreamRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StreamRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.StreamRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamTransactionsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StreamTransactionsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    java.lang.String getRib();
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    com.google.protobuf.ByteString
+        getRibBytes();
+
+    /**
+     * <code>string dateFrom = 2;</code>
+     * @return The dateFrom.
+     */
+    java.lang.String getDateFrom();
+    /**
+     * <code>string dateFrom = 2;</code>
+     * @return The bytes for dateFrom.
+     */
+    com.google.protobuf.ByteString
+        getDateFromBytes();
+
+    /**
+     * <code>string dateTo = 3;</code>
+     * @return The dateTo.
+     */
+    java.lang.String getDateTo();
+    /**
+     * <code>string dateTo = 3;</code>
+     * @return The bytes for dateTo.
+     */
+    com.google.protobuf.ByteString
+        getDateToBytes();
+
+    /**
+     * <code>int32 chunkSize = 4;</code>
+     * @return The chunkSize.
+     */
+    int getChunkSize();
+  }
+  /**
+   * Protobuf type {@code StreamTransactionsRequest}
+   */
+  public  static final class StreamTransactionsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:StreamTransactionsRequest)
+      StreamTransactionsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StreamTransactionsRequest.newBuilder() to construct.
+    private StreamTransactionsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamTransactionsRequest() {
+      rib_ = "";
+      dateFrom_ = "";
+      dateTo_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new StreamTransactionsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StreamTransactionsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              rib_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateFrom_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateTo_ = s;
+              break;
+            }
+            case 32: {
+
+              chunkSize_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamTransactionsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamTransactionsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.Builder.class);
+    }
+
+    public static final int RIB_FIELD_NUMBER = 1;
+    private volatile java.lang.Object rib_;
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    public java.lang.String getRib() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rib_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    public com.google.protobuf.ByteString
+        getRibBytes() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rib_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATEFROM_FIELD_NUMBER = 2;
+    private volatile java.lang.Object dateFrom_;
+    /**
+     * <code>string dateFrom = 2;</code>
+     * @return The dateFrom.
+     */
+    public java.lang.String getDateFrom() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateFrom_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateFrom = 2;</code>
+     * @return The bytes for dateFrom.
+     */
+    public com.google.protobuf.ByteString
+        getDateFromBytes() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateFrom_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATETO_FIELD_NUMBER = 3;
+    private volatile java.lang.Object dateTo_;
+    /**
+     * <code>string dateTo = 3;</code>
+     * @return The dateTo.
+     */
+    public java.lang.String getDateTo() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateTo_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateTo = 3;</code>
+     * @return The bytes for dateTo.
+     */
+    public com.google.protobuf.ByteString
+        getDateToBytes() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateTo_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CHUNKSIZE_FIELD_NUMBER = 4;
+    private int chunkSize_;
+    /**
+     * <code>int32 chunkSize = 4;</code>
+     * @return The chunkSize.
+     */
+    public int getChunkSize() {
+      return chunkSize_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getRibBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rib_);
+      }
+      if (!getDateFromBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dateFrom_);
+      }
+      if (!getDateToBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dateTo_);
+      }
+      if (chunkSize_ != 0) {
+        output.writeInt32(4, chunkSize_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getRibBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, rib_);
+      }
+      if (!getDateFromBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dateFrom_);
+      }
+      if (!getDateToBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dateTo_);
+      }
+      if (chunkSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, chunkSize_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest other = (ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest) obj;
+
+      if (!getRib()
+          .equals(other.getRib())) return false;
+      if (!getDateFrom()
+          .equals(other.getDateFrom())) return false;
+      if (!getDateTo()
+          .equals(other.getDateTo())) return false;
+      if (getChunkSize()
+          != other.getChunkSize()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RIB_FIELD_NUMBER;
+      hash = (53 * hash) + getRib().hashCode();
+      hash = (37 * hash) + DATEFROM_FIELD_NUMBER;
+      hash = (53 * hash) + getDateFrom().hashCode();
+      hash = (37 * hash) + DATETO_FIELD_NUMBER;
+      hash = (53 * hash) + getDateTo().hashCode();
+      hash = (37 * hash) + CHUNKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getChunkSize();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StreamTransactionsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StreamTransactionsRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamTransactionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamTransactionsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        rib_ = "";
+
+        dateFrom_ = "";
+
+        dateTo_ = "";
+
+        chunkSize_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_StreamTransactionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest result = new ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest(this);
+        result.rib_ = rib_;
+        result.dateFrom_ = dateFrom_;
+        result.dateTo_ = dateTo_;
+        result.chunkSize_ = chunkSize_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.getDefaultInstance()) return this;
+        if (!other.getRib().isEmpty()) {
+          rib_ = other.rib_;
+          onChanged();
+        }
+        if (!other.getDateFrom().isEmpty()) {
+          dateFrom_ = other.dateFrom_;
+          onChanged();
+        }
+        if (!other.getDateTo().isEmpty()) {
+          dateTo_ = other.dateTo_;
+          onChanged();
+        }
+        if (other.getChunkSize() != 0) {
+          setChunkSize(other.getChunkSize());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object rib_ = "";
+      /**
+       * <code>string rib = 1;</code>
+       * @return The rib.
+       */
+      public java.lang.String getRib() {
+        java.lang.Object ref = rib_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          rib_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @return The bytes for rib.
+       */
+      public com.google.protobuf.ByteString
+          getRibBytes() {
+        java.lang.Object ref = rib_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rib_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @param value The rib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRib(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        rib_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRib() {
+        
+        rib_ = getDefaultInstance().getRib();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @param value The bytes for rib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRibBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        rib_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dateFrom_ = "";
+      /**
+       * <code>string dateFrom = 2;</code>
+       * @return The dateFrom.
+       */
+      public java.lang.String getDateFrom() {
+        java.lang.Object ref = dateFrom_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dateFrom_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dateFrom = 2;</code>
+       * @return The bytes for dateFrom.
+       */
+      public com.google.protobuf.ByteString
+          getDateFromBytes() {
+        java.lang.Object ref = dateFrom_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dateFrom_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dateFrom = 2;</code>
+       * @param value The dateFrom to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateFrom(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        dateFrom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateFrom = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDateFrom() {
+        
+        dateFrom_ = getDefaultInstance().getDateFrom();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateFrom = 2;</code>
+       * @param value The bytes for dateFrom to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateFromBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        dateFrom_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dateTo_ = "";
+      /**
+       * <code>string dateTo = 3;</code>
+       * @return The dateTo.
+       */
+      public java.lang.String getDateTo() {
+        java.lang.Object ref = dateTo_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dateTo_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dateTo = 3;</code>
+       * @return The bytes for dateTo.
+       */
+      public com.google.protobuf.ByteString
+          getDateToBytes() {
+        java.lang.Object ref = dateTo_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dateTo_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dateTo = 3;</code>
+       * @param value The dateTo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateTo(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        dateTo_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateTo = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDateTo() {
+        
+        dateTo_ = getDefaultInstance().getDateTo();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateTo = 3;</code>
+       * @param value The bytes for dateTo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateToBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        dateTo_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int chunkSize_ ;
+      /**
+       * <code>int32 chunkSize = 4;</code>
+       * @return The chunkSize.
+       */
+      public int getChunkSize() {
+        return chunkSize_;
+      }
+      /**
+       * <code>int32 chunkSize = 4;</code>
+       * @param value The chunkSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkSize(int value) {
+        
+        chunkSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 chunkSize = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkSize() {
+        
+        chunkSize_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:StreamTransactionsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:StreamTransactionsRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<StreamTransactionsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StreamTransactionsRequest>() {
+      @java.lang.Override
+      public StreamTransactionsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StreamTransactionsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StreamTransactionsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamTransactionsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransactionChunk)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> 
+        getTransactionList();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index);
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    int getTransactionCount();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+        getTransactionOrBuilderList();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code TransactionChunk}
+   */
+  public  static final class TransactionChunk extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TransactionChunk)
+      TransactionChunkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransactionChunk.newBuilder() to construct.
+    private TransactionChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransactionChunk() {
+      transaction_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransactionChunk();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransactionChunk(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transaction_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transaction_ = java.util.Collections.unmodifiableList(transaction_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionChunk_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionChunk_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.Builder.class);
+    }
+
+    public static final int TRANSACTION_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_;
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
+      return transaction_;
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+        getTransactionOrBuilderList() {
+      return transaction_;
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public int getTransactionCount() {
+      return transaction_.size();
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
+      return transaction_.get(index);
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+        int index) {
+      return transaction_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < transaction_.size(); i++) {
+        output.writeMessage(1, transaction_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transaction_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transaction_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk) obj;
+
+      if (!getTransactionList()
+          .equals(other.getTransactionList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransactionCount() > 0) {
+        hash = (37 * hash) + TRANSACTION_FIELD_NUMBER;
+        hash = (53 * hash) + getTransactionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TransactionChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TransactionChunk)
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionChunk_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransactionFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transactionBuilder_ == null) {
+          transaction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transactionBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionChunk_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk(this);
+        int from_bitField0_ = bitField0_;
+        if (transactionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transaction_ = java.util.Collections.unmodifiableList(transaction_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transaction_ = transaction_;
+        } else {
+          result.transaction_ = transactionBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.getDefaultInstance()) return this;
+        if (transactionBuilder_ == null) {
+          if (!other.transaction_.isEmpty()) {
+            if (transaction_.isEmpty()) {
+              transaction_ = other.transaction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransactionIsMutable();
+              transaction_.addAll(other.transaction_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transaction_.isEmpty()) {
+            if (transactionBuilder_.isEmpty()) {
+              transactionBuilder_.dispose();
+              transactionBuilder_ = null;
+              transaction_ = other.transaction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transactionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransactionFieldBuilder() : null;
+            } else {
+              transactionBuilder_.addAllMessages(other.transaction_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_ =
+        java.util.Collections.emptyList();
+      private void ensureTransactionIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>(transaction_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> transactionBuilder_;
+
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
+        if (transactionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transaction_);
+        } else {
+          return transactionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public int getTransactionCount() {
+        if (transactionBuilder_ == null) {
+          return transaction_.size();
+        } else {
+          return transactionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
+        if (transactionBuilder_ == null) {
+          return transaction_.get(index);
+        } else {
+          return transactionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder setTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.set(index, value);
+          onChanged();
+        } else {
+          transactionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder setTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.add(value);
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.add(index, value);
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addAllTransaction(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> values) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transaction_);
+          onChanged();
+        } else {
+          transactionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder clearTransaction() {
+        if (transactionBuilder_ == null) {
+          transaction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transactionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder removeTransaction(int index) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.remove(index);
+          onChanged();
+        } else {
+          transactionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder getTransactionBuilder(
+          int index) {
+        return getTransactionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+          int index) {
+        if (transactionBuilder_ == null) {
+          return transaction_.get(index);  } else {
+          return transactionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+           getTransactionOrBuilderList() {
+        if (transactionBuilder_ != null) {
+          return transactionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transaction_);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder() {
+        return getTransactionFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder(
+          int index) {
+        return getTransactionFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder> 
+           getTransactionBuilderList() {
+        return getTransactionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+          getTransactionFieldBuilder() {
+        if (transactionBuilder_ == null) {
+          transactionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder>(
+                  transaction_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transaction_ = null;
+        }
+        return transactionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TransactionChunk)
+    }
+
+    // @@protoc_insertion_point(class_scope:TransactionChunk)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionChunk>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionChunk>() {
+      @java.lang.Override
+      public TransactionChunk parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionChunk(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransactionChunk> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionChunk> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BankAccountChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BankAccountChunk)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> 
+        getBankAccountList();
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount(int index);
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    int getBankAccountCount();
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
+        getBankAccountOrBuilderList();
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code BankAccountChunk}
+   */
+  public  static final class BankAccountChunk extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:BankAccountChunk)
+      BankAccountChunkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BankAccountChunk.newBuilder() to construct.
+    private BankAccountChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BankAccountChunk() {
+      bankAccount_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BankAccountChunk();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BankAccountChunk(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                bankAccount_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              bankAccount_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          bankAccount_ = java.util.Collections.unmodifiableList(bankAccount_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BankAccountChunk_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BankAccountChunk_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.class, ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.Builder.class);
+    }
+
+    public static final int BANKACCOUNT_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> bankAccount_;
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> getBankAccountList() {
+      return bankAccount_;
+    }
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
+        getBankAccountOrBuilderList() {
+      return bankAccount_;
+    }
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    public int getBankAccountCount() {
+      return bankAccount_.size();
+    }
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount(int index) {
+      return bankAccount_.get(index);
+    }
+    /**
+     * <code>repeated .BankAccountDto bankAccount = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder(
+        int index) {
+      return bankAccount_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < bankAccount_.size(); i++) {
+        output.writeMessage(1, bankAccount_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < bankAccount_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, bankAccount_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk other = (ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk) obj;
+
+      if (!getBankAccountList()
+          .equals(other.getBankAccountList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getBankAccountCount() > 0) {
+        hash = (37 * hash) + BANKACCOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getBankAccountList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BankAccountChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:BankAccountChunk)
+        ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BankAccountChunk_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BankAccountChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.class, ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBankAccountFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (bankAccountBuilder_ == null) {
+          bankAccount_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          bankAccountBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_BankAccountChunk_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk build() {
+        ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk result = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk(this);
+        int from_bitField0_ = bitField0_;
+        if (bankAccountBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            bankAccount_ = java.util.Collections.unmodifiableList(bankAccount_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.bankAccount_ = bankAccount_;
+        } else {
+          result.bankAccount_ = bankAccountBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.getDefaultInstance()) return this;
+        if (bankAccountBuilder_ == null) {
+          if (!other.bankAccount_.isEmpty()) {
+            if (bankAccount_.isEmpty()) {
+              bankAccount_ = other.bankAccount_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureBankAccountIsMutable();
+              bankAccount_.addAll(other.bankAccount_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.bankAccount_.isEmpty()) {
+            if (bankAccountBuilder_.isEmpty()) {
+              bankAccountBuilder_.dispose();
+              bankAccountBuilder_ = null;
+              bankAccount_ = other.bankAccount_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              bankAccountBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBankAccountFieldBuilder() : null;
+            } else {
+              bankAccountBuilder_.addAllMessages(other.bankAccount_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> bankAccount_ =
+        java.util.Collections.emptyList();
+      private void ensureBankAccountIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          bankAccount_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto>(bankAccount_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> bankAccountBuilder_;
+
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> getBankAccountList() {
+        if (bankAccountBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(bankAccount_);
+        } else {
+          return bankAccountBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public int getBankAccountCount() {
+        if (bankAccountBuilder_ == null) {
+          return bankAccount_.size();
+        } else {
+          return bankAccountBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto getBankAccount(int index) {
+        if (bankAccountBuilder_ == null) {
+          return bankAccount_.get(index);
+        } else {
+          return bankAccountBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder setBankAccount(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
+        if (bankAccountBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBankAccountIsMutable();
+          bankAccount_.set(index, value);
+          onChanged();
+        } else {
+          bankAccountBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder setBankAccount(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder builderForValue) {
+        if (bankAccountBuilder_ == null) {
+          ensureBankAccountIsMutable();
+          bankAccount_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          bankAccountBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder addBankAccount(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
+        if (bankAccountBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBankAccountIsMutable();
+          bankAccount_.add(value);
+          onChanged();
+        } else {
+          bankAccountBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder addBankAccount(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto value) {
+        if (bankAccountBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBankAccountIsMutable();
+          bankAccount_.add(index, value);
+          onChanged();
+        } else {
+          bankAccountBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder addBankAccount(
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder builderForValue) {
+        if (bankAccountBuilder_ == null) {
+          ensureBankAccountIsMutable();
+          bankAccount_.add(builderForValue.build());
+          onChanged();
+        } else {
+          bankAccountBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder addBankAccount(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder builderForValue) {
+        if (bankAccountBuilder_ == null) {
+          ensureBankAccountIsMutable();
+          bankAccount_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          bankAccountBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder addAllBankAccount(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> values) {
+        if (bankAccountBuilder_ == null) {
+          ensureBankAccountIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, bankAccount_);
+          onChanged();
+        } else {
+          bankAccountBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder clearBankAccount() {
+        if (bankAccountBuilder_ == null) {
+          bankAccount_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          bankAccountBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public Builder removeBankAccount(int index) {
+        if (bankAccountBuilder_ == null) {
+          ensureBankAccountIsMutable();
+          bankAccount_.remove(index);
+          onChanged();
+        } else {
+          bankAccountBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder getBankAccountBuilder(
+          int index) {
+        return getBankAccountFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder(
+          int index) {
+        if (bankAccountBuilder_ == null) {
+          return bankAccount_.get(index);  } else {
+          return bankAccountBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
+           getBankAccountOrBuilderList() {
+        if (bankAccountBuilder_ != null) {
+          return bankAccountBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(bankAccount_);
+        }
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder addBankAccountBuilder() {
+        return getBankAccountFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder addBankAccountBuilder(
+          int index) {
+        return getBankAccountFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .BankAccountDto bankAccount = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder> 
+           getBankAccountBuilderList() {
+        return getBankAccountFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
+          getBankAccountFieldBuilder() {
+        if (bankAccountBuilder_ == null) {
+          bankAccountBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder>(
+                  bankAccount_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          bankAccount_ = null;
+        }
+        return bankAccountBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BankAccountChunk)
+    }
+
+    // @@protoc_insertion_point(class_scope:BankAccountChunk)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BankAccountChunk>
+        PARSER = new com.google.protobuf.AbstractParser<BankAccountChunk>() {
+      @java.lang.Override
+      public BankAccountChunk parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BankAccountChunk(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BankAccountChunk> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BankAccountChunk> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CustomerChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CustomerChunk)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> 
+        getCustomersList();
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO getCustomers(int index);
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    int getCustomersCount();
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder> 
+        getCustomersOrBuilderList();
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder getCustomersOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code CustomerChunk}
+   */
+  public  static final class CustomerChunk extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CustomerChunk)
+      CustomerChunkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CustomerChunk.newBuilder() to construct.
+    private CustomerChunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CustomerChunk() {
+      customers_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CustomerChunk();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CustomerChunk(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                customers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              customers_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          customers_ = java.util.Collections.unmodifiableList(customers_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_CustomerChunk_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_CustomerChunk_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.class, ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.Builder.class);
+    }
+
+    public static final int CUSTOMERS_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> customers_;
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> getCustomersList() {
+      return customers_;
+    }
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder> 
+        getCustomersOrBuilderList() {
+      return customers_;
+    }
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    public int getCustomersCount() {
+      return customers_.size();
+    }
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO getCustomers(int index) {
+      return customers_.get(index);
+    }
+    /**
+     * <code>repeated .CustomerDTO customers = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder getCustomersOrBuilder(
+        int index) {
+      return customers_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < customers_.size(); i++) {
+        output.writeMessage(1, customers_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < customers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, customers_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk other = (ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk) obj;
+
+      if (!getCustomersList()
+          .equals(other.getCustomersList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getCustomersCount() > 0) {
+        hash = (37 * hash) + CUSTOMERS_FIELD_NUMBER;
+        hash = (53 * hash) + getCustomersList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CustomerChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CustomerChunk)
+        ma.formations.multiconnector.grpc.stub.Bank.CustomerChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_CustomerChunk_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_CustomerChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.class, ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getCustomersFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (customersBuilder_ == null) {
+          customers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          customersBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_CustomerChunk_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk build() {
+        ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk result = new ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk(this);
+        int from_bitField0_ = bitField0_;
+        if (customersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            customers_ = java.util.Collections.unmodifiableList(customers_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
-          onChanged();
+          result.customers_ = customers_;
         } else {
-          bankAccountBuilder_.mergeFrom(value);
+          result.customers_ = customersBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.getDefaultInstance()) return this;
+        if (customersBuilder_ == null) {
+          if (!other.customers_.isEmpty()) {
+            if (customers_.isEmpty()) {
+              customers_ = other.customers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCustomersIsMutable();
+              customers_.addAll(other.customers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.customers_.isEmpty()) {
+            if (customersBuilder_.isEmpty()) {
+              customersBuilder_.dispose();
+              customersBuilder_ = null;
+              customers_ = other.customers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              customersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCustomersFieldBuilder() : null;
+            } else {
+              customersBuilder_.addAllMessages(other.customers_);
+            }
+          }
         }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
 
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> customers_ =
+        java.util.Collections.emptyList();
+      private void ensureCustomersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          customers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO>(customers_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder> customersBuilder_;
+
       /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public Builder clearBankAccount() {
-        if (bankAccountBuilder_ == null) {
-          bankAccount_ = null;
-          onChanged();
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> getCustomersList() {
+        if (customersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(customers_);
         } else {
-          bankAccount_ = null;
-          bankAccountBuilder_ = null;
+          return customersBuilder_.getMessageList();
         }
-
-        return this;
       }
       /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder getBankAccountBuilder() {
-        
-        onChanged();
-        return getBankAccountFieldBuilder().getBuilder();
+      public int getCustomersCount() {
+        if (customersBuilder_ == null) {
+          return customers_.size();
+        } else {
+          return customersBuilder_.getCount();
+        }
       }
       /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder() {
-        if (bankAccountBuilder_ != null) {
-          return bankAccountBuilder_.getMessageOrBuilder();
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO getCustomers(int index) {
+        if (customersBuilder_ == null) {
+          return customers_.get(index);
         } else {
-          return bankAccount_ == null ?
-              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance() : bankAccount_;
+          return customersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CustomerDTO customers = 1;</code>
+       */
+      public Builder setCustomers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO value) {
+        if (customersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCustomersIsMutable();
+          customers_.set(index, value);
+          onChanged();
+        } else {
+          customersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CustomerDTO customers = 1;</code>
+       */
+      public Builder setCustomers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder builderForValue) {
+        if (customersBuilder_ == null) {
+          ensureCustomersIsMutable();
+          customers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          customersBuilder_.setMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>.BankAccountDto bankAccount = 4;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder> 
-          getBankAccountFieldBuilder() {
-        if (bankAccountBuilder_ == null) {
-          bankAccountBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder>(
-                  getBankAccount(),
-                  getParentForChildren(),
-                  isClean());
-          bankAccount_ = null;
+      public Builder addCustomers(ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO value) {
+        if (customersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCustomersIsMutable();
+          customers_.add(value);
+          onChanged();
+        } else {
+          customersBuilder_.addMessage(value);
         }
-        return bankAccountBuilder_;
+        return this;
       }
-
-      private ma.formations.multiconnector.grpc.stub.Bank.UserDto user_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder> userBuilder_;
       /**
-       * <code>.UserDto user = 5;</code>
-       * @return Whether the user field is set.
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public boolean hasUser() {
-        return userBuilder_ != null || user_ != null;
+      public Builder addCustomers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO value) {
+        if (customersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCustomersIsMutable();
+          customers_.add(index, value);
+          onChanged();
+        } else {
+          customersBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
-       * @return The user.
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDto getUser() {
-        if (userBuilder_ == null) {
-          return user_ == null ? ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
+      public Builder addCustomers(
+          ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder builderForValue) {
+        if (customersBuilder_ == null) {
+          ensureCustomersIsMutable();
+          customers_.add(builderForValue.build());
+          onChanged();
         } else {
-          return userBuilder_.getMessage();
+          customersBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public Builder setUser(ma.formations.multiconnector.grpc.stub.Bank.UserDto value) {
-        if (userBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          user_ = value;
+      public Builder addCustomers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder builderForValue) {
+        if (customersBuilder_ == null) {
+          ensureCustomersIsMutable();
+          customers_.add(index, builderForValue.build());
           onChanged();
         } else {
-          userBuilder_.setMessage(value);
+          customersBuilder_.addMessage(index, builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public Builder setUser(
-          ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder builderForValue) {
-        if (userBuilder_ == null) {
-          user_ = builderForValue.build();
+      public Builder addAllCustomers(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO> values) {
+        if (customersBuilder_ == null) {
+          ensureCustomersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, customers_);
           onChanged();
         } else {
-          userBuilder_.setMessage(builderForValue.build());
+          customersBuilder_.addAllMessages(values);
         }
-
         return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public Builder mergeUser(ma.formations.multiconnector.grpc.stub.Bank.UserDto value) {
-        if (userBuilder_ == null) {
-          if (user_ != null) {
-            user_ =
-              ma.formations.multiconnector.grpc.stub.Bank.UserDto.newBuilder(user_).mergeFrom(value).buildPartial();
-          } else {
-            user_ = value;
-          }
+      public Builder clearCustomers() {
+        if (customersBuilder_ == null) {
+          customers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          userBuilder_.mergeFrom(value);
+          customersBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public Builder clearUser() {
-        if (userBuilder_ == null) {
-          user_ = null;
+      public Builder removeCustomers(int index) {
+        if (customersBuilder_ == null) {
+          ensureCustomersIsMutable();
+          customers_.remove(index);
           onChanged();
         } else {
-          user_ = null;
-          userBuilder_ = null;
+          customersBuilder_.remove(index);
         }
-
         return this;
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder getUserBuilder() {
-        
-        onChanged();
-        return getUserFieldBuilder().getBuilder();
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder getCustomersBuilder(
+          int index) {
+        return getCustomersFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder getUserOrBuilder() {
-        if (userBuilder_ != null) {
-          return userBuilder_.getMessageOrBuilder();
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder getCustomersOrBuilder(
+          int index) {
+        if (customersBuilder_ == null) {
+          return customers_.get(index);  } else {
+          return customersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CustomerDTO customers = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder> 
+           getCustomersOrBuilderList() {
+        if (customersBuilder_ != null) {
+          return customersBuilder_.getMessageOrBuilderList();
         } else {
-          return user_ == null ?
-              ma.formations.multiconnector.grpc.stub.Bank.UserDto.getDefaultInstance() : user_;
+          return java.util.Collections.unmodifiableList(customers_);
         }
       }
       /**
-       * <code>.UserDto user = 5;</code>
+       * <code>repeated .CustomerDTO customers = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder> 
-          getUserFieldBuilder() {
-        if (userBuilder_ == null) {
-          userBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              ma.formations.multiconnector.grpc.stub.Bank.UserDto, ma.formations.multiconnector.grpc.stub.Bank.UserDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.UserDtoOrBuilder>(
-                  getUser(),
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder addCustomersBuilder() {
+        return getCustomersFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CustomerDTO customers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder addCustomersBuilder(
+          int index) {
+        return getCustomersFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CustomerDTO customers = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder> 
+           getCustomersBuilderList() {
+        return getCustomersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder> 
+          getCustomersFieldBuilder() {
+        if (customersBuilder_ == null) {
+          customersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.Builder, ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder>(
+                  customers_,
+                  ((bitField0_ & 0x00000001) != 0),
                   getParentForChildren(),
                   isClean());
-          user_ = null;
+          customers_ = null;
         }
-        return userBuilder_;
+        return customersBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -19480,41 +29843,41 @@ public final class Bank {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:TransactionDto)
+      // @@protoc_insertion_point(builder_scope:CustomerChunk)
     }
 
-    // @@protoc_insertion_point(class_scope:TransactionDto)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionDto DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:CustomerChunk)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionDto();
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk();
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstance() {
+    public static ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<TransactionDto>
-        PARSER = new com.google.protobuf.AbstractParser<TransactionDto>() {
+    private static final com.google.protobuf.Parser<CustomerChunk>
+        PARSER = new com.google.protobuf.AbstractParser<CustomerChunk>() {
       @java.lang.Override
-      public TransactionDto parsePartialFrom(
+      public CustomerChunk parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new TransactionDto(input, extensionRegistry);
+        return new CustomerChunk(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<TransactionDto> parser() {
+    public static com.google.protobuf.Parser<CustomerChunk> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<TransactionDto> getParserForType() {
+    public com.google.protobuf.Parser<CustomerChunk> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getDefaultInstanceForType() {
+    public ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -19635,6 +29998,36 @@ public final class Bank {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetTransactionsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransactionHistoryResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransactionHistoryResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransactionEdge_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransactionEdge_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransferLeg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransferLeg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchTransferRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchTransferRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchTransferItemResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchTransferItemResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BatchTransferResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BatchTransferResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_UserDto_descriptor;
   private static final 
@@ -19645,6 +30038,31 @@ public final class Bank {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_TransactionDto_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StreamRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamTransactionsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StreamTransactionsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransactionChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransactionChunk_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BankAccountChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_BankAccountChunk_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerChunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerChunk_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -19675,7 +30093,7 @@ public final class Bank {
       "O\",\n\025DeleteCustomerRequest\022\023\n\013identityRe" +
       "f\030\001 \001(\t\")\n\026DeleteCustomerResponse\022\017\n\007mes" +
       "sage\030\001 \001(\t\"\203\001\n\016BankAccountDto\022\n\n\002id\030\001 \001(" +
-      "\003\022\013\n\003rib\030\002 \001(\t\022\016\n\006amount\030\003 \001(\001\022\021\n\tcreate" +
+      "\003\022\013\n\003rib\030\002 \001(\t\022\016\n\006amount\030\003 \001(\003\022\021\n\tcreate" +
       "dAt\030\004 \001(\t\022\025\n\raccountStatus\030\005 \001(\t\022\036\n\010cust" +
       "omer\030\006 \001(\0132\014.CustomerDTO\"\025\n\023BankAccounts" +
       "Request\"<\n\024BankAccountsResponse\022$\n\013bankA" +
@@ -19683,43 +30101,77 @@ public final class Bank {
       "ountByRibRequest\022\013\n\003rib\030\001 \001(\t\"@\n\030BankAcc" +
       "ountByRibResponse\022$\n\013bankAccount\030\001 \001(\0132\017" +
       ".BankAccountDto\"Q\n\025AddBankAccountRequest" +
-      "\022\013\n\003rib\030\001 \001(\t\022\016\n\006amount\030\002 \001(\001\022\033\n\023custome" +
+      "\022\013\n\003rib\030\001 \001(\t\022\016\n\006amount\030\002 \001(\003\022\033\n\023custome" +
       "rIdentityRef\030\003 \001(\t\"O\n\026AddBankAccountResp" +
       "onse\022\017\n\007message\030\001 \001(\t\022$\n\013bankAccount\030\002 \001" +
-      "(\0132\017.BankAccountDto\"[\n\027AddWirerTransferR" +
+      "(\0132\017.BankAccountDto\"s\n\027AddWirerTransferR" +
       "equest\022\017\n\007ribFrom\030\001 \001(\t\022\r\n\005ribTo\030\002 \001(\t\022\016" +
-      "\n\006amount\030\003 \001(\001\022\020\n\010username\030\004 \001(\t\"}\n\030AddW" +
-      "irerTransferResponse\022\017\n\007message\030\001 \001(\t\022(\n" +
-      "\017transactionFrom\030\002 \001(\0132\017.TransactionDto\022" +
-      "&\n\rtransactionTo\030\003 \001(\0132\017.TransactionDto\"" +
-      "G\n\026GetTransactionsRequest\022\013\n\003rib\030\001 \001(\t\022\016" +
-      "\n\006dateTo\030\002 \001(\t\022\020\n\010dateFrom\030\003 \001(\t\"?\n\027GetT" +
-      "ransactionsResponse\022$\n\013transaction\030\001 \003(\013" +
-      "2\017.TransactionDto\"@\n\007UserDto\022\020\n\010username" +
-      "\030\001 \001(\t\022\021\n\tfirstname\030\002 \001(\t\022\020\n\010lastname\030\003 " +
-      "\001(\t\"\212\001\n\016TransactionDto\022\021\n\tcreatedAt\030\001 \001(" +
-      "\t\022\027\n\017transactionType\030\002 \001(\t\022\016\n\006amount\030\003 \001" +
-      "(\001\022$\n\013bankAccount\030\004 \001(\0132\017.BankAccountDto" +
-      "\022\026\n\004user\030\005 \001(\0132\010.UserDto2\261\005\n\013BankService" +
-      "\0222\n\tcustomers\022\021.CustomersRequest\032\022.Custo" +
-      "mersResponse\022M\n\022customerByIdentity\022\032.Cus" +
-      "tomerByIdentityRequest\032\033.CustomerByIdent" +
-      "ityResponse\022A\n\016createCustomer\022\026.CreateCu" +
-      "stomerRequest\032\027.CreateCustomerResponse\022A" +
-      "\n\016updateCustomer\022\026.UpdateCustomerRequest" +
-      "\032\027.UpdateCustomerResponse\022A\n\016deleteCusto" +
-      "mer\022\026.DeleteCustomerRequest\032\027.DeleteCust" +
-      "omerResponse\022;\n\014bankAccounts\022\024.BankAccou" +
-      "ntsRequest\032\025.BankAccountsResponse\022G\n\020ban" +
-      "kAccountByRib\022\030.BankAccountByRibRequest\032" +
-      "\031.BankAccountByRibResponse\022A\n\016addBankAcc" +
-      "ount\022\026.AddBankAccountRequest\032\027.AddBankAc" +
-      "countResponse\022G\n\020addWirerTransfer\022\030.AddW" +
-      "irerTransferRequest\032\031.AddWirerTransferRe" +
-      "sponse\022D\n\017getTransactions\022\027.GetTransacti" +
-      "onsRequest\032\030.GetTransactionsResponseB(\n&" +
-      "ma.formations.multiconnector.grpc.stubb\006" +
-      "proto3"
+      "\n\006amount\030\003 \001(\003\022\020\n\010username\030\004 \001(\t\022\026\n\016idem" +
+      "potencyKey\030\005 \001(\t\"}\n\030AddWirerTransferResp" +
+      "onse\022\017\n\007message\030\001 \001(\t\022(\n\017transactionFrom" +
+      "\030\002 \001(\0132\017.TransactionDto\022&\n\rtransactionTo" +
+      "\030\003 \001(\0132\017.TransactionDto\"x\n\026GetTransactio" +
+      "nsRequest\022\013\n\003rib\030\001 \001(\t\022\016\n\006dateTo\030\002 \001(\t\022\020" +
+      "\n\010dateFrom\030\003 \001(\t\022\016\n\006cursor\030\004 \001(\t\022\014\n\004size" +
+      "\030\005 \001(\005\022\021\n\twithTotal\030\006 \001(\010\"?\n\027GetTransact" +
+      "ionsResponse\022$\n\013transaction\030\001 \003(\0132\017.Tran" +
+      "sactionDto\"v\n\032TransactionHistoryResponse" +
+      "\022\037\n\005edges\030\001 \003(\0132\020.TransactionEdge\022\022\n\nnex" +
+      "tCursor\030\002 \001(\t\022\017\n\007hasNext\030\003 \001(\010\022\022\n\ntotalC" +
+      "ount\030\004 \001(\003\"@\n\017TransactionEdge\022\035\n\004node\030\001 " +
+      "\001(\0132\017.TransactionDto\022\016\n\006cursor\030\002 \001(\t\"W\n\013" +
+      "TransferLeg\022\021\n\tsourceRib\030\001 \001(\t\022\026\n\016destin" +
+      "ationRib\030\002 \001(\t\022\016\n\006amount\030\003 \001(\003\022\r\n\005motif\030" +
+      "\004 \001(\t\"o\n\024BatchTransferRequest\022\037\n\ttransfe" +
+      "rs\030\001 \003(\0132\014.TransferLeg\022\014\n\004mode\030\002 \001(\t\022\020\n\010" +
+      "username\030\003 \001(\t\022\026\n\016idempotencyKey\030\004 \001(\t\"\203" +
+      "\001\n\027BatchTransferItemResult\022\r\n\005index\030\001 \001(" +
+      "\005\022\017\n\007success\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\022\032\n\022d" +
+      "ebitTransactionId\030\004 \001(\003\022\033\n\023creditTransac" +
+      "tionId\030\005 \001(\003\"\207\001\n\025BatchTransferResponse\022\017" +
+      "\n\007success\030\001 \001(\010\022\017\n\007message\030\002 \001(\t\022\021\n\tsucc" +
+      "eeded\030\003 \001(\005\022\016\n\006failed\030\004 \001(\005\022)\n\007results\030\005" +
+      " \003(\0132\030.BatchTransferItemResult\"@\n\007UserDt" +
+      "o\022\020\n\010username\030\001 \001(\t\022\021\n\tfirstname\030\002 \001(\t\022\020" +
+      "\n\010lastname\030\003 \001(\t\"\226\001\n\016TransactionDto\022\021\n\tc" +
+      "reatedAt\030\001 \001(\t\022\027\n\017transactionType\030\002 \001(\t\022" +
+      "\016\n\006amount\030\003 \001(\003\022$\n\013bankAccount\030\004 \001(\0132\017.B" +
+      "ankAccountDto\022\026\n\004user\030\005 \001(\0132\010.UserDto\022\n\n" +
+      "\002id\030\006 \001(\003\"\"\n\rStreamRequest\022\021\n\tchunkSize\030" +
+      "\001 \001(\005\"]\n\031StreamTransactionsRequest\022\013\n\003ri" +
+      "b\030\001 \001(\t\022\020\n\010dateFrom\030\002 \001(\t\022\016\n\006dateTo\030\003 \001(" +
+      "\t\022\021\n\tchunkSize\030\004 \001(\005\"8\n\020TransactionChunk" +
+      "\022$\n\013transaction\030\001 \003(\0132\017.TransactionDto\"8" +
+      "\n\020BankAccountChunk\022$\n\013bankAccount\030\001 \003(\0132" +
+      "\017.BankAccountDto\"0\n\rCustomerChunk\022\037\n\tcus" +
+      "tomers\030\001 \003(\0132\014.CustomerDTO2\364\007\n\013BankServi" +
+      "ce\0222\n\tcustomers\022\021.CustomersRequest\032\022.Cus" +
+      "tomersResponse\022M\n\022customerByIdentity\022\032.C" +
+      "ustomerByIdentityRequest\032\033.CustomerByIde" +
+      "ntityResponse\022A\n\016createCustomer\022\026.Create" +
+      "CustomerRequest\032\027.CreateCustomerResponse" +
+      "\022A\n\016updateCustomer\022\026.UpdateCustomerReque" +
+      "st\032\027.UpdateCustomerResponse\022A\n\016deleteCus" +
+      "tomer\022\026.DeleteCustomerRequest\032\027.DeleteCu" +
+      "stomerResponse\022;\n\014bankAccounts\022\024.BankAcc" +
+      "ountsRequest\032\025.BankAccountsResponse\022G\n\020b" +
+      "ankAccountByRib\022\030.BankAccountByRibReques" +
+      "t\032\031.BankAccountByRibResponse\022A\n\016addBankA" +
+      "ccount\022\026.AddBankAccountRequest\032\027.AddBank" +
+      "AccountResponse\022G\n\020addWirerTransfer\022\030.Ad" +
+      "dWirerTransferRequest\032\031.AddWirerTransfer" +
+      "Response\022D\n\017getTransactions\022\027.GetTransac" +
+      "tionsRequest\032\030.GetTransactionsResponse\022J" +
+      "\n\022transactionHistory\022\027.GetTransactionsRe" +
+      "quest\032\033.TransactionHistoryResponse\022>\n\rba" +
+      "tchTransfer\022\025.BatchTransferRequest\032\026.Bat" +
+      "chTransferResponse\022E\n\022streamTransactions" +
+      "\022\032.StreamTransactionsRequest\032\021.Transacti" +
+      "onChunk0\001\0229\n\022streamBankAccounts\022\016.Stream" +
+      "Request\032\021.BankAccountChunk0\001\0223\n\017streamCu" +
+      "stomers\022\016.StreamRequest\032\016.CustomerChunk0" +
+      "\001B(\n&ma.formations.multiconnector.grpc.s" +
+      "tubb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -19844,7 +30296,7 @@ public final class Bank {
     internal_static_AddWirerTransferRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AddWirerTransferRequest_descriptor,
-        new java.lang.String[] { "RibFrom", "RibTo", "Amount", "Username", });
+        new java.lang.String[] { "RibFrom", "RibTo", "Amount", "Username", "IdempotencyKey", });
     internal_static_AddWirerTransferResponse_descriptor =
       getDescriptor().getMessageTypes().get(20);
     internal_static_AddWirerTransferResponse_fieldAccessorTable = new
@@ -19856,25 +30308,91 @@ public final class Bank {
     internal_static_GetTransactionsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetTransactionsRequest_descriptor,
-        new java.lang.String[] { "Rib", "DateTo", "DateFrom", });
+        new java.lang.String[] { "Rib", "DateTo", "DateFrom", "Cursor", "Size", "WithTotal", });
     internal_static_GetTransactionsResponse_descriptor =
       getDescriptor().getMessageTypes().get(22);
     internal_static_GetTransactionsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetTransactionsResponse_descriptor,
         new java.lang.String[] { "Transaction", });
-    internal_static_UserDto_descriptor =
+    internal_static_TransactionHistoryResponse_descriptor =
       getDescriptor().getMessageTypes().get(23);
+    internal_static_TransactionHistoryResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransactionHistoryResponse_descriptor,
+        new java.lang.String[] { "Edges", "NextCursor", "HasNext", "TotalCount", });
+    internal_static_TransactionEdge_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_TransactionEdge_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransactionEdge_descriptor,
+        new java.lang.String[] { "Node", "Cursor", });
+    internal_static_TransferLeg_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_TransferLeg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransferLeg_descriptor,
+        new java.lang.String[] { "SourceRib", "DestinationRib", "Amount", "Motif", });
+    internal_static_BatchTransferRequest_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_BatchTransferRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchTransferRequest_descriptor,
+        new java.lang.String[] { "Transfers", "Mode", "Username", "IdempotencyKey", });
+    internal_static_BatchTransferItemResult_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_BatchTransferItemResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchTransferItemResult_descriptor,
+        new java.lang.String[] { "Index", "Success", "Message", "DebitTransactionId", "CreditTransactionId", });
+    internal_static_BatchTransferResponse_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_BatchTransferResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BatchTransferResponse_descriptor,
+        new java.lang.String[] { "Success", "Message", "Succeeded", "Failed", "Results", });
+    internal_static_UserDto_descriptor =
+      getDescriptor().getMessageTypes().get(29);
     internal_static_UserDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UserDto_descriptor,
         new java.lang.String[] { "Username", "Firstname", "Lastname", });
     internal_static_TransactionDto_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_TransactionDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TransactionDto_descriptor,
-        new java.lang.String[] { "CreatedAt", "TransactionType", "Amount", "BankAccount", "User", });
+        new java.lang.String[] { "CreatedAt", "TransactionType", "Amount", "BankAccount", "User", "Id", });
+    internal_static_StreamRequest_descriptor =
+      getDescriptor().getMessageTypes().get(31);
+    internal_static_StreamRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StreamRequest_descriptor,
+        new java.lang.String[] { "ChunkSize", });
+    internal_static_StreamTransactionsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(32);
+    internal_static_StreamTransactionsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StreamTransactionsRequest_descriptor,
+        new java.lang.String[] { "Rib", "DateFrom", "DateTo", "ChunkSize", });
+    internal_static_TransactionChunk_descriptor =
+      getDescriptor().getMessageTypes().get(33);
+    internal_static_TransactionChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransactionChunk_descriptor,
+        new java.lang.String[] { "Transaction", });
+    internal_static_BankAccountChunk_descriptor =
+      getDescriptor().getMessageTypes().get(34);
+    internal_static_BankAccountChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_BankAccountChunk_descriptor,
+        new java.lang.String[] { "BankAccount", });
+    internal_static_CustomerChunk_descriptor =
+      getDescriptor().getMessageTypes().get(35);
+    internal_static_CustomerChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerChunk_descriptor,
+        new java.lang.String[] { "Customers", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -1,4 +1,3 @@
-/*
 package ma.formations.multiconnector.grpc.stub;
 
 import static io.grpc.MethodDescriptor.generateFullMethodName;
@@ -16,6 +15,8 @@ import static io.grpc.stub.ServerCalls.asyncUnaryCall;
 import static io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall;
 import static io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall;
 
+/**
+ */
 @javax.annotation.Generated(
     value = "by gRPC proto compiler (version 1.15.0)",
     comments = "Source: bank.proto")
@@ -346,89 +347,298 @@ public final class BankServiceGrpc {
      return getGetTransactionsMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> getTransactionHistoryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "transactionHistory",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> getTransactionHistoryMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> getTransactionHistoryMethod;
+    if ((getTransactionHistoryMethod = BankServiceGrpc.getTransactionHistoryMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getTransactionHistoryMethod = BankServiceGrpc.getTransactionHistoryMethod) == null) {
+          BankServiceGrpc.getTransactionHistoryMethod = getTransactionHistoryMethod = 
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "BankService", "transactionHistory"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("transactionHistory"))
+                  .build();
+          }
+        }
+     }
+     return getTransactionHistoryMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> getBatchTransferMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "batchTransfer",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> getBatchTransferMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> getBatchTransferMethod;
+    if ((getBatchTransferMethod = BankServiceGrpc.getBatchTransferMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getBatchTransferMethod = BankServiceGrpc.getBatchTransferMethod) == null) {
+          BankServiceGrpc.getBatchTransferMethod = getBatchTransferMethod = 
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "BankService", "batchTransfer"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("batchTransfer"))
+                  .build();
+          }
+        }
+     }
+     return getBatchTransferMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> getStreamTransactionsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamTransactions",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> getStreamTransactionsMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> getStreamTransactionsMethod;
+    if ((getStreamTransactionsMethod = BankServiceGrpc.getStreamTransactionsMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamTransactionsMethod = BankServiceGrpc.getStreamTransactionsMethod) == null) {
+          BankServiceGrpc.getStreamTransactionsMethod = getStreamTransactionsMethod = 
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "BankService", "streamTransactions"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk.getDefaultInstance()))
+                  .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamTransactions"))
+                  .build();
+          }
+        }
+     }
+     return getStreamTransactionsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> getStreamBankAccountsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamBankAccounts",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> getStreamBankAccountsMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest, ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> getStreamBankAccountsMethod;
+    if ((getStreamBankAccountsMethod = BankServiceGrpc.getStreamBankAccountsMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamBankAccountsMethod = BankServiceGrpc.getStreamBankAccountsMethod) == null) {
+          BankServiceGrpc.getStreamBankAccountsMethod = getStreamBankAccountsMethod = 
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest, ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "BankService", "streamBankAccounts"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk.getDefaultInstance()))
+                  .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamBankAccounts"))
+                  .build();
+          }
+        }
+     }
+     return getStreamBankAccountsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> getStreamCustomersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamCustomers",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> getStreamCustomersMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest, ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> getStreamCustomersMethod;
+    if ((getStreamCustomersMethod = BankServiceGrpc.getStreamCustomersMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamCustomersMethod = BankServiceGrpc.getStreamCustomersMethod) == null) {
+          BankServiceGrpc.getStreamCustomersMethod = getStreamCustomersMethod = 
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.StreamRequest, ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "BankService", "streamCustomers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.StreamRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk.getDefaultInstance()))
+                  .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamCustomers"))
+                  .build();
+          }
+        }
+     }
+     return getStreamCustomersMethod;
+  }
 
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
   public static BankServiceStub newStub(io.grpc.Channel channel) {
     return new BankServiceStub(channel);
   }
 
-
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
   public static BankServiceBlockingStub newBlockingStub(
       io.grpc.Channel channel) {
     return new BankServiceBlockingStub(channel);
   }
 
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
   public static BankServiceFutureStub newFutureStub(
       io.grpc.Channel channel) {
     return new BankServiceFutureStub(channel);
   }
 
-
+  /**
+   */
   public static abstract class BankServiceImplBase implements io.grpc.BindableService {
 
-
+    /**
+     */
     public void customers(ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomersResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getCustomersMethod(), responseObserver);
     }
 
     /**
-
+     */
     public void customerByIdentity(ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getCustomerByIdentityMethod(), responseObserver);
     }
 
-
+    /**
+     */
     public void createCustomer(ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getCreateCustomerMethod(), responseObserver);
     }
 
-
+    /**
+     */
     public void updateCustomer(ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getUpdateCustomerMethod(), responseObserver);
     }
 
-
+    /**
+     */
     public void deleteCustomer(ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getDeleteCustomerMethod(), responseObserver);
     }
 
-
+    /**
+     */
     public void bankAccounts(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getBankAccountsMethod(), responseObserver);
     }
 
-
+    /**
+     */
     public void bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getBankAccountByRibMethod(), responseObserver);
     }
 
     /**
-
+     */
     public void addBankAccount(ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getAddBankAccountMethod(), responseObserver);
     }
 
     /**
-
+     */
     public void addWirerTransfer(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getAddWirerTransferMethod(), responseObserver);
     }
 
     /**
-
+     */
     public void getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> responseObserver) {
       asyncUnimplementedUnaryCall(getGetTransactionsMethod(), responseObserver);
     }
 
+    /**
+     */
+    public void transactionHistory(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getTransactionHistoryMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void batchTransfer(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getBatchTransferMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void streamTransactions(ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> responseObserver) {
+      asyncUnimplementedUnaryCall(getStreamTransactionsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void streamBankAccounts(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> responseObserver) {
+      asyncUnimplementedUnaryCall(getStreamBankAccountsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void streamCustomers(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> responseObserver) {
+      asyncUnimplementedUnaryCall(getStreamCustomersMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -501,12 +711,47 @@ public final class BankServiceGrpc {
                 ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
                 ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse>(
                   this, METHODID_GET_TRANSACTIONS)))
+          .addMethod(
+            getTransactionHistoryMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse>(
+                  this, METHODID_TRANSACTION_HISTORY)))
+          .addMethod(
+            getBatchTransferMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest,
+                ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse>(
+                  this, METHODID_BATCH_TRANSFER)))
+          .addMethod(
+            getStreamTransactionsMethod(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest,
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk>(
+                  this, METHODID_STREAM_TRANSACTIONS)))
+          .addMethod(
+            getStreamBankAccountsMethod(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+                ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk>(
+                  this, METHODID_STREAM_BANK_ACCOUNTS)))
+          .addMethod(
+            getStreamCustomersMethod(),
+            asyncServerStreamingCall(
+              new MethodHandlers<
+                ma.formations.multiconnector.grpc.stub.Bank.StreamRequest,
+                ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk>(
+                  this, METHODID_STREAM_CUSTOMERS)))
           .build();
     }
   }
 
   /**
-
+   */
   public static final class BankServiceStub extends io.grpc.stub.AbstractStub<BankServiceStub> {
     private BankServiceStub(io.grpc.Channel channel) {
       super(channel);
@@ -524,7 +769,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void customers(ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomersResponse> responseObserver) {
       asyncUnaryCall(
@@ -532,7 +777,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void customerByIdentity(ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityResponse> responseObserver) {
       asyncUnaryCall(
@@ -540,7 +785,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void createCustomer(ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerResponse> responseObserver) {
       asyncUnaryCall(
@@ -548,7 +793,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void updateCustomer(ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerResponse> responseObserver) {
       asyncUnaryCall(
@@ -556,7 +801,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void deleteCustomer(ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerResponse> responseObserver) {
       asyncUnaryCall(
@@ -564,7 +809,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void bankAccounts(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse> responseObserver) {
       asyncUnaryCall(
@@ -572,7 +817,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse> responseObserver) {
       asyncUnaryCall(
@@ -580,7 +825,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void addBankAccount(ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountResponse> responseObserver) {
       asyncUnaryCall(
@@ -588,7 +833,7 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void addWirerTransfer(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse> responseObserver) {
       asyncUnaryCall(
@@ -596,16 +841,56 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public void getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> responseObserver) {
       asyncUnaryCall(
           getChannel().newCall(getGetTransactionsMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void transactionHistory(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getTransactionHistoryMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void batchTransfer(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getBatchTransferMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamTransactions(ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getStreamTransactionsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamBankAccounts(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getStreamBankAccountsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void streamCustomers(ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> responseObserver) {
+      asyncServerStreamingCall(
+          getChannel().newCall(getStreamCustomersMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
-
+   */
   public static final class BankServiceBlockingStub extends io.grpc.stub.AbstractStub<BankServiceBlockingStub> {
     private BankServiceBlockingStub(io.grpc.Channel channel) {
       super(channel);
@@ -623,69 +908,116 @@ public final class BankServiceGrpc {
     }
 
     /**
-
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.CustomersResponse customers(ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest request) {
       return blockingUnaryCall(
           getChannel(), getCustomersMethod(), getCallOptions(), request);
     }
 
     /**
-
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityResponse customerByIdentity(ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityRequest request) {
       return blockingUnaryCall(
           getChannel(), getCustomerByIdentityMethod(), getCallOptions(), request);
     }
 
     /**
-
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerResponse createCustomer(ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerRequest request) {
       return blockingUnaryCall(
           getChannel(), getCreateCustomerMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerResponse updateCustomer(ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerRequest request) {
       return blockingUnaryCall(
           getChannel(), getUpdateCustomerMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerResponse deleteCustomer(ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerRequest request) {
       return blockingUnaryCall(
           getChannel(), getDeleteCustomerMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse bankAccounts(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request) {
       return blockingUnaryCall(
           getChannel(), getBankAccountsMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request) {
       return blockingUnaryCall(
           getChannel(), getBankAccountByRibMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountResponse addBankAccount(ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountRequest request) {
       return blockingUnaryCall(
           getChannel(), getAddBankAccountMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse addWirerTransfer(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest request) {
       return blockingUnaryCall(
           getChannel(), getAddWirerTransferMethod(), getCallOptions(), request);
     }
 
-
+    /**
+     */
     public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
       return blockingUnaryCall(
           getChannel(), getGetTransactionsMethod(), getCallOptions(), request);
     }
-  }
 
+    /**
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse transactionHistory(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getTransactionHistoryMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse batchTransfer(ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getBatchTransferMethod(), getCallOptions(), request);
+    }
 
+    /**
+     */
+    public java.util.Iterator<ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk> streamTransactions(
+        ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getStreamTransactionsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk> streamBankAccounts(
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getStreamBankAccountsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk> streamCustomers(
+        ma.formations.multiconnector.grpc.stub.Bank.StreamRequest request) {
+      return blockingServerStreamingCall(
+          getChannel(), getStreamCustomersMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
   public static final class BankServiceFutureStub extends io.grpc.stub.AbstractStub<BankServiceFutureStub> {
     private BankServiceFutureStub(io.grpc.Channel channel) {
       super(channel);
@@ -702,74 +1034,101 @@ public final class BankServiceGrpc {
       return new BankServiceFutureStub(channel, callOptions);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.CustomersResponse> customers(
         ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getCustomersMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityResponse> customerByIdentity(
         ma.formations.multiconnector.grpc.stub.Bank.CustomerByIdentityRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getCustomerByIdentityMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerResponse> createCustomer(
         ma.formations.multiconnector.grpc.stub.Bank.CreateCustomerRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getCreateCustomerMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerResponse> updateCustomer(
         ma.formations.multiconnector.grpc.stub.Bank.UpdateCustomerRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getUpdateCustomerMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerResponse> deleteCustomer(
         ma.formations.multiconnector.grpc.stub.Bank.DeleteCustomerRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getDeleteCustomerMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse> bankAccounts(
         ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getBankAccountsMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse> bankAccountByRib(
         ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getBankAccountByRibMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountResponse> addBankAccount(
         ma.formations.multiconnector.grpc.stub.Bank.AddBankAccountRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getAddBankAccountMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse> addWirerTransfer(
         ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getAddWirerTransferMethod(), getCallOptions()), request);
     }
 
-
+    /**
+     */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> getTransactions(
         ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
       return futureUnaryCall(
           getChannel().newCall(getGetTransactionsMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse> transactionHistory(
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getTransactionHistoryMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse> batchTransfer(
+        ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getBatchTransferMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CUSTOMERS = 0;
@@ -782,6 +1141,11 @@ public final class BankServiceGrpc {
   private static final int METHODID_ADD_BANK_ACCOUNT = 7;
   private static final int METHODID_ADD_WIRER_TRANSFER = 8;
   private static final int METHODID_GET_TRANSACTIONS = 9;
+  private static final int METHODID_TRANSACTION_HISTORY = 10;
+  private static final int METHODID_BATCH_TRANSFER = 11;
+  private static final int METHODID_STREAM_TRANSACTIONS = 12;
+  private static final int METHODID_STREAM_BANK_ACCOUNTS = 13;
+  private static final int METHODID_STREAM_CUSTOMERS = 14;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -840,6 +1204,26 @@ public final class BankServiceGrpc {
           serviceImpl.getTransactions((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) request,
               (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse>) responseObserver);
           break;
+        case METHODID_TRANSACTION_HISTORY:
+          serviceImpl.transactionHistory((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionHistoryResponse>) responseObserver);
+          break;
+        case METHODID_BATCH_TRANSFER:
+          serviceImpl.batchTransfer((ma.formations.multiconnector.grpc.stub.Bank.BatchTransferRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BatchTransferResponse>) responseObserver);
+          break;
+        case METHODID_STREAM_TRANSACTIONS:
+          serviceImpl.streamTransactions((ma.formations.multiconnector.grpc.stub.Bank.StreamTransactionsRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionChunk>) responseObserver);
+          break;
+        case METHODID_STREAM_BANK_ACCOUNTS:
+          serviceImpl.streamBankAccounts((ma.formations.multiconnector.grpc.stub.Bank.StreamRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountChunk>) responseObserver);
+          break;
+        case METHODID_STREAM_CUSTOMERS:
+          serviceImpl.streamCustomers((ma.formations.multiconnector.grpc.stub.Bank.StreamRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.CustomerChunk>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -911,6 +1295,11 @@ public final class BankServiceGrpc {
               .addMethod(getAddBankAccountMethod())
               .addMethod(getAddWirerTransferMethod())
               .addMethod(getGetTransactionsMethod())
+              .addMethod(getTransactionHistoryMethod())
+              .addMethod(getBatchTransferMethod())
+              .addMethod(getStreamTransactionsMethod())
+              .addMethod(getStreamBankAccountsMethod())
+              .addMethod(getStreamCustomersMethod())
               .build();
         }
       }
@@ -918,4 +1307,3 @@ public final class BankServiceGrpc {
     return result;
   }
 }
-*/
\ No newline at end of file
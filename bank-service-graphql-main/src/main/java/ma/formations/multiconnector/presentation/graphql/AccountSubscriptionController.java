@@ -0,0 +1,32 @@
+package ma.formations.multiconnector.presentation.graphql;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.service.event.AccountActivity;
+import ma.formations.multiconnector.service.event.AccountEventBus;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+
+/**
+ * Subscriptions over the GraphQL WebSocket endpoint, fed by the committed transfers.
+ * The bank account and the user of a posted transaction are resolved by the batch mappings when selected.
+ */
+@Controller
+@AllArgsConstructor
+public class AccountSubscriptionController {
+    private final AccountEventBus accountEventBus;
+
+    @SubscriptionMapping
+    Flux<AccountActivity> balanceChanged(@Argument String rib) {
+        return accountEventBus.subscribe(Set.of(rib));
+    }
+
+    @SubscriptionMapping
+    Flux<TransactionDto> transactionPosted(@Argument String rib) {
+        return accountEventBus.subscribe(Set.of(rib)).concatMapIterable(AccountActivity::transactions);
+    }
+}
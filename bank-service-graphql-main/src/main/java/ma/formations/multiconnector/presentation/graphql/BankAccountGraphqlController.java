@@ -4,27 +4,52 @@ import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
 import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
 @AllArgsConstructor
 public class BankAccountGraphqlController {
     private final IBankAccountService bankAccountService;
+    private final ICustomerService customerService;
 
     @QueryMapping
     List<BankAccountDto> bankAccounts() {
-        return bankAccountService.getAllBankAccounts();
+        return bankAccountService.getAllBankAccountsFlat();
     }
 
     @QueryMapping
     BankAccountDto bankAccountByRib(@Argument String rib) {
-        return bankAccountService.getBankAccountByRib(rib);
+        return bankAccountService.getBankAccountByRibFlat(rib);
+    }
+
+    /**
+     * Loads the customers of all the accounts of a response in one query, only when the query selects them.
+     */
+    @BatchMapping
+    public List<CustomerDto> customer(List<BankAccountDto> bankAccounts) {
+        List<Long> ids = bankAccounts.stream().
+                map(BankAccountDto::getCustomer).filter(Objects::nonNull).
+                map(CustomerDto::getId).filter(Objects::nonNull).distinct().
+                collect(Collectors.toList());
+        Map<Long, CustomerDto> customers = customerService.getCustomersByIds(ids).stream().
+                collect(Collectors.toMap(CustomerDto::getId, Function.identity()));
+        return bankAccounts.stream().
+                map(bankAccount -> bankAccount.getCustomer() == null ? null :
+                        customers.getOrDefault(bankAccount.getCustomer().getId(), bankAccount.getCustomer())).
+                collect(Collectors.toList());
     }
 
 
@@ -0,0 +1,167 @@
+package ma.formations.multiconnector.presentation.graphql;
+
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Automatic persisted queries (the Apollo protocol) in front of a bounded LRU cache of parsed and validated documents.
+ * <p>
+ * A client sends {@code extensions.persistedQuery.sha256Hash} without the query: it is served from the cache,
+ * or answered with {@code PersistedQueryNotFound} so that it sends the full text once, along with the hash.
+ * Plain requests are cached under the SHA-256 of their text, so each document is only parsed and validated once.
+ * <p>
+ * With {@code bank.graphql.persisted-queries.allowlist=true} only the operations registered under
+ * {@code bank.graphql.persisted-queries.location} are served, their hashes are logged at startup.
+ */
+@Component
+@Slf4j
+public class PersistedDocumentProvider implements PreparsedDocumentProvider {
+    private final Map<String, PreparsedDocumentEntry> cache;
+    private final Map<String, String> registered = new HashMap<>();
+    private final boolean allowlist;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notFound;
+    private final Counter rejected;
+
+    public PersistedDocumentProvider(@Value("${bank.graphql.documents.cache-size:1000}") int cacheSize,
+                                     @Value("${bank.graphql.persisted-queries.allowlist:false}") boolean allowlist,
+                                     @Value("${bank.graphql.persisted-queries.location:classpath*:graphql/persisted/*.graphql}") String location,
+                                     MeterRegistry meterRegistry) throws IOException {
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.allowlist = allowlist;
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String query = resource.getContentAsString(StandardCharsets.UTF_8);
+            String hash = sha256(query);
+            registered.put(hash, query);
+            log.info("Persisted GraphQL operation {} registered as {}", resource.getFilename(), hash);
+        }
+        this.hits = documentCounter("hit", meterRegistry);
+        this.misses = documentCounter("miss", meterRegistry);
+        this.notFound = documentCounter("not_found", meterRegistry);
+        this.rejected = documentCounter("rejected", meterRegistry);
+        Gauge.builder("bank.graphql.documents.cached", cache, documents -> {
+                    synchronized (documents) {
+                        return documents.size();
+                    }
+                })
+                .description("Parsed and validated GraphQL documents kept in memory")
+                .register(meterRegistry);
+    }
+
+    private static Counter documentCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("bank.graphql.documents")
+                .description("GraphQL document lookups by result, the hit rate is hit / (hit + miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+                                                                      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        return CompletableFuture.completedFuture(getDocument(executionInput, parseAndValidate));
+    }
+
+    private PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                               Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String query = executionInput.getQuery();
+        boolean hasQuery = query != null && !query.isBlank() && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+        String requestedHash = requestedHash(executionInput.getExtensions());
+        if (!hasQuery && requestedHash == null)
+            return parseAndValidate.apply(executionInput);
+        String hash = hasQuery ? sha256(query) : requestedHash.toLowerCase();
+        if (hasQuery && requestedHash != null && !requestedHash.equalsIgnoreCase(hash)) {
+            PersistedQueryIdInvalid invalid = new PersistedQueryIdInvalid(requestedHash);
+            return error(invalid, invalid.getExtensions());
+        }
+        if (allowlist && !registered.containsKey(hash)) {
+            rejected.increment();
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().
+                    errorType(ErrorType.ValidationError).
+                    message(String.format("the operation %s is not registered", hash)).
+                    build());
+        }
+
+        PreparsedDocumentEntry entry;
+        synchronized (cache) {
+            entry = cache.get(hash);
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        String text = hasQuery ? query : registered.get(hash);
+        if (text == null) {
+            notFound.increment();
+            PersistedQueryNotFound missing = new PersistedQueryNotFound(hash);
+            return error(missing, missing.getExtensions());
+        }
+        misses.increment();
+        entry = parseAndValidate.apply(hasQuery ? executionInput : executionInput.transform(builder -> builder.query(text)));
+        //Documents with syntax or validation errors are not kept, they would only evict the good ones
+        if (!entry.hasErrors()) {
+            synchronized (cache) {
+                cache.put(hash, entry);
+            }
+        }
+        return entry;
+    }
+
+    private static String requestedHash(Map<String, Object> extensions) {
+        if (extensions != null && extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get("sha256Hash") instanceof String hash)
+            return hash;
+        return null;
+    }
+
+    //The Apollo clients recognize these errors by their message, PersistedQueryNotFound makes them send the full text
+    private static PreparsedDocumentEntry error(PersistedQueryError error, Map<String, Object> extensions) {
+        GraphQLError graphQLError = GraphqlErrorBuilder.newError().
+                errorType(error).
+                message(error.getMessage()).
+                extensions(extensions).
+                build();
+        return new PreparsedDocumentEntry(graphQLError);
+    }
+
+    private static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash GraphQL document", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package ma.formations.multiconnector.presentation.graphql;
+
+import graphql.ExecutionResult;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryComplexityCalculator;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rejects the GraphQL operations that are too deep or too expensive before any data fetcher runs,
+ * and records the cost of every operation in {@code bank.graphql.query.cost}.
+ * <p>
+ * A field costs 1 plus the cost of its selection. A list field multiplies it by the number of elements
+ * it is expected to return: the {@code first} or {@code dto.size} argument of the field or of the
+ * connection it belongs to, otherwise {@code bank.graphql.cost.list-weight}.
+ * Introspection is free and is not limited in depth, GraphiQL needs it.
+ */
+@Component
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+    private final int maxDepth;
+    private final int maxCost;
+    private final int listWeight;
+    private final DistributionSummary acceptedCost;
+    private final DistributionSummary rejectedCost;
+
+    public QueryCostInstrumentation(@Value("${bank.graphql.max-depth:6}") int maxDepth,
+                                    @Value("${bank.graphql.cost.max:5000}") int maxCost,
+                                    @Value("${bank.graphql.cost.list-weight:20}") int listWeight,
+                                    MeterRegistry meterRegistry) {
+        this.maxDepth = maxDepth;
+        this.maxCost = maxCost;
+        this.listWeight = listWeight;
+        this.acceptedCost = costSummary("accepted", meterRegistry);
+        this.rejectedCost = costSummary("rejected", meterRegistry);
+    }
+
+    private static DistributionSummary costSummary(String outcome, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("bank.graphql.query.cost")
+                .description("Computed cost of the GraphQL operations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                         InstrumentationState state) {
+        ExecutionContext context = parameters.getExecutionContext();
+        String operationName = context.getOperationDefinition().getName();
+        int depth = QueryTraverser.newQueryTraverser().
+                schema(context.getGraphQLSchema()).
+                document(context.getDocument()).
+                operationName(operationName).
+                coercedVariables(context.getCoercedVariables()).
+                build().
+                reducePreOrder((field, max) -> Math.max(max, depth(field)), 0);
+        int cost = QueryComplexityCalculator.newCalculator().
+                fieldComplexityCalculator(this::fieldCost).
+                schema(context.getGraphQLSchema()).
+                document(context.getDocument()).
+                operationName(operationName).
+                variables(context.getCoercedVariables()).
+                build().
+                calculate();
+
+        if (depth > maxDepth) {
+            rejectedCost.record(cost);
+            throw new AbortExecutionException(String.format("the query depth %d exceeds the maximum of %d", depth, maxDepth));
+        }
+        if (cost > maxCost) {
+            rejectedCost.record(cost);
+            throw new AbortExecutionException(String.format("the query cost %d exceeds the budget of %d", cost, maxCost));
+        }
+        acceptedCost.record(cost);
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    private int fieldCost(FieldComplexityEnvironment field, int childCost) {
+        if (isIntrospection(field.getFieldDefinition().getName(), field.getParentType()))
+            return 0;
+        int cost = 1 + childCost;
+        return GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(field.getFieldDefinition().getType()))
+                ? cost * expectedSize(field)
+                : cost;
+    }
+
+    private int expectedSize(FieldComplexityEnvironment field) {
+        Integer size = sizeArgument(field.getArguments());
+        //The edges of a connection are sized by the arguments of the connection field
+        if (size == null && field.getParentEnvironment() != null)
+            size = sizeArgument(field.getParentEnvironment().getArguments());
+        return size == null ? listWeight : Math.max(size, 1);
+    }
+
+    private static Integer sizeArgument(Map<String, Object> arguments) {
+        if (arguments.get("first") instanceof Number first)
+            return first.intValue();
+        if (arguments.get("dto") instanceof Map<?, ?> dto && dto.get("size") instanceof Number size)
+            return size.intValue();
+        return null;
+    }
+
+    private static int depth(QueryVisitorFieldEnvironment field) {
+        int depth = 0;
+        for (QueryVisitorFieldEnvironment current = field; current != null; current = current.getParentEnvironment())
+            if (!isIntrospection(current.getFieldDefinition().getName(), current.getParentType()))
+                depth++;
+        return depth;
+    }
+
+    private static boolean isIntrospection(String fieldName, GraphQLType parentType) {
+        return fieldName.startsWith("__") ||
+                GraphQLTypeUtil.unwrapAll(parentType).getName().startsWith("__");
+    }
+}
@@ -0,0 +1,38 @@
+package ma.formations.multiconnector.presentation.graphql;
+
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
+
+import java.util.List;
+
+/**
+ * Relay connection over a {@link TransactionPage}, with the optional total count of the range.
+ */
+public class TransactionConnection extends DefaultConnection<TransactionDto> {
+
+    private final Long totalCount;
+
+    private TransactionConnection(List<Edge<TransactionDto>> edges, DefaultPageInfo pageInfo, Long totalCount) {
+        super(edges, pageInfo);
+        this.totalCount = totalCount;
+    }
+
+    public static TransactionConnection of(TransactionPage page) {
+        List<Edge<TransactionDto>> edges = page.getEdges().stream()
+                .<Edge<TransactionDto>>map(edge -> new DefaultEdge<>(edge.getNode(), new DefaultConnectionCursor(edge.getCursor())))
+                .toList();
+        ConnectionCursor start = edges.isEmpty() ? null : edges.get(0).getCursor();
+        ConnectionCursor end = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new TransactionConnection(edges, new DefaultPageInfo(start, end, false, page.isHasNext()), page.getTotalCount());
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+}
@@ -2,17 +2,29 @@ package ma.formations.multiconnector.presentation.graphql;
 
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.ITransferService;
+import ma.formations.multiconnector.service.IUserService;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
 @AllArgsConstructor
@@ -20,6 +32,9 @@ import java.util.List;
 public class TransactionGraphqlController {
 
     private ITransactionService transactionService;
+    private ITransferService transferService;
+    private IBankAccountService bankAccountService;
+    private IUserService userService;
     private CommonTools commonTools;
 
     @MutationMapping
@@ -27,8 +42,56 @@ public class TransactionGraphqlController {
         return transactionService.wiredTransfer(dto);
     }
 
+    @MutationMapping
+    public BatchTransferResponse batchTransfer(@Argument("dto") BatchTransferRequest dto) {
+        return transferService.executeBatch(dto, dto.getUsername());
+    }
+
     @QueryMapping
     public List<TransactionDto> getTransactions(@Argument GetTransactionListRequest dto) {
-        return transactionService.getTransactions(dto);
+        return transactionService.getTransactionsFlat(dto);
+    }
+
+    @QueryMapping
+    public TransactionConnection transactionHistory(@Argument GetTransactionListRequest dto,
+                                              @Argument Integer first, @Argument String after) {
+        GetTransactionListRequest request = dto != null ? dto : new GetTransactionListRequest();
+        if (first != null)
+            request.setSize(first);
+        if (after != null)
+            request.setCursor(after);
+        return TransactionConnection.of(transactionService.getTransactionPageFlat(request));
+    }
+
+    /*
+     * The account and the user of the transactions of a response are loaded with one query each,
+     * only when the query selects them; the customers of the accounts are batched by BankAccountGraphqlController.
+     */
+    @BatchMapping
+    public List<BankAccountDto> bankAccount(List<TransactionDto> transactions) {
+        List<Long> ids = transactions.stream().
+                map(TransactionDto::getBankAccount).filter(Objects::nonNull).
+                map(BankAccountDto::getId).filter(Objects::nonNull).distinct().
+                collect(Collectors.toList());
+        Map<Long, BankAccountDto> bankAccounts = bankAccountService.getBankAccountsByIds(ids).stream().
+                collect(Collectors.toMap(BankAccountDto::getId, Function.identity()));
+        return transactions.stream().
+                map(transaction -> transaction.getBankAccount() == null ? null :
+                        bankAccounts.getOrDefault(transaction.getBankAccount().getId(), transaction.getBankAccount())).
+                collect(Collectors.toList());
+    }
+
+    @BatchMapping
+    public List<UserDto> user(List<TransactionDto> transactions) {
+        List<Long> ids = transactions.stream().
+                map(TransactionDto::getUser).filter(Objects::nonNull).
+                map(UserDto::getId).filter(Objects::nonNull).distinct().
+                collect(Collectors.toList());
+        Map<Long, UserDto> users = userService.getUsersByIds(ids).stream().
+                collect(Collectors.toMap(UserDto::getId, Function.identity()));
+        return transactions.stream().
+                map(transaction -> transaction.getUser() == null ? null :
+                        users.getOrDefault(transaction.getUser().getId(), transaction.getUser())).
+                collect(Collectors.toList());
     }
 }
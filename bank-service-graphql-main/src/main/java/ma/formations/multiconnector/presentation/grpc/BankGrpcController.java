@@ -1,7 +1,10 @@
-/*package ma.formations.multiconnector.presentation.grpc;
+package ma.formations.multiconnector.presentation.grpc;
 
 import io.grpc.stub.StreamObserver;
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.common.TransactionCursor;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
@@ -10,14 +13,29 @@ import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferItemResult;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
+import ma.formations.multiconnector.dtos.transfer.TransferRequest;
+import ma.formations.multiconnector.enums.BatchMode;
 import ma.formations.multiconnector.grpc.stub.Bank;
 import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
 import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.ITransferService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.User;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 @Component
@@ -28,6 +46,11 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     private IBankAccountService bankAccountService;
     private ModelMapper modelMapper;
     private ITransactionService transactionService;
+    private ITransferService transferService;
+    private CommonTools commonTools;
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final int MAX_CHUNK_SIZE = 5000;
     @Override
     public void customers(Bank.CustomersRequest request, StreamObserver<Bank.CustomersResponse>
             responseObserver) {
@@ -92,7 +115,7 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
         Bank.BankAccountsResponse response = Bank.BankAccountsResponse.newBuilder().
                 addAllBankAccount(
                         bankAccounts.stream().
-                                map(bankAccount -> modelMapper.map(bankAccount, Bank.BankAccountDto.Builder.class).build()).
+                                map(this::toProto).
                                 collect(Collectors.toList())).
                 build();
         responseObserver.onNext(response);
@@ -103,7 +126,7 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
                                  StreamObserver<Bank.BankAccountByRibResponse> responseObserver) {
         BankAccountDto bankAccount = bankAccountService.getBankAccountByRib(request.getRib());
         Bank.BankAccountByRibResponse response = Bank.BankAccountByRibResponse.newBuilder().
-                setBankAccount(modelMapper.map(bankAccount, Bank.BankAccountDto.Builder.class).build()).
+                setBankAccount(toProto(bankAccount)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -112,10 +135,14 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     public void addBankAccount(Bank.AddBankAccountRequest request, StreamObserver<Bank.AddBankAccountResponse>
             responseObserver) {
         AddBankAccountResponse addBankAccountResponse = bankAccountService.saveBankAccount(
-                modelMapper.map(request, AddBankAccountRequest.class));
+                AddBankAccountRequest.builder().
+                        rib(request.getRib()).
+                        amount(Money.ofMinor(request.getAmount())).
+                        identityNumber(request.getCustomerIdentityRef()).
+                        build());
         Bank.AddBankAccountResponse response = Bank.AddBankAccountResponse.newBuilder().
                 setMessage(addBankAccountResponse.getMessage()).
-                setBankAccount(modelMapper.map(addBankAccountResponse, Bank.BankAccountDto.Builder.class).build()).
+                setBankAccount(toProto(modelMapper.map(addBankAccountResponse, BankAccountDto.class))).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -124,12 +151,17 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     public void addWirerTransfer(Bank.AddWirerTransferRequest request,
                                  StreamObserver<Bank.AddWirerTransferResponse> responseObserver) {
         AddWirerTransferResponse addWirerTransferResponse =
-                transactionService.wiredTransfer(modelMapper.map(request, AddWirerTransferRequest.class));
+                transactionService.wiredTransfer(AddWirerTransferRequest.builder().
+                        ribFrom(request.getRibFrom()).
+                        ribTo(request.getRibTo()).
+                        amount(Money.ofMinor(request.getAmount())).
+                        username(request.getUsername()).
+                        idempotencyKey(request.getIdempotencyKey().isEmpty() ? null : request.getIdempotencyKey()).
+                        build());
         Bank.AddWirerTransferResponse response = Bank.AddWirerTransferResponse.newBuilder().
                 setMessage(addWirerTransferResponse.getMessage()).
-                setTransactionFrom(modelMapper.map(addWirerTransferResponse.getTransactionFrom(),
-                        Bank.TransactionDto.Builder.class).build()).setTransactionTo(modelMapper.map(addWirerTransferResponse.getTransactionTo(),
-                        Bank.TransactionDto.Builder.class).build()).
+                setTransactionFrom(toProto(addWirerTransferResponse.getTransactionFrom())).
+                setTransactionTo(toProto(addWirerTransferResponse.getTransactionTo())).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -137,16 +169,269 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     @Override
     public void getTransactions(Bank.GetTransactionsRequest request, StreamObserver<Bank.GetTransactionsResponse>
             responseObserver) {
-        List<TransactionDto> transactions = transactionService.getTransactions(modelMapper.map(request,
-                GetTransactionListRequest.class));
+        List<TransactionDto> transactions = transactionService.getTransactions(toTransactionListRequest(request));
         Bank.GetTransactionsResponse response = Bank.GetTransactionsResponse.newBuilder().
                 addAllTransaction(transactions.stream().
-                        map(transactionDto -> modelMapper.map(transactionDto, Bank.TransactionDto.Builder.class).build()).
+                        map(this::toProto).
                         collect(Collectors.toList())).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
-}
+    @Override
+    public void transactionHistory(Bank.GetTransactionsRequest request,
+                                   StreamObserver<Bank.TransactionHistoryResponse> responseObserver) {
+        TransactionPage page = transactionService.getTransactionPage(toTransactionListRequest(request));
+        Bank.TransactionHistoryResponse.Builder response = Bank.TransactionHistoryResponse.newBuilder().
+                addAllEdges(page.getEdges().stream().
+                        map(edge -> Bank.TransactionEdge.newBuilder().
+                                setNode(toProto(edge.getNode())).
+                                setCursor(edge.getCursor()).
+                                build()).
+                        collect(Collectors.toList())).
+                setHasNext(page.isHasNext());
+        if (page.getNextCursor() != null)
+            response.setNextCursor(page.getNextCursor());
+        if (page.getTotalCount() != null)
+            response.setTotalCount(page.getTotalCount());
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+    @Override
+    public void batchTransfer(Bank.BatchTransferRequest request,
+                              StreamObserver<Bank.BatchTransferResponse> responseObserver) {
+        BatchTransferResponse batchTransferResponse = transferService.executeBatch(BatchTransferRequest.builder().
+                transfers(request.getTransfersList().stream().
+                        map(leg -> new TransferRequest(leg.getSourceRib(), leg.getDestinationRib(),
+                                Money.ofMinor(leg.getAmount()), leg.getMotif(), null)).
+                        collect(Collectors.toList())).
+                mode(toBatchMode(request.getMode())).
+                username(request.getUsername()).
+                idempotencyKey(request.getIdempotencyKey().isEmpty() ? null : request.getIdempotencyKey()).
+                build(), request.getUsername());
+        Bank.BatchTransferResponse response = Bank.BatchTransferResponse.newBuilder().
+                setSuccess(batchTransferResponse.isSuccess()).
+                setMessage(batchTransferResponse.getMessage()).
+                setSucceeded(batchTransferResponse.getSucceeded()).
+                setFailed(batchTransferResponse.getFailed()).
+                addAllResults(batchTransferResponse.getResults().stream().
+                        map(this::toProto).
+                        collect(Collectors.toList())).
+                build();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+    @Override
+    public void streamTransactions(Bank.StreamTransactionsRequest request,
+                                   StreamObserver<Bank.TransactionChunk> responseObserver) {
+        int chunkSize = chunkSize(request.getChunkSize());
+        DateTimeFormatter formatter = dateFormatter();
+        GetTransactionListRequest chunkRequest = GetTransactionListRequest.builder().
+                rib(request.getRib()).
+                dateFrom(request.getDateFrom().isEmpty() ? null : request.getDateFrom()).
+                dateTo(request.getDateTo().isEmpty() ? null : request.getDateTo()).
+                size(chunkSize).
+                build();
+        FlowControlledStream.start(responseObserver, () -> {
+            if (chunkRequest.getSize() == 0)
+                return null;
+            List<BankAccountTransaction> transactions = transactionService.getTransactionChunk(chunkRequest);
+            if (transactions.isEmpty())
+                return null;
+            BankAccountTransaction last = transactions.get(transactions.size() - 1);
+            chunkRequest.setCursor(TransactionCursor.of(last.getDate(), last.getId()).encode());
+            if (transactions.size() < chunkSize)
+                chunkRequest.setSize(0);
+            return Bank.TransactionChunk.newBuilder().
+                    addAllTransaction(transactions.stream().map(transaction -> toProto(transaction, formatter)).
+                            collect(Collectors.toList())).
+                    build();
+        });
+    }
+    @Override
+    public void streamBankAccounts(Bank.StreamRequest request, StreamObserver<Bank.BankAccountChunk> responseObserver) {
+        int chunkSize = chunkSize(request.getChunkSize());
+        DateTimeFormatter formatter = dateFormatter();
+        KeysetPosition position = new KeysetPosition();
+        FlowControlledStream.start(responseObserver, () -> {
+            if (position.exhausted)
+                return null;
+            List<BankAccount> bankAccounts = bankAccountService.getBankAccountsAfter(position.lastId, chunkSize);
+            if (bankAccounts.isEmpty())
+                return null;
+            position.advance(bankAccounts.get(bankAccounts.size() - 1).getId(), bankAccounts.size() < chunkSize);
+            return Bank.BankAccountChunk.newBuilder().
+                    addAllBankAccount(bankAccounts.stream().map(bankAccount -> toProto(bankAccount, formatter)).
+                            collect(Collectors.toList())).
+                    build();
+        });
+    }
+    @Override
+    public void streamCustomers(Bank.StreamRequest request, StreamObserver<Bank.CustomerChunk> responseObserver) {
+        int chunkSize = chunkSize(request.getChunkSize());
+        KeysetPosition position = new KeysetPosition();
+        FlowControlledStream.start(responseObserver, () -> {
+            if (position.exhausted)
+                return null;
+            List<Customer> customers = customerService.getCustomersAfter(position.lastId, chunkSize);
+            if (customers.isEmpty())
+                return null;
+            position.advance(customers.get(customers.size() - 1).getId(), customers.size() < chunkSize);
+            return Bank.CustomerChunk.newBuilder().
+                    addAllCustomers(customers.stream().map(this::toProto).collect(Collectors.toList())).
+                    build();
+        });
+    }
+
+    /*
+     * ModelMapper writes the private fields of the protobuf builders, which breaks on Money amounts:
+     * the account and transaction messages are built explicitly.
+     */
+    private Bank.BankAccountDto toProto(BankAccountDto bankAccount) {
+        Bank.BankAccountDto.Builder builder = Bank.BankAccountDto.newBuilder();
+        if (bankAccount.getId() != null)
+            builder.setId(bankAccount.getId());
+        if (bankAccount.getRib() != null)
+            builder.setRib(bankAccount.getRib());
+        if (bankAccount.getAmount() != null)
+            builder.setAmount(bankAccount.getAmount().getMinorUnits());
+        if (bankAccount.getCreatedAt() != null)
+            builder.setCreatedAt(bankAccount.getCreatedAt());
+        if (bankAccount.getAccountStatus() != null)
+            builder.setAccountStatus(bankAccount.getAccountStatus().name());
+        if (bankAccount.getCustomer() != null)
+            builder.setCustomer(modelMapper.map(bankAccount.getCustomer(), Bank.CustomerDTO.Builder.class));
+        return builder.build();
+    }
+    private Bank.TransactionDto toProto(TransactionDto transaction) {
+        Bank.TransactionDto.Builder builder = Bank.TransactionDto.newBuilder();
+        if (transaction.getId() != null)
+            builder.setId(transaction.getId());
+        if (transaction.getCreatedAt() != null)
+            builder.setCreatedAt(transaction.getCreatedAt());
+        if (transaction.getTransactionType() != null)
+            builder.setTransactionType(transaction.getTransactionType());
+        if (transaction.getAmount() != null)
+            builder.setAmount(transaction.getAmount().getMinorUnits());
+        if (transaction.getBankAccount() != null)
+            builder.setBankAccount(toProto(transaction.getBankAccount()));
+        if (transaction.getUser() != null)
+            builder.setUser(modelMapper.map(transaction.getUser(), Bank.UserDto.Builder.class));
+        return builder.build();
+    }
+
+    /*
+     * The streams map the entities straight to protobuf builders: no intermediate DTO, no reflection.
+     * Protobuf setters reject null, hence the checks on optional values.
+     */
+    private Bank.TransactionDto toProto(BankAccountTransaction transaction, DateTimeFormatter formatter) {
+        Bank.TransactionDto.Builder builder = Bank.TransactionDto.newBuilder().
+                setId(transaction.getId()).
+                setAmount(transaction.getAmount().getMinorUnits());
+        if (transaction.getCreatedAt() != null)
+            builder.setCreatedAt(formatter.format(transaction.getCreatedAt().toInstant()));
+        if (transaction.getTransactionType() != null)
+            builder.setTransactionType(transaction.getTransactionType().name());
+        if (transaction.getBankAccount() != null)
+            builder.setBankAccount(Bank.BankAccountDto.newBuilder().
+                    setId(transaction.getBankAccount().getId()).
+                    setRib(transaction.getBankAccount().getRib()));
+        User user = transaction.getUser();
+        if (user != null) {
+            Bank.UserDto.Builder userBuilder = Bank.UserDto.newBuilder();
+            if (user.getUsername() != null)
+                userBuilder.setUsername(user.getUsername());
+            if (user.getFirstname() != null)
+                userBuilder.setFirstname(user.getFirstname());
+            if (user.getLastname() != null)
+                userBuilder.setLastname(user.getLastname());
+            builder.setUser(userBuilder);
+        }
+        return builder.build();
+    }
+    private Bank.BankAccountDto toProto(BankAccount bankAccount, DateTimeFormatter formatter) {
+        Bank.BankAccountDto.Builder builder = Bank.BankAccountDto.newBuilder().
+                setId(bankAccount.getId()).
+                setRib(bankAccount.getRib());
+        if (bankAccount.getAmount() != null)
+            builder.setAmount(bankAccount.getAmount().getMinorUnits());
+        if (bankAccount.getCreatedAt() != null)
+            builder.setCreatedAt(formatter.format(bankAccount.getCreatedAt().toInstant()));
+        if (bankAccount.getAccountStatus() != null)
+            builder.setAccountStatus(bankAccount.getAccountStatus().name());
+        if (bankAccount.getCustomer() != null)
+            builder.setCustomer(toProto(bankAccount.getCustomer()));
+        return builder.build();
+    }
+    private Bank.CustomerDTO toProto(Customer customer) {
+        Bank.CustomerDTO.Builder builder = Bank.CustomerDTO.newBuilder().
+                setId(customer.getId());
+        if (customer.getUsername() != null)
+            builder.setUsername(customer.getUsername());
+        if (customer.getIdentityNumber() != null)
+            builder.setIdentityRef(customer.getIdentityNumber());
+        if (customer.getFirstname() != null)
+            builder.setFirstname(customer.getFirstname());
+        if (customer.getLastname() != null)
+            builder.setLastname(customer.getLastname());
+        return builder.build();
+    }
+    private Bank.BatchTransferItemResult toProto(BatchTransferItemResult result) {
+        Bank.BatchTransferItemResult.Builder builder = Bank.BatchTransferItemResult.newBuilder().
+                setIndex(result.getIndex()).
+                setSuccess(result.isSuccess());
+        if (result.getMessage() != null)
+            builder.setMessage(result.getMessage());
+        //The ids are not known yet when the rows are written by the journal writer
+        if (result.getDebitTransactionId() != null)
+            builder.setDebitTransactionId(result.getDebitTransactionId());
+        if (result.getCreditTransactionId() != null)
+            builder.setCreditTransactionId(result.getCreditTransactionId());
+        return builder.build();
+    }
+    //Unset proto3 strings arrive empty and would not parse as dates
+    private static GetTransactionListRequest toTransactionListRequest(Bank.GetTransactionsRequest request) {
+        return GetTransactionListRequest.builder().
+                rib(request.getRib()).
+                dateFrom(request.getDateFrom().isEmpty() ? null : request.getDateFrom()).
+                dateTo(request.getDateTo().isEmpty() ? null : request.getDateTo()).
+                cursor(request.getCursor().isEmpty() ? null : request.getCursor()).
+                size(request.getSize() == 0 ? null : request.getSize()).
+                withTotal(request.getWithTotal()).
+                build();
+    }
+    // An unknown mode is answered with INVALID_ARGUMENT by GrpcExceptionAdvice, like the other invalid arguments
+    private static BatchMode toBatchMode(String mode) {
+        if (mode.isEmpty())
+            return null;
+        try {
+            return BatchMode.valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(String.format("Mode de lot inconnu : %s, attendu : %s", mode,
+                    Arrays.toString(BatchMode.values())));
+        }
+    }
+    private DateTimeFormatter dateFormatter() {
+        return DateTimeFormatter.ofPattern(commonTools.getDateFormat()).withZone(ZoneId.systemDefault());
+    }
+    private static int chunkSize(int requested) {
+        if (requested == 0)
+            return DEFAULT_CHUNK_SIZE;
+        if (requested < 0 || requested > MAX_CHUNK_SIZE)
+            throw new BusinessException(String.format("the chunk size must be between 1 and %d", MAX_CHUNK_SIZE));
+        return requested;
+    }
+
+    /**
+     * Position of a stream ordered by id, owned by the stream's ready handler.
+     */
+    private static final class KeysetPosition {
+        private long lastId;
+        private boolean exhausted;
 
-*/
\ No newline at end of file
+        private void advance(long lastId, boolean exhausted) {
+            this.lastId = lastId;
+            this.exhausted = exhausted;
+        }
+    }
+}
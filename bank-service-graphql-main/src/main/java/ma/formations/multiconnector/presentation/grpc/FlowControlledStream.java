@@ -0,0 +1,64 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.service.exception.BusinessException;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends a server stream chunk by chunk, reading the next chunk from the database only while the transport
+ * is ready to send it. A slow consumer therefore holds back the reads instead of filling the server memory,
+ * and no connection or cursor is kept open while the stream waits.
+ */
+@Slf4j
+final class FlowControlledStream<T> implements Runnable {
+
+    private final ServerCallStreamObserver<T> observer;
+    private final Supplier<T> nextChunk;
+    private volatile boolean cancelled;
+    private boolean completed;
+
+    private FlowControlledStream(ServerCallStreamObserver<T> observer, Supplier<T> nextChunk) {
+        this.observer = observer;
+        this.nextChunk = nextChunk;
+    }
+
+    /**
+     * @param nextChunk returns the next message to send, or null once everything was sent
+     */
+    static <T> void start(StreamObserver<T> responseObserver, Supplier<T> nextChunk) {
+        ServerCallStreamObserver<T> observer = (ServerCallStreamObserver<T>) responseObserver;
+        FlowControlledStream<T> stream = new FlowControlledStream<>(observer, nextChunk);
+        observer.setOnCancelHandler(() -> stream.cancelled = true);
+        // Called by gRPC, one call at a time, as soon as the method returns and each time the buffer drains
+        observer.setOnReadyHandler(stream);
+    }
+
+    @Override
+    public void run() {
+        if (completed) {
+            return;
+        }
+        try {
+            while (!cancelled && observer.isReady()) {
+                T chunk = nextChunk.get();
+                if (chunk == null) {
+                    completed = true;
+                    observer.onCompleted();
+                    return;
+                }
+                observer.onNext(chunk);
+            }
+        } catch (BusinessException e) {
+            completed = true;
+            observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+        } catch (RuntimeException e) {
+            completed = true;
+            log.error("gRPC stream failed", e);
+            observer.onError(Status.INTERNAL.withDescription("Technical error, contact your administrator").asRuntimeException());
+        }
+    }
+}
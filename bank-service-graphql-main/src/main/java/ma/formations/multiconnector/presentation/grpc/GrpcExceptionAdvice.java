@@ -0,0 +1,15 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(BusinessException.class)
+    public Status handleBusinessException(BusinessException e) {
+        return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+    }
+}
@@ -1,18 +1,19 @@
 package ma.formations.multiconnector.presentation.rest;
 
+import jakarta.servlet.http.HttpServletRequest;
 import ma.formations.multiconnector.dao.UserRepository;
 import ma.formations.multiconnector.dtos.auth.ChangePasswordRequest;
 import ma.formations.multiconnector.dtos.auth.LoginRequest;
-import ma.formations.multiconnector.dtos.auth.LoginResponse;
 import ma.formations.multiconnector.security.JwtUtil;
-import ma.formations.multiconnector.service.model.Role;
+import ma.formations.multiconnector.security.LoginPipeline;
+import ma.formations.multiconnector.security.LoginThrottle;
+import ma.formations.multiconnector.service.event.UserCredentialsChanged;
 import ma.formations.multiconnector.service.model.User;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,66 +21,72 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/rest/auth")
 @CrossOrigin(origins = "*")
 public class AuthRestController {
 
-    private final AuthenticationManager authenticationManager;
+    private final LoginPipeline loginPipeline;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${jwt.expiration}")
-    private Long jwtExpiration;
-
-    public AuthRestController(AuthenticationManager authenticationManager, 
+    public AuthRestController(LoginPipeline loginPipeline,
+                            LoginThrottle loginThrottle,
                             JwtUtil jwtUtil, 
                             UserRepository userRepository, 
-                            PasswordEncoder passwordEncoder) {
-        this.authenticationManager = authenticationManager;
+                            PasswordEncoder passwordEncoder,
+                            ApplicationEventPublisher eventPublisher) {
+        this.loginPipeline = loginPipeline;
+        this.loginThrottle = loginThrottle;
         this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * The attempts are throttled per username and client address, then the credentials are verified
+     * on the login pool, the servlet thread is released meanwhile.
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest, HttpServletRequest httpRequest) {
+        long retryAfter = loginThrottle.acquire(loginRequest.getUsername(), httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Trop de tentatives de connexion, veuillez réessayer plus tard");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(error));
+        }
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getUsername(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(userDetails);
-
-            User user = userRepository.findByUsername(loginRequest.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<String> roles = user.getAuthorities().stream()
-                    .map(Role::getAuthority)
-                    .collect(Collectors.toList());
-
-            LoginResponse response = LoginResponse.builder()
-                    .token(token)
-                    .username(user.getUsername())
-                    .email(user.getEmail())
-                    .roles(roles)
-                    .expiresIn(jwtExpiration)
-                    .build();
-
-            return ResponseEntity.ok(response);
-        } catch (BadCredentialsException e) {
+            return loginPipeline.login(loginRequest)
+                    .<ResponseEntity<?>>thenApply(response -> {
+                        loginThrottle.succeeded(loginRequest.getUsername());
+                        return ResponseEntity.ok(response);
+                    })
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        if (cause instanceof BadCredentialsException) {
+                            Map<String, String> error = new HashMap<>();
+                            error.put("message", "Login ou mot de passe erronés");
+                            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+                        }
+                        throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                    });
+        } catch (RejectedExecutionException e) {
             Map<String, String> error = new HashMap<>();
-            error.put("message", "Login ou mot de passe erronés");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            error.put("message", "Trop de connexions en cours, veuillez réessayer");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error));
         }
     }
 
@@ -99,12 +106,15 @@ public class AuthRestController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
 
-            // Update password
+            // Update password, the tokens issued with the previous one are revoked
             user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+            user.revokeTokens();
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserCredentialsChanged(username));
 
             Map<String, String> response = new HashMap<>();
             response.put("message", "Mot de passe changé avec succès");
+            response.put("token", jwtUtil.generateToken((UserDetails) authentication.getPrincipal(), user.currentTokenEpoch()));
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
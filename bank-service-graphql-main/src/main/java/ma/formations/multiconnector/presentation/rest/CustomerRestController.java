@@ -1,19 +1,31 @@
 package ma.formations.multiconnector.presentation.rest;
 import jakarta.validation.Valid;
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.enums.ExportFormat;
 import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.onboarding.CustomerImporter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 @RestController
 @RequestMapping("/api/rest/customer")
 @CrossOrigin("http://localhost:3000/")
 public class CustomerRestController {
     private final ICustomerService customerService;
-    public CustomerRestController(ICustomerService customerService) {
+    private final CustomerImporter customerImporter;
+    public CustomerRestController(ICustomerService customerService, CustomerImporter customerImporter) {
         this.customerService = customerService;
+        this.customerImporter = customerImporter;
     }
     @GetMapping("/all")
     List<CustomerDto> customers() {
@@ -28,6 +40,31 @@ public class CustomerRestController {
     public ResponseEntity<AddCustomerResponse> createCustomer(@RequestBody @Valid AddCustomerRequest dto) {
         return new ResponseEntity<>(customerService.createCustomer(dto), HttpStatus.CREATED);
     }
+    /**
+     * Imports the customers of a CSV or NDJSON body in the background, its progress is read from the returned location.
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('AGENT_GUICHET')")
+    public ResponseEntity<?> importCustomers(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                             InputStream body, Authentication authentication) throws IOException {
+        try {
+            CustomerImportStatus status = customerImporter.start(body, format, authentication.getName());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/rest/customer/import/" + status.getId()))
+                    .body(status);
+        } catch (RejectedExecutionException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Trop d'imports en attente, veuillez réessayer plus tard");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .body(error);
+        }
+    }
+    @GetMapping("/import/{id}")
+    @PreAuthorize("hasRole('AGENT_GUICHET')")
+    public CustomerImportStatus importStatus(@PathVariable String id) {
+        return customerImporter.getStatus(id);
+    }
     @PutMapping("/update/{identityRef}")
     public ResponseEntity<UpdateCustomerResponse> updateCustomer(@PathVariable String identityRef, @RequestBody
     @Valid UpdateCustomerRequest dto) {
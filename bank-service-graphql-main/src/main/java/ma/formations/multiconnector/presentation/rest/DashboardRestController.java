@@ -3,10 +3,17 @@ package ma.formations.multiconnector.presentation.rest;
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.dtos.dashboard.DashboardResponse;
 import ma.formations.multiconnector.service.DashboardService;
+import ma.formations.multiconnector.service.event.AccountActivity;
+import ma.formations.multiconnector.service.event.AccountEventBus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/rest/dashboard")
@@ -14,18 +21,41 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class DashboardRestController {
 
+    private static final Duration KEEP_ALIVE = Duration.ofSeconds(20);
+
     private final DashboardService dashboardService;
+    private final AccountEventBus accountEventBus;
 
     @GetMapping
     @PreAuthorize("hasRole('CLIENT')")
     public ResponseEntity<DashboardResponse> getDashboard(
             Authentication authentication,
             @RequestParam(required = false) String rib,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
         
         String username = authentication.getName();
-        DashboardResponse dashboard = dashboardService.getDashboard(username, rib, page, size);
+        DashboardResponse dashboard = dashboardService.getDashboard(username, rib, cursor, size);
         return ResponseEntity.ok(dashboard);
     }
+
+    /**
+     * Pushes an {@code activity} event for each committed transfer on the accounts of the client (or on the
+     * given one only), with the new balance and the posted transactions, instead of reloading the dashboard.
+     * A comment is sent when nothing happens so that proxies keep the connection open; the stream ends with
+     * the async request timeout and the client reconnects.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CLIENT')")
+    public Flux<ServerSentEvent<AccountActivity>> streamDashboard(
+            Authentication authentication,
+            @RequestParam(required = false) String rib) {
+
+        Flux<ServerSentEvent<AccountActivity>> activity = accountEventBus
+                .subscribe(dashboardService.getFollowedRibs(authentication.getName(), rib))
+                .map(event -> ServerSentEvent.builder(event).event("activity").build());
+        Flux<ServerSentEvent<AccountActivity>> keepAlive = Flux.interval(KEEP_ALIVE)
+                .map(tick -> ServerSentEvent.<AccountActivity>builder().comment("keep-alive").build());
+        return Flux.merge(activity, keepAlive);
+    }
 }
@@ -6,39 +6,82 @@ import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
 import ma.formations.multiconnector.dtos.transfer.TransferRequest;
 import ma.formations.multiconnector.dtos.transfer.TransferResponse;
 import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.enums.ExportFormat;
 import ma.formations.multiconnector.service.ITransferService;
+import ma.formations.multiconnector.service.export.TransactionExport;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 @AllArgsConstructor
 @RestController
 @RequestMapping("/api/rest/transaction")
 @CrossOrigin("http://localhost:3000/")
 public class TransactionRestController {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
     private ITransactionService transactionService;
     private ITransferService transferService;
     private CommonTools commonTools;
     @PostMapping("/create")
     public ResponseEntity<AddWirerTransferResponse> addWirerTransfer(@Valid @RequestBody
-                                                                     AddWirerTransferRequest dto) {
+                                                                     AddWirerTransferRequest dto,
+                                                                     @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                                                     String idempotencyKey) {
+        if (idempotencyKey != null)
+            dto.setIdempotencyKey(idempotencyKey);
         return new ResponseEntity<>(transactionService.wiredTransfer(dto), HttpStatus.CREATED);
     }
     @GetMapping
     public List<TransactionDto> getTransactions(GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(GetTransactionListRequest dto,
+                                                                    @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        TransactionExport export = transactionService.exportTransactions(dto, format);
+        return ResponseEntity.ok().
+                contentType(MediaType.parseMediaType(format.getContentType())).
+                header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().
+                        filename(String.format("transactions-%s.%s", dto.getRib(), format.getExtension())).build().toString()).
+                body(export::writeTo);
+    }
+    @GetMapping("/history")
+    public TransactionPage getTransactionPage(GetTransactionListRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
     
     @PostMapping("/transfer")
     @PreAuthorize("hasRole('CLIENT')")
     public ResponseEntity<TransferResponse> transfer(@Valid @RequestBody TransferRequest request,
+                                                     @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                                     String idempotencyKey,
                                                      Authentication authentication) {
+        if (idempotencyKey != null)
+            request.setIdempotencyKey(idempotencyKey);
         String username = authentication.getName();
         return ResponseEntity.ok(transferService.executeTransfer(request, username));
     }
+
+    @PostMapping("/transfer/batch")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<BatchTransferResponse> batchTransfer(@Valid @RequestBody BatchTransferRequest request,
+                                                               @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                                               String idempotencyKey,
+                                                               Authentication authentication) {
+        if (idempotencyKey != null)
+            request.setIdempotencyKey(idempotencyKey);
+        return ResponseEntity.ok(transferService.executeBatch(request, authentication.getName()));
+    }
 }
\ No newline at end of file
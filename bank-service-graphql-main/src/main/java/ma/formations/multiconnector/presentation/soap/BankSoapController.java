@@ -15,9 +15,13 @@ import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
 import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.ITransferService;
 import org.springframework.stereotype.Component;
 import java.util.List;
 @Component
@@ -28,6 +32,7 @@ public class BankSoapController {
     private final IBankAccountService bankAccountService;
     private final ICustomerService customerService;
     private ITransactionService transactionService;
+    private ITransferService transferService;
     private CommonTools commonTools;
     @WebMethod
     /**
@@ -95,6 +100,15 @@ public class BankSoapController {
                                                         AddWirerTransferRequest dto) {
         return transactionService.wiredTransfer(dto);
     }
+    /**
+     * @WebResult was user in order to replace return balise
+     * by BatchTransfer balise in SOAP Response.
+     */
+    @WebResult(name = "BatchTransfer")
+    @WebMethod
+    public BatchTransferResponse createBatchTransfer(@WebParam(name = "batchTransferRequest") BatchTransferRequest dto) {
+        return transferService.executeBatch(dto, dto.getUsername());
+    }
     /**
      * @WebResult was user in order to replace return balise
      * by Transaction balise in SOAP Response.
@@ -104,6 +118,15 @@ public class BankSoapController {
     public List<TransactionDto> getTransactions(@WebParam(name = "dto") GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+    /**
+     * @WebResult was user in order to replace return balise
+     * by TransactionPage balise in SOAP Response.
+     */
+    @WebResult(name = "TransactionPage")
+    @WebMethod
+    public TransactionPage getTransactionPage(@WebParam(name = "dto") GetTransactionListRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
     @WebResult(name = "Customer")
     @WebMethod
     public UpdateCustomerResponse changeCustomer(@WebParam(name = "identityRef") String identityRef,
@@ -0,0 +1,39 @@
+package ma.formations.multiconnector.security;
+
+import ma.formations.multiconnector.dao.LoginBackoffRepository;
+import ma.formations.multiconnector.service.model.LoginBackoff;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Shares the blocks between the instances through the login_backoff table,
+ * at the cost of a primary key read per throttled key on each login attempt.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.security.login.throttle.store", havingValue = "database")
+public class DatabaseLoginBackoffStore implements LoginBackoffStore {
+    private final LoginBackoffRepository loginBackoffRepository;
+
+    public DatabaseLoginBackoffStore(LoginBackoffRepository loginBackoffRepository) {
+        this.loginBackoffRepository = loginBackoffRepository;
+    }
+
+    @Override
+    public long blockedUntil(String key) {
+        return loginBackoffRepository.findById(key)
+                .map(backoff -> backoff.getBlockedUntil().getTime())
+                .orElse(0L);
+    }
+
+    @Override
+    public void block(String key, long until) {
+        loginBackoffRepository.save(new LoginBackoff(key, new Date(until)));
+    }
+
+    @Override
+    public void purgeExpired(long now) {
+        loginBackoffRepository.deleteByBlockedUntilBefore(new Date(now));
+    }
+}
@@ -5,11 +5,13 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -43,18 +45,56 @@ public class JwtUtil {
                 .getBody();
     }
 
+    /**
+     * Verifies the signature and the expiration of the token in a single parse.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * @return the authorities written in the token by {@link #generateToken(UserDetails)}
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> authorities = claims.get("authorities", List.class);
+        if (authorities == null) {
+            return List.of();
+        }
+        return authorities.stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(authority)))
+                .toList();
+    }
+
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
 
     public String generateToken(UserDetails userDetails) {
+        return generateToken(userDetails, 0);
+    }
+
+    /**
+     * @param tokenEpoch the current token epoch of the user, the token is revoked once it changes
+     */
+    public String generateToken(UserDetails userDetails, long tokenEpoch) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("authorities", userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
+        claims.put("epoch", tokenEpoch);
         return createToken(claims, userDetails.getUsername());
     }
 
+    /**
+     * @return the token epoch of the user when the token was issued, 0 for the tokens issued without one
+     */
+    public long extractEpoch(Claims claims) {
+        Number epoch = claims.get("epoch", Number.class);
+        return epoch == null ? 0 : epoch.longValue();
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.security;
+
+/**
+ * Where {@link LoginThrottle} records the usernames and addresses it blocks, chosen with
+ * {@code bank.security.login.throttle.store}: memory (this instance only) or database (shared by all the instances).
+ */
+public interface LoginBackoffStore {
+
+    /**
+     * @return the time until which the key is blocked, in epoch milliseconds, 0 if it is not
+     */
+    long blockedUntil(String key);
+
+    void block(String key, long until);
+
+    /**
+     * Forgets the blocks that ended before the given time.
+     */
+    void purgeExpired(long now);
+}
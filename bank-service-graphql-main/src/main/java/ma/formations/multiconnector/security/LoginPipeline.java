@@ -0,0 +1,131 @@
+package ma.formations.multiconnector.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.auth.LoginRequest;
+import ma.formations.multiconnector.dtos.auth.LoginResponse;
+import ma.formations.multiconnector.service.model.Role;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the logins on a pool of {@code bank.security.login.threads} threads, so that the BCrypt verifications
+ * of a login storm keep as many cores busy as configured and never pin the servlet threads.
+ * A login that finds {@code bank.security.login.queue-capacity} others waiting is rejected at once.
+ * The time spent in each stage (queue, hash, token) is recorded in {@code bank.security.login.stage}.
+ */
+@Slf4j
+@Component
+public class LoginPipeline implements DisposableBean {
+
+    private final ThreadPoolExecutor pool;
+    private final AuthenticationManager authenticationManager;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final Long jwtExpiration;
+    private final Timer queueTimer;
+    private final Timer hashTimer;
+    private final Timer tokenTimer;
+    private final Counter rejected;
+
+    public LoginPipeline(@Value("${bank.security.login.threads:0}") int threads,
+                         @Value("${bank.security.login.queue-capacity:64}") int queueCapacity,
+                         @Value("${jwt.expiration}") Long jwtExpiration,
+                         AuthenticationManager authenticationManager,
+                         UserRepository userRepository,
+                         JwtUtil jwtUtil,
+                         MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger index = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> new Thread(runnable, "login-" + index.getAndIncrement()));
+        this.authenticationManager = authenticationManager;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.jwtExpiration = jwtExpiration;
+        this.queueTimer = stageTimer("queue", meterRegistry);
+        this.hashTimer = stageTimer("hash", meterRegistry);
+        this.tokenTimer = stageTimer("token", meterRegistry);
+        this.rejected = Counter.builder("bank.security.login.rejected")
+                .description("Logins refused because the login queue was full")
+                .register(meterRegistry);
+        Gauge.builder("bank.security.login.queued", pool, executor -> executor.getQueue().size())
+                .description("Logins waiting for a login thread")
+                .register(meterRegistry);
+        log.info("Login pipeline started with {} threads", poolSize);
+    }
+
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("bank.security.login.stage")
+                .description("Time spent by the logins in each stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return completed with the response, or failed with the AuthenticationException of wrong credentials
+     * @throws RejectedExecutionException at once when the login queue is full
+     */
+    public CompletableFuture<LoginResponse> login(LoginRequest loginRequest) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return authenticate(loginRequest);
+            }, pool);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private LoginResponse authenticate(LoginRequest loginRequest) {
+        Authentication authentication = hashTimer.record(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(
+                        loginRequest.getUsername(),
+                        loginRequest.getPassword()
+                )
+        ));
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        User user = userRepository.findByUsername(loginRequest.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String token = tokenTimer.record(() -> jwtUtil.generateToken(userDetails, user.currentTokenEpoch()));
+
+        List<String> roles = user.getAuthorities().stream()
+                .map(Role::getAuthority)
+                .toList();
+
+        return LoginResponse.builder()
+                .token(token)
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .roles(roles)
+                .expiresIn(jwtExpiration)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
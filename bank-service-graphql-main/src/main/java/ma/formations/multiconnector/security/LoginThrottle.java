@@ -0,0 +1,177 @@
+package ma.formations.multiconnector.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import ma.formations.multiconnector.service.model.LoginBackoff;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Limits the login attempts per username and per client address over a sliding window of
+ * {@code bank.security.login.throttle.window-seconds}, before any database read or BCrypt verification.
+ * <p>
+ * Each key counts its attempts in {@value #BUCKETS} buckets covering the window, every bucket being one atomic
+ * long holding its time slot and its count: attempts are counted with compare-and-set, without any lock.
+ * A key over its limit is blocked in the {@link LoginBackoffStore} for one window.
+ * <p>
+ * Usernames are chosen by the client, so at most {@code bank.security.login.throttle.max-keys} keys are tracked.
+ * Beyond it, and for usernames too long to be blocked in the {@link LoginBackoffStore}, an attempt is limited
+ * by its address only, and new addresses share a single window with the address limit until the purge frees keys.
+ */
+@Component
+public class LoginThrottle {
+    private static final int BUCKETS = 10;
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    //Longest key the database backoff store can block
+    private static final int MAX_KEY_LENGTH = LoginBackoff.ID_LENGTH;
+    private static final String OVERFLOW_ADDRESS_KEY = "ip:*";
+
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final LoginBackoffStore backoffStore;
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final int maxPerUsername;
+    private final int maxPerAddress;
+    private final int maxKeys;
+    private final Counter blocked;
+    private final Counter throttledUsernames;
+    private final Counter throttledAddresses;
+    private final Counter untracked;
+
+    public LoginThrottle(LoginBackoffStore backoffStore,
+                         @Value("${bank.security.login.throttle.window-seconds:60}") long windowSeconds,
+                         @Value("${bank.security.login.throttle.max-per-username:10}") int maxPerUsername,
+                         @Value("${bank.security.login.throttle.max-per-address:50}") int maxPerAddress,
+                         @Value("${bank.security.login.throttle.max-keys:100000}") int maxKeys,
+                         MeterRegistry meterRegistry) {
+        this.backoffStore = backoffStore;
+        this.windowMillis = windowSeconds * 1000;
+        this.bucketMillis = Math.max(windowMillis / BUCKETS, 1);
+        this.maxPerUsername = maxPerUsername;
+        this.maxPerAddress = maxPerAddress;
+        this.maxKeys = maxKeys;
+        this.blocked = throttleCounter("blocked", meterRegistry);
+        this.throttledUsernames = throttleCounter("username", meterRegistry);
+        this.throttledAddresses = throttleCounter("address", meterRegistry);
+        this.untracked = Counter.builder("bank.security.login.throttle.untracked")
+                .description("Usernames and addresses of login attempts not tracked, too long or over the key limit")
+                .register(meterRegistry);
+        Gauge.builder("bank.security.login.throttle.keys", windows, Map::size)
+                .description("Usernames and client addresses with recent login attempts")
+                .register(meterRegistry);
+    }
+
+    private static Counter throttleCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("bank.security.login.throttled")
+                .description("Login attempts refused by the throttle: over the username or address limit, or already blocked")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts a login attempt.
+     *
+     * @return 0 if the attempt may proceed, otherwise the number of seconds to wait before retrying
+     */
+    public long acquire(String username, String address) {
+        long now = System.currentTimeMillis();
+        String usernameKey = "user:" + username;
+        String addressKey = "ip:" + address;
+        long blockedUntil = Math.max(backoffStore.blockedUntil(usernameKey), backoffStore.blockedUntil(addressKey));
+        if (blockedUntil > now) {
+            blocked.increment();
+            return retryAfter(blockedUntil - now);
+        }
+
+        long slot = now / bucketMillis;
+        SlidingWindow usernameWindow = usernameKey.length() <= MAX_KEY_LENGTH ? window(usernameKey) : null;
+        SlidingWindow addressWindow = addressKey.length() <= MAX_KEY_LENGTH ? window(addressKey) : null;
+        if (usernameWindow == null) {
+            untracked.increment();
+        }
+        if (addressWindow == null) {
+            untracked.increment();
+            addressKey = OVERFLOW_ADDRESS_KEY;
+            addressWindow = windows.computeIfAbsent(addressKey, key -> new SlidingWindow());
+        }
+        boolean usernameOver = usernameWindow != null && usernameWindow.increment(slot) > maxPerUsername;
+        boolean addressOver = addressWindow.increment(slot) > maxPerAddress;
+        if (usernameOver) {
+            throttledUsernames.increment();
+            backoffStore.block(usernameKey, now + windowMillis);
+        }
+        if (addressOver) {
+            throttledAddresses.increment();
+            backoffStore.block(addressKey, now + windowMillis);
+        }
+        return usernameOver || addressOver ? retryAfter(windowMillis) : 0;
+    }
+
+    /**
+     * @return the window of the key, null if it is new and {@code maxKeys} keys are already tracked
+     */
+    private SlidingWindow window(String key) {
+        SlidingWindow window = windows.get(key);
+        if (window == null && windows.size() < maxKeys) {
+            window = windows.computeIfAbsent(key, k -> new SlidingWindow());
+        }
+        return window;
+    }
+
+    /**
+     * Forgets the attempts of a username once it has logged in.
+     */
+    public void succeeded(String username) {
+        windows.remove("user:" + username);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.security.login.throttle.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        long slot = now / bucketMillis;
+        windows.values().removeIf(window -> window.count(slot) == 0);
+        backoffStore.purgeExpired(now);
+    }
+
+    private static long retryAfter(long millis) {
+        return Math.max((millis + 999) / 1000, 1);
+    }
+
+    private static final class SlidingWindow {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        /**
+         * @return the number of attempts in the window, this one included
+         */
+        long increment(long slot) {
+            int index = (int) (slot % BUCKETS);
+            long current;
+            long next;
+            do {
+                current = buckets.get(index);
+                //A bucket left from an older window starts over for the current slot
+                next = current >>> COUNT_BITS == slot
+                        ? current + ((current & COUNT_MASK) < COUNT_MASK ? 1 : 0)
+                        : slot << COUNT_BITS | 1;
+            } while (!buckets.compareAndSet(index, current, next));
+            return count(slot);
+        }
+
+        long count(long slot) {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucket = buckets.get(i);
+                if (slot - (bucket >>> COUNT_BITS) < BUCKETS)
+                    count += bucket & COUNT_MASK;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ma.formations.multiconnector.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "bank.security.login.throttle.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryLoginBackoffStore implements LoginBackoffStore {
+    private final Map<String, Long> blocks = new ConcurrentHashMap<>();
+
+    @Override
+    public long blockedUntil(String key) {
+        return blocks.getOrDefault(key, 0L);
+    }
+
+    @Override
+    public void block(String key, long until) {
+        blocks.merge(key, until, Math::max);
+    }
+
+    @Override
+    public void purgeExpired(long now) {
+        blocks.values().removeIf(until -> until <= now);
+    }
+}
@@ -1,5 +1,6 @@
 package ma.formations.multiconnector.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,6 +65,8 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // The async dispatch completing a streamed response belongs to a request already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/rest/auth/**").permitAll()
                 .requestMatchers("/api/soap/**").permitAll()
                 .requestMatchers("/graphiql/**", "/graphql/**").permitAll()
@@ -0,0 +1,86 @@
+package ma.formations.multiconnector.security;
+
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.service.event.UserCredentialsChanged;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the token epoch of every user, so that revoked tokens are recognized without reading the database.
+ * <p>
+ * All the users are loaded once the application is ready. A user is then read again on {@link UserCredentialsChanged},
+ * the first time one of its tokens is seen when it was created after the load, and by {@link #refresh} when the caller
+ * suspects a change made by another instance. Users that are missing, disabled, locked or expired are {@link #REVOKED}:
+ * none of their tokens is accepted.
+ */
+@Component
+@Slf4j
+public class TokenEpochRegistry {
+    public static final long REVOKED = -1;
+
+    private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+
+    public TokenEpochRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserRepository.UserStatus status : userRepository.findAllStatuses())
+            epochs.put(status.getUsername(), epochOf(status));
+        log.info("Token epochs of {} users loaded", epochs.size());
+    }
+
+    /**
+     * @return the epoch the tokens of the user must carry, or {@link #REVOKED}
+     */
+    public long currentEpoch(String username) {
+        return epochs.computeIfAbsent(username, this::read);
+    }
+
+    /**
+     * Reads the user from the database again and keeps its epoch.
+     *
+     * @return the epoch the tokens of the user must now carry, or {@link #REVOKED}
+     */
+    public long refresh(String username) {
+        return refresh(username, userRepository.findStatusByUsername(username).orElse(null));
+    }
+
+    /**
+     * Keeps the epoch of a status the caller has just read from the database.
+     *
+     * @param status the status of the user, null if it no longer exists
+     * @return the epoch the tokens of the user must now carry, or {@link #REVOKED}
+     */
+    public long refresh(String username, UserRepository.UserStatus status) {
+        long epoch = status == null ? REVOKED : epochOf(status);
+        epochs.put(username, epoch);
+        return epoch;
+    }
+
+    //Runs before the verified tokens of the user are evicted, so they cannot be verified again against the old epoch
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChanged event) {
+        refresh(event.username());
+    }
+
+    private long read(String username) {
+        return userRepository.findStatusByUsername(username).map(TokenEpochRegistry::epochOf).orElse(REVOKED);
+    }
+
+    private static long epochOf(UserRepository.UserStatus status) {
+        if (!status.isActive())
+            return REVOKED;
+        return status.getTokenEpoch() == null ? 0 : status.getTokenEpoch();
+    }
+}
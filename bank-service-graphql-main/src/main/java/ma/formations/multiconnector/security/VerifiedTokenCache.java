@@ -0,0 +1,190 @@
+package ma.formations.multiconnector.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.service.event.UserCredentialsChanged;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Principals of the JWTs already verified, so that a token is parsed and its user checked once
+ * per {@code bank.security.token-cache.ttl-seconds} instead of on every request.
+ * <p>
+ * On a miss the token is parsed once, its epoch must be the current one of its user and the authorities are rebuilt
+ * from the {@code authorities} claim. Unless {@code bank.security.jwt.stateless} is set, the epoch and the status flags
+ * are read from the database, without the roles, and refresh the {@link TokenEpochRegistry}, so that the changes made
+ * by other instances are seen. In stateless mode the registry is trusted, the user is read again only when a token
+ * carries an epoch above the known one, i.e. one issued by another instance after a change this one missed.
+ * Entries are keyed by the SHA-256 of the token, never outlive it, and are evicted with the other tokens
+ * of their user on {@link UserCredentialsChanged}.
+ * <p>
+ * A hit still compares the epoch of the token with the one of the registry, which costs a map lookup: a revocation
+ * known to this instance is enforced at once, even by a verification that raced with the eviction. A revocation made
+ * on another instance is only known once the registry reads the user again, on the next miss of one of its tokens
+ * outside stateless mode, so it may go unnoticed for at most the TTL.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+    private final Map<String, VerifiedToken> cache;
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final TokenEpochRegistry tokenEpochs;
+    private final boolean stateless;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+    //Incremented by each invalidation, a verification that raced with one is not cached
+    private long generation;
+
+    private record VerifiedToken(String username, long epoch, UserDetails principal, long expiresAt) {
+    }
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, UserRepository userRepository, TokenEpochRegistry tokenEpochs,
+                              @Value("${bank.security.jwt.stateless:false}") boolean stateless,
+                              @Value("${bank.security.token-cache.size:10000}") int cacheSize,
+                              @Value("${bank.security.token-cache.ttl-seconds:60}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.tokenEpochs = tokenEpochs;
+        this.stateless = stateless;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = tokenCounter("hit", meterRegistry);
+        this.misses = tokenCounter("miss", meterRegistry);
+        this.rejected = tokenCounter("rejected", meterRegistry);
+        Gauge.builder("bank.security.tokens.cached", this, tokens -> tokens.size())
+                .description("Verified JWTs kept in memory")
+                .register(meterRegistry);
+    }
+
+    private static Counter tokenCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("bank.security.tokens")
+                .description("JWT verifications by result, a hit costs neither a parse nor a database read")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the principal of the token, or null if the token is invalid, expired or its user is no longer active
+     */
+    public UserDetails verify(String token) {
+        String key = sha256(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken verified;
+        long verifiedGeneration;
+        synchronized (cache) {
+            verified = cache.get(key);
+            if (verified != null && verified.expiresAt() <= now) {
+                cache.remove(key);
+                verified = null;
+            }
+            verifiedGeneration = generation;
+        }
+        if (verified != null) {
+            //The registry is in memory, a token revoked since it was cached is refused without waiting for its eviction
+            if (tokenEpochs.currentEpoch(verified.username()) == verified.epoch()) {
+                hits.increment();
+                return verified.principal();
+            }
+            synchronized (cache) {
+                cache.remove(key);
+            }
+            rejected.increment();
+            return null;
+        }
+        misses.increment();
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            log.error("JWT Token verification failed: {}", e.getMessage());
+            return null;
+        }
+        String username = claims.getSubject();
+        long epoch = jwtUtil.extractEpoch(claims);
+        if (username == null || !isCurrent(username, epoch)) {
+            rejected.increment();
+            return null;
+        }
+        UserDetails principal = User.withUsername(username)
+                .password("")
+                .authorities(jwtUtil.extractAuthorities(claims))
+                .build();
+        long expiresAt = Math.min(claims.getExpiration().getTime(), now + ttlMillis);
+        synchronized (cache) {
+            if (generation == verifiedGeneration)
+                cache.put(key, new VerifiedToken(username, epoch, principal, expiresAt));
+        }
+        return principal;
+    }
+
+    private boolean isCurrent(String username, long epoch) {
+        long current;
+        if (!stateless) {
+            current = tokenEpochs.refresh(username, userRepository.findStatusByUsername(username).orElse(null));
+        } else {
+            current = tokenEpochs.currentEpoch(username);
+            if (epoch > current)
+                current = tokenEpochs.refresh(username);
+        }
+        //A disabled, locked or expired user is REVOKED, which no token carries
+        return current == epoch;
+    }
+
+    /**
+     * Forgets the tokens of the user, its next requests are verified again against its current status.
+     */
+    public void invalidate(String username) {
+        synchronized (cache) {
+            generation++;
+            cache.values().removeIf(verified -> verified.username().equals(username));
+        }
+    }
+
+    @Order(1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChanged event) {
+        invalidate(event.username());
+    }
+
+    private int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash JWT", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ma.formations.multiconnector.service;
+
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills lastTransactionAt and transactionCount for the accounts created before they were maintained by the transfers,
+ * and the date of the transaction rows written without one, which the keyset pagination sorts on.
+ * Runs once after startup on its own thread, one short transaction per chunk of accounts,
+ * and only touches accounts whose count is still null so that it can be interrupted and resumed.
+ */
+@Slf4j
+@Component
+public class AccountActivityBackfill {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AccountActivityBackfill(BankAccountRepository bankAccountRepository,
+                                   BankAccountTransactionRepository transactionRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${bank.accounts.activity-backfill.batch-size:500}") int batchSize) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "account-activity-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfill() {
+        try {
+            Integer dated = transactionTemplate.execute(status -> transactionRepository.fillMissingDates());
+            if (dated != null && dated > 0) {
+                log.info("Transaction date set on {} row(s)", dated);
+            }
+            int total = 0;
+            while (true) {
+                Integer updated = transactionTemplate.execute(status -> {
+                    List<Long> ids = bankAccountRepository.findIdsWithoutActivity(PageRequest.of(0, batchSize));
+                    return ids.isEmpty() ? 0 : bankAccountRepository.backfillActivity(ids);
+                });
+                if (updated == null || updated == 0) {
+                    break;
+                }
+                total += updated;
+            }
+            if (total > 0) {
+                log.info("Account activity computed for {} account(s)", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("Account activity backfill failed, it will resume on the next start", e);
+        }
+    }
+}
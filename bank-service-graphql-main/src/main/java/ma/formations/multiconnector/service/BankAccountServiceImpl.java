@@ -2,19 +2,25 @@ package ma.formations.multiconnector.service;
 
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
 import ma.formations.multiconnector.enums.AccountStatus;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.Customer;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +31,8 @@ import java.util.stream.Collectors;
 public class BankAccountServiceImpl implements IBankAccountService {
     private final BankAccountRepository bankAccountRepository;
     private final CustomerRepository customerRepository;
+    private final TransactionWriter transactionWriter;
+    private final CommonTools commonTools;
     private ModelMapper modelMapper;
 
 
@@ -47,12 +55,13 @@ public class BankAccountServiceImpl implements IBankAccountService {
         // Create bank account
         BankAccount bankAccount = new BankAccount();
         bankAccount.setRib(dto.getRib());
-        bankAccount.setAmount(dto.getAmount() != null ? dto.getAmount() : 0.0);
+        bankAccount.setAmount(dto.getAmount() != null ? dto.getAmount() : Money.ZERO);
         bankAccount.setAccountStatus(AccountStatus.OPENED); // RG_10
         bankAccount.setCustomer(customer);
         bankAccount.setCreatedAt(new Date());
         
         BankAccount saved = bankAccountRepository.save(bankAccount);
+        transactionWriter.accountOpened(saved);
         AddBankAccountResponse response = modelMapper.map(saved, AddBankAccountResponse.class);
         response.setMessage(String.format("Compte bancaire RIB [%s] créé avec succès pour le client [%s]", dto.getRib(), dto.getIdentityNumber()));
         return response;
@@ -83,7 +92,48 @@ public class BankAccountServiceImpl implements IBankAccountService {
 
     @Override
     public BankAccountDto getBankAccountByRib(String rib) {
-        return modelMapper.map(bankAccountRepository.findByRib(rib).orElseThrow(
-                () -> new BusinessException(String.format("No Bank Account with rib [%s] exist", rib))), BankAccountDto.class);
+        return modelMapper.map(findByRib(rib), BankAccountDto.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BankAccount> getBankAccountsAfter(long afterId, int limit) {
+        return bankAccountRepository.findChunk(afterId, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BankAccountDto> getAllBankAccountsFlat() {
+        return bankAccountRepository.findAll().stream().map(this::toFlatDto).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BankAccountDto getBankAccountByRibFlat(String rib) {
+        return toFlatDto(findByRib(rib));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BankAccountDto> getBankAccountsByIds(Collection<Long> ids) {
+        return bankAccountRepository.findAllById(ids).stream().map(this::toFlatDto).collect(Collectors.toList());
+    }
+
+    private BankAccount findByRib(String rib) {
+        return bankAccountRepository.findByRib(rib).orElseThrow(
+                () -> new BusinessException(String.format("No Bank Account with rib [%s] exist", rib)));
+    }
+
+    //The id of the lazy customer is read from its proxy, without loading it
+    private BankAccountDto toFlatDto(BankAccount bankAccount) {
+        return BankAccountDto.builder().
+                id(bankAccount.getId()).
+                rib(bankAccount.getRib()).
+                amount(bankAccount.getAmount()).
+                createdAt(bankAccount.getCreatedAt() == null ? null : commonTools.dateToString(bankAccount.getCreatedAt())).
+                accountStatus(bankAccount.getAccountStatus()).
+                customer(bankAccount.getCustomer() == null ? null :
+                        CustomerDto.builder().id(bankAccount.getCustomer().getId()).build()).
+                build();
     }
 }
@@ -4,19 +4,26 @@ import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dao.RoleRepository;
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.service.event.UserCredentialsChanged;
 import ma.formations.multiconnector.service.exception.BusinessException;
 import ma.formations.multiconnector.service.model.Customer;
 import ma.formations.multiconnector.service.model.Role;
+import ma.formations.multiconnector.service.onboarding.CredentialsGenerator;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.security.SecureRandom;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Random;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,11 +31,16 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class CustomerServiceImpl implements ICustomerService {
 
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
     private final CustomerRepository customerRepository;
     private final RoleRepository roleRepository;
+    private final CredentialsGenerator credentialsGenerator;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public List<CustomerDto> getAllCustomers() {
@@ -37,8 +49,49 @@ public class CustomerServiceImpl implements ICustomerService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The customer is inserted in its own transaction: the username is generated from the names already taken,
+     * and when another request takes the same one meanwhile, the unique index refuses the insert and the customer
+     * is inserted again with a newly generated name. The credentials are sent once the customer is committed.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AddCustomerResponse createCustomer(AddCustomerRequest dto) {
+        // Validate age (must be at least 18 years old)
+        if (!isAtLeast18YearsOld(dto.getBirthDate())) {
+            throw new BusinessException("Le client doit avoir au moins 18 ans");
+        }
+
+        String rawPassword = credentialsGenerator.password();
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+        Customer savedCustomer = null;
+        for (int attempt = 1; savedCustomer == null; attempt++) {
+            try {
+                savedCustomer = transactionTemplate.execute(status -> insertCustomer(dto, encodedPassword));
+            } catch (DataIntegrityViolationException e) {
+                // The checks of the next attempt report a duplicate identity number or email, otherwise the name was taken
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw new BusinessException("Le nom d'utilisateur généré est déjà pris, veuillez réessayer");
+                }
+            }
+        }
+
+        // Send email with credentials
+        emailService.sendNewClientCredentials(
+            savedCustomer.getEmail(),
+            savedCustomer.getFirstname(),
+            savedCustomer.getLastname(),
+            savedCustomer.getUsername(),
+            rawPassword
+        );
+
+        AddCustomerResponse response = modelMapper.map(savedCustomer, AddCustomerResponse.class);
+        response.setMessage(String.format("Client [%s %s] créé avec succès. Un email a été envoyé à %s",
+            savedCustomer.getFirstname(), savedCustomer.getLastname(), savedCustomer.getEmail()));
+        return response;
+    }
+
+    private Customer insertCustomer(AddCustomerRequest dto, String encodedPassword) {
         // RG_4: Validate unique identity number
         customerRepository.findByIdentityNumber(dto.getIdentityNumber()).ifPresent(c -> {
             throw new BusinessException("Le numéro d'identité " + dto.getIdentityNumber() + " existe déjà");
@@ -49,15 +102,8 @@ public class CustomerServiceImpl implements ICustomerService {
             throw new BusinessException("L'adresse email " + dto.getEmail() + " est déjà utilisée");
         });
 
-        // Validate age (must be at least 18 years old)
-        if (!isAtLeast18YearsOld(dto.getBirthDate())) {
-            throw new BusinessException("Le client doit avoir au moins 18 ans");
-        }
-
-        // Generate random username and password
-        String username = generateUsername(dto.getFirstname(), dto.getLastname());
-        String rawPassword = generateRandomPassword();
-        String encodedPassword = passwordEncoder.encode(rawPassword);
+        // Generate random username
+        String username = credentialsGenerator.username(dto.getFirstname(), dto.getLastname());
         Customer customer = new Customer();
         customer.setFirstname(dto.getFirstname());
         customer.setLastname(dto.getLastname());
@@ -66,7 +112,7 @@ public class CustomerServiceImpl implements ICustomerService {
         customer.setEmail(dto.getEmail());
         customer.setPostalAddress(dto.getPostalAddress());
         customer.setUsername(username);
-        customer.setPassword(passwordEncoder.encode(rawPassword));
+        customer.setPassword(encodedPassword);
         customer.setEnabled(true);
         customer.setAccountNonExpired(true);
         customer.setAccountNonLocked(true);
@@ -77,32 +123,33 @@ public class CustomerServiceImpl implements ICustomerService {
                 .orElseThrow(() -> new BusinessException("Role CLIENT not found"));
         customer.getAuthorities().add(clientRole);
 
-        Customer savedCustomer = customerRepository.save(customer);
-
-        // Send email with credentials
-        emailService.sendNewClientCredentials(
-            savedCustomer.getEmail(),
-            savedCustomer.getFirstname(),
-            savedCustomer.getLastname(),
-            username,
-            rawPassword
-        );
-
-        AddCustomerResponse response = modelMapper.map(savedCustomer, AddCustomerResponse.class);
-        response.setMessage(String.format("Client [%s %s] créé avec succès. Un email a été envoyé à %s",
-            savedCustomer.getFirstname(), savedCustomer.getLastname(), savedCustomer.getEmail()));
-        return response;
+        return customerRepository.saveAndFlush(customer);
     }
 
+    /**
+     * Updates the profile of the customer in place: the password, the status flags, the roles and the token epoch
+     * are kept, so the tokens already issued stay valid. When the username changes, the tokens naming the former
+     * one are revoked once the update is committed.
+     */
     @Override
     public UpdateCustomerResponse updateCustomer(String identityNumber, UpdateCustomerRequest updateCustomerRequest) {
-        Customer customerToPersist = modelMapper.map(updateCustomerRequest, Customer.class);
         Customer customerFound = customerRepository.findByIdentityNumber(identityNumber)
                 .orElseThrow(() -> new BusinessException(String.format("Aucun client avec le numéro d'identité [%s] n'existe", identityNumber)));
-        
-        customerToPersist.setId(customerFound.getId());
-        customerToPersist.setIdentityNumber(identityNumber);
-        UpdateCustomerResponse updateCustomerResponse = modelMapper.map(customerRepository.save(customerToPersist), UpdateCustomerResponse.class);
+
+        String formerUsername = customerFound.getUsername();
+        String username = updateCustomerRequest.getUsername();
+        boolean usernameChanged = !Objects.equals(formerUsername, username);
+        if (usernameChanged && customerRepository.findByUsername(username).isPresent()) {
+            throw new BusinessException(String.format("Le nom d'utilisateur [%s] est déjà pris", username));
+        }
+        customerFound.setUsername(username);
+        customerFound.setFirstname(updateCustomerRequest.getFirstname());
+        customerFound.setLastname(updateCustomerRequest.getLastname());
+        UpdateCustomerResponse updateCustomerResponse = modelMapper.map(customerRepository.save(customerFound), UpdateCustomerResponse.class);
+        if (usernameChanged) {
+            // Delivered to the token caches after the commit, the former username then resolves to no user
+            eventPublisher.publishEvent(new UserCredentialsChanged(formerUsername));
+        }
         updateCustomerResponse.setMessage(String.format("Client %s mis à jour avec succès", identityNumber));
         return updateCustomerResponse;
     }
@@ -121,27 +168,21 @@ public class CustomerServiceImpl implements ICustomerService {
         Customer customerFound = customerRepository.findByIdentityNumber(identityNumber)
                 .orElseThrow(() -> new BusinessException(String.format("Aucun client avec le numéro d'identité %s n'existe", identityNumber)));
         customerRepository.delete(customerFound);
+        // Delivered to the token caches after the commit
+        eventPublisher.publishEvent(new UserCredentialsChanged(customerFound.getUsername()));
         return String.format("Client avec le numéro d'identité %s supprimé avec succès", identityNumber);
     }
 
-    private String generateUsername(String firstname, String lastname) {
-        String base = (firstname.substring(0, 1) + lastname).toLowerCase().replaceAll("\\s+", "");
-        String username = base;
-        int counter = 1;
-        while (customerRepository.findByUsername(username).isPresent()) {
-            username = base + counter++;
-        }
-        return username;
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> getCustomersAfter(long afterId, int limit) {
+        return customerRepository.findChunk(afterId, Limit.of(limit));
     }
 
-    private String generateRandomPassword() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        StringBuilder password = new StringBuilder();
-        Random random = new Random();
-        for (int i = 0; i < 12; i++) {
-            password.append(chars.charAt(random.nextInt(chars.length())));
-        }
-        return password.toString();
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerDto> getCustomersByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : customerRepository.findDtosByIdIn(ids);
     }
 
     /**
@@ -1,6 +1,7 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.TransactionCursor;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
@@ -12,15 +13,13 @@ import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import ma.formations.multiconnector.service.model.Customer;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
-import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,7 +32,13 @@ public class DashboardService {
     private final BankAccountTransactionRepository transactionRepository;
     private final ModelMapper modelMapper;
 
-    public DashboardResponse getDashboard(String username, String selectedRib, int page, int size) {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    public DashboardResponse getDashboard(String username, String selectedRib, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(String.format("La taille de page doit être comprise entre 1 et %d", MAX_PAGE_SIZE));
+        }
+
         // Get customer by username
         Customer customer = customerRepository.findByUsername(username)
                 .orElseThrow(() -> new BusinessException("Client non trouvé"));
@@ -45,21 +50,14 @@ public class DashboardService {
 
         // Create account summaries
         List<AccountSummary> accountSummaries = accounts.stream()
-                .map(account -> {
-                    Date lastTransactionDate = account.getBankAccountTransactionList() != null && 
-                            !account.getBankAccountTransactionList().isEmpty()
-                            ? account.getBankAccountTransactionList().stream()
-                                    .map(BankAccountTransaction::getCreatedAt)
-                                    .max(Date::compareTo)
-                                    .orElse(account.getCreatedAt())
-                            : account.getCreatedAt();
-                    
-                    return AccountSummary.builder()
-                            .rib(account.getRib())
-                            .balance(account.getAmount())
-                            .lastTransactionDate(lastTransactionDate)
-                            .build();
-                })
+                .map(account -> AccountSummary.builder()
+                        .rib(account.getRib())
+                        .balance(account.getAmount())
+                        .lastTransactionDate(account.getLastTransactionAt() != null
+                                ? account.getLastTransactionAt()
+                                : account.getCreatedAt())
+                        .transactionCount(account.getTransactionCount() != null ? account.getTransactionCount() : 0)
+                        .build())
                 .collect(Collectors.toList());
 
         // Determine which account to display
@@ -80,23 +78,50 @@ public class DashboardService {
                     .orElse(accounts.get(0));
         }
 
-        // Get transactions with pagination
-        Page<BankAccountTransaction> transactionPage = transactionRepository.findByBankAccount(
-                selectedAccount,
-                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "date"))
-        );
+        // Get the page of transactions following the cursor (keyset pagination, no OFFSET nor COUNT)
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        List<BankAccountTransaction> rows = position == null
+                ? transactionRepository.findLatest(selectedAccount, Limit.of(size + 1))
+                : transactionRepository.findLatestBefore(selectedAccount, position.date(), position.id(), Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<BankAccountTransaction> transactions = hasNext ? rows.subList(0, size) : rows;
 
-        List<TransactionDto> transactionDtos = transactionPage.getContent().stream()
+        List<TransactionDto> transactionDtos = transactions.stream()
                 .map(transaction -> modelMapper.map(transaction, TransactionDto.class))
                 .collect(Collectors.toList());
+        BankAccountTransaction last = transactions.isEmpty() ? null : transactions.get(transactions.size() - 1);
+
+        // The total comes from the counter maintained on the account
+        long totalTransactions = selectedAccount.getTransactionCount() != null ? selectedAccount.getTransactionCount() : 0;
 
         return DashboardResponse.builder()
                 .accounts(accountSummaries)
                 .selectedRib(selectedAccount.getRib())
                 .selectedAccountBalance(selectedAccount.getAmount())
                 .recentTransactions(transactionDtos)
-                .totalPages(transactionPage.getTotalPages())
-                .totalTransactions(transactionPage.getTotalElements())
+                .nextCursor(hasNext ? TransactionCursor.of(last.getDate(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalPages((int) ((totalTransactions + size - 1) / size))
+                .totalTransactions(totalTransactions)
                 .build();
     }
+
+    /**
+     * @return the RIBs whose activity the dashboard of the client follows: the selected one, or all its accounts
+     */
+    @Transactional(readOnly = true)
+    public Set<String> getFollowedRibs(String username, String selectedRib) {
+        Customer customer = customerRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException("Client non trouvé"));
+        Set<String> ribs = customer.getBankAccounts().stream()
+                .map(BankAccount::getRib)
+                .collect(Collectors.toSet());
+        if (selectedRib == null || selectedRib.isEmpty()) {
+            return ribs;
+        }
+        if (!ribs.contains(selectedRib)) {
+            throw new BusinessException("RIB invalide");
+        }
+        return Set.of(selectedRib);
+    }
 }
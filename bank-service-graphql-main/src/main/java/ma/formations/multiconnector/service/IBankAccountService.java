@@ -3,11 +3,22 @@ package ma.formations.multiconnector.service;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.service.model.BankAccount;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IBankAccountService {
     AddBankAccountResponse saveBankAccount(AddBankAccountRequest dto);
     List<BankAccountDto> getAllBankAccounts();
     BankAccountDto getBankAccountByRib(String rib);
+    List<BankAccount> getBankAccountsAfter(long afterId, int limit);
+
+    /*
+     * Flat variants for the GraphQL resolvers: the customer of an account only carries its id,
+     * it is loaded by a batch loader when the query selects it.
+     */
+    List<BankAccountDto> getAllBankAccountsFlat();
+    BankAccountDto getBankAccountByRibFlat(String rib);
+    List<BankAccountDto> getBankAccountsByIds(Collection<Long> ids);
 }
@@ -1,7 +1,9 @@
 package ma.formations.multiconnector.service;
 
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.service.model.Customer;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ICustomerService {
@@ -10,4 +12,6 @@ public interface ICustomerService {
     UpdateCustomerResponse updateCustomer(String identityRef, UpdateCustomerRequest updateCustomerRequest);
     CustomerDto getCustomByIdentity(String identity);
     String deleteCustomerByIdentityRef(String identityRef);
+    List<Customer> getCustomersAfter(long afterId, int limit);
+    List<CustomerDto> getCustomersByIds(Collection<Long> ids);
 }
@@ -4,9 +4,19 @@ import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
+import ma.formations.multiconnector.enums.ExportFormat;
+import ma.formations.multiconnector.service.export.TransactionExport;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
 
 import java.util.List;
 public interface ITransactionService {
     AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto);
     List<TransactionDto> getTransactions(GetTransactionListRequest dto);
+    TransactionPage getTransactionPage(GetTransactionListRequest dto);
+    //Flat variants for the GraphQL resolvers: the account and the user of a transaction only carry their id
+    List<TransactionDto> getTransactionsFlat(GetTransactionListRequest dto);
+    TransactionPage getTransactionPageFlat(GetTransactionListRequest dto);
+    TransactionExport exportTransactions(GetTransactionListRequest dto, ExportFormat format);
+    List<BankAccountTransaction> getTransactionChunk(GetTransactionListRequest dto);
 }
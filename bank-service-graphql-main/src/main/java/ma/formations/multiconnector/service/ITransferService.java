@@ -1,8 +1,12 @@
 package ma.formations.multiconnector.service;
 
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
 import ma.formations.multiconnector.dtos.transfer.TransferRequest;
 import ma.formations.multiconnector.dtos.transfer.TransferResponse;
 
 public interface ITransferService {
     TransferResponse executeTransfer(TransferRequest request, String username);
+
+    BatchTransferResponse executeBatch(BatchTransferRequest request, String username);
 }
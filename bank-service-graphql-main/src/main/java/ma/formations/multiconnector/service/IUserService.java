@@ -3,12 +3,18 @@ package ma.formations.multiconnector.service;
 
 import ma.formations.multiconnector.dtos.user.PermissionVo;
 import ma.formations.multiconnector.dtos.user.RoleVo;
+import ma.formations.multiconnector.dtos.user.UserDto;
 import ma.formations.multiconnector.dtos.user.UserVo;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface IUserService {
     void save(UserVo user);
     void save(RoleVo role);
 
     RoleVo getRoleByName(String role);
 
+    List<UserDto> getUsersByIds(Collection<Long> ids);
+
 }
@@ -1,27 +1,50 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.common.TransactionCursor;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionEdge;
+import ma.formations.multiconnector.dtos.transaction.TransactionExportRow;
+import ma.formations.multiconnector.dtos.transaction.TransactionPage;
 import ma.formations.multiconnector.enums.AccountStatus;
-import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.enums.ExportFormat;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.engine.TransferEngine;
+import ma.formations.multiconnector.service.event.AccountPosting;
+import ma.formations.multiconnector.service.event.TransfersPosted;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.export.TransactionExport;
+import ma.formations.multiconnector.service.export.TransactionExportWriter;
+import ma.formations.multiconnector.service.idempotency.IdempotencyStore;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import ma.formations.multiconnector.service.model.GetTransactionListBo;
-import ma.formations.multiconnector.service.model.User;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -32,35 +55,54 @@ public class TransactionServiceImpl implements ITransactionService {
     private final BankAccountTransactionRepository bankAccountTransactionRepository;
 
     private final UserRepository userRepository;
+    private final TransferEngine transferEngine;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionExportWriter transactionExportWriter;
+    private final CommonTools commonTools;
+    private final ApplicationEventPublisher eventPublisher;
 
     private ModelMapper modelMapper;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Date MIN_DATE = new Date(0);
+    private static final Date MAX_DATE = new Date(253402300799000L);
+
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto) {
+        if (dto.getRibFrom() == null || dto.getRibTo() == null)
+            throw new BusinessException("the rib of both bank accounts is required");
+        if (dto.getAmount() == null || !dto.getAmount().isPositive())
+            throw new BusinessException("the amount of the transfer must be positive");
 
-        BankAccountTransaction transactionFrom = BankAccountTransaction.builder().
-                amount(dto.getAmount()).
-                transactionType(TransactionType.DEBIT).
-                bankAccount(BankAccount.builder().rib(dto.getRibFrom()).build()).
-                user(new User(dto.getUsername())).
-                build();
+        //Le moteur de virement ouvre lui-même la transaction (voir bank.transfer.engine),
+        //la réponse et son enregistrement d'idempotence sont construits dans celle-ci
+        return idempotencyStore.execute(dto.getIdempotencyKey(), dto.getUsername(), dto, AddWirerTransferResponse.class,
+                record -> transferEngine.transfer(dto.getRibFrom(), dto.getRibTo(), dto.getAmount(),
+                        userRepository.findByUsername(dto.getUsername()).
+                                orElseThrow(() -> new BusinessException(String.format("User [%s] doesn't exist", dto.getUsername()))),
+                        (transactionFrom, transactionTo) -> record.apply(wiredTransferPosted(dto, transactionFrom, transactionTo)),
+                        () -> rejectTransfer(dto.getRibFrom(), dto.getRibTo(), dto.getAmount())));
+    }
 
-        BankAccountTransaction transactionTo = BankAccountTransaction.builder().
-                amount(dto.getAmount()).
-                transactionType(TransactionType.CREDIT).
-                bankAccount(BankAccount.builder().rib(dto.getRibTo()).build()).
-                user(new User(dto.getUsername())).
+    //Appelé par le moteur une fois les deux soldes mis à jour et les lignes écrites, dans la même transaction :
+    //les comptes des lignes sont chargés à leur état après le virement
+    private AddWirerTransferResponse wiredTransferPosted(AddWirerTransferRequest dto, BankAccountTransaction transactionFrom,
+                                                         BankAccountTransaction transactionTo) {
+        eventPublisher.publishEvent(new TransfersPosted(List.of(
+                new AccountPosting(dto.getRibFrom(), transactionFrom), new AccountPosting(dto.getRibTo(), transactionTo))));
+        return AddWirerTransferResponse.builder().
+                message(String.format("the transfer of an amount of %s from the %s bank account to %s was carried out successfully",
+                        dto.getAmount(), dto.getRibFrom(), dto.getRibTo())).
+                transactionFrom(modelMapper.map(transactionFrom, TransactionDto.class)).
+                transactionTo(modelMapper.map(transactionTo, TransactionDto.class)).
                 build();
+    }
 
-        String username = transactionFrom.getUser().getUsername();
-        String ribFrom = transactionFrom.getBankAccount().getRib();
-        String ribTo = transactionTo.getBankAccount().getRib();
-        Double amount = transactionFrom.getAmount();
-
-        User user = userRepository.findByUsername(username).
-                orElseThrow(() -> new BusinessException(String.format("User [%s] doesn't exist", username)));
-
+    private BusinessException rejectTransfer(String ribFrom, String ribTo, Money amount) {
         BankAccount bankAccountFrom = bankAccountRepository.findByRib(ribFrom).
                 orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", ribFrom)));
 
@@ -68,29 +110,10 @@ public class TransactionServiceImpl implements ITransactionService {
                 orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", ribTo)));
 
         checkBusinessRules(bankAccountFrom, bankAccountTo, amount);
-        //On débite le compte demandeur
-        bankAccountFrom.setAmount(bankAccountFrom.getAmount() - amount);
-        //On crédite le compte destinataire
-        bankAccountTo.setAmount(bankAccountTo.getAmount() + amount);
-
-        transactionFrom.setCreatedAt(new Date());
-        transactionFrom.setUser(user);
-        transactionFrom.setBankAccount(bankAccountFrom);
-
-        transactionTo.setCreatedAt(new Date());
-        transactionTo.setUser(user);
-        transactionTo.setBankAccount(bankAccountTo);
-        bankAccountTransactionRepository.save(transactionFrom);
-        bankAccountTransactionRepository.save(transactionTo);
-        return AddWirerTransferResponse.builder().
-                message(String.format("the transfer of an amount of %s from the %s bank account to %s was carried out successfully",
-                        dto.getAmount(), dto.getRibFrom(), dto.getRibTo())).
-                transactionFrom(modelMapper.map(transactionFrom, TransactionDto.class)).
-                transactionTo(modelMapper.map(transactionTo, TransactionDto.class)).
-                build();
+        return new BusinessException(String.format("the transfer from %s to %s was rejected", ribFrom, ribTo));
     }
 
-    private void checkBusinessRules(BankAccount bankAccountFrom, BankAccount bankAccountTo, Double amount) {
+    private void checkBusinessRules(BankAccount bankAccountFrom, BankAccount bankAccountTo, Money amount) {
 
         if (bankAccountFrom.getAccountStatus().equals(AccountStatus.CLOSED))
             throw new BusinessException(String.format("the bank account %s is closed !!", bankAccountFrom.getRib()));
@@ -104,16 +127,146 @@ public class TransactionServiceImpl implements ITransactionService {
         if (bankAccountTo.getAccountStatus().equals(AccountStatus.BLOCKED))
             throw new BusinessException(String.format("the bank account %s is blocked !!", bankAccountTo.getRib()));
 
-        if (bankAccountFrom.getAmount() < amount)
+        if (bankAccountFrom.getAmount().isLessThan(amount))
             throw new BusinessException(String.format("the balance of account number %s is less than %s", bankAccountFrom.getRib(), amount));
     }
 
 
     @Override
     public List<TransactionDto> getTransactions(GetTransactionListRequest requestDTO) {
+        return getTransactions(requestDTO, bo -> modelMapper.map(bo, TransactionDto.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDto> getTransactionsFlat(GetTransactionListRequest requestDTO) {
+        return getTransactions(requestDTO, this::toFlatDto);
+    }
+
+    private List<TransactionDto> getTransactions(GetTransactionListRequest requestDTO,
+                                                 Function<BankAccountTransaction, TransactionDto> mapper) {
         GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
-        return bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween(
-                        data.getRib(), data.getDateFrom(), data.getDateTo()).
-                stream().map(bo -> modelMapper.map(bo, TransactionDto.class)).collect(Collectors.toList());
+        Optional<Long> accountId = bankAccountRepository.findIdByRib(data.getRib());
+        if (accountId.isEmpty())
+            return List.of();
+        return bankAccountTransactionRepository.findByAccountAndCreatedAtBetween(
+                        accountId.get(), data.getDateFrom(), data.getDateTo()).
+                stream().map(mapper).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionPage(GetTransactionListRequest requestDTO) {
+        return getTransactionPage(requestDTO, bo -> modelMapper.map(bo, TransactionDto.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionPageFlat(GetTransactionListRequest requestDTO) {
+        return getTransactionPage(requestDTO, this::toFlatDto);
+    }
+
+    private TransactionPage getTransactionPage(GetTransactionListRequest requestDTO,
+                                               Function<BankAccountTransaction, TransactionDto> mapper) {
+        GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
+        if (data.getRib() == null)
+            throw new BusinessException("the rib of the bank account is required");
+        int size = data.getSize() == null ? DEFAULT_PAGE_SIZE : data.getSize();
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new BusinessException(String.format("the page size must be between 1 and %d", MAX_PAGE_SIZE));
+        Date from = data.getDateFrom() != null ? data.getDateFrom() : MIN_DATE;
+        Date to = data.getDateTo() != null ? data.getDateTo() : MAX_DATE;
+
+        Long accountId = bankAccountRepository.findIdByRib(data.getRib()).orElse(null);
+        if (accountId == null)
+            return TransactionPage.builder().edges(List.of()).totalCount(
+                    Boolean.TRUE.equals(data.getWithTotal()) ? 0L : null).build();
+        List<BankAccountTransaction> rows = findHistory(accountId, from, to, data.getCursor(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TransactionEdge> edges = rows.stream().limit(size).
+                map(bo -> TransactionEdge.builder().
+                        node(mapper.apply(bo)).
+                        cursor(TransactionCursor.of(bo.getDate(), bo.getId()).encode()).
+                        build()).
+                collect(Collectors.toList());
+        return TransactionPage.builder().
+                edges(edges).
+                hasNext(hasNext).
+                nextCursor(hasNext ? edges.get(edges.size() - 1).getCursor() : null).
+                totalCount(Boolean.TRUE.equals(data.getWithTotal())
+                        ? bankAccountTransactionRepository.countHistory(accountId, from, to) : null).
+                build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BankAccountTransaction> getTransactionChunk(GetTransactionListRequest requestDTO) {
+        GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
+        if (data.getRib() == null)
+            throw new BusinessException("the rib of the bank account is required");
+        Date from = data.getDateFrom() != null ? data.getDateFrom() : MIN_DATE;
+        Date to = data.getDateTo() != null ? data.getDateTo() : MAX_DATE;
+        List<BankAccountTransaction> transactions = bankAccountRepository.findIdByRib(data.getRib()).
+                map(accountId -> findHistory(accountId, from, to, data.getCursor(),
+                        data.getSize() == null ? DEFAULT_PAGE_SIZE : data.getSize())).
+                orElse(List.of());
+        //The caller maps the rows after the transaction: their lazy account and user are loaded now, by batches
+        transactions.forEach(transaction -> {
+            Hibernate.initialize(transaction.getBankAccount());
+            Hibernate.initialize(transaction.getUser());
+        });
+        return transactions;
+    }
+
+    //The account and the user only carry their id, read from the lazy proxies without loading them
+    private TransactionDto toFlatDto(BankAccountTransaction transaction) {
+        return TransactionDto.builder().
+                id(transaction.getId()).
+                createdAt(transaction.getCreatedAt() == null ? null : commonTools.dateToString(transaction.getCreatedAt())).
+                transactionType(transaction.getTransactionType() == null ? null : transaction.getTransactionType().name()).
+                amount(transaction.getAmount()).
+                bankAccount(transaction.getBankAccount() == null ? null :
+                        BankAccountDto.builder().id(transaction.getBankAccount().getId()).build()).
+                user(transaction.getUser() == null ? null :
+                        UserDto.builder().id(transaction.getUser().getId()).build()).
+                build();
+    }
+
+    private List<BankAccountTransaction> findHistory(Long accountId, Date from, Date to, String after, int limit) {
+        TransactionCursor cursor = TransactionCursor.decode(after);
+        return cursor == null
+                ? bankAccountTransactionRepository.findHistory(accountId, from, to, Limit.of(limit))
+                : bankAccountTransactionRepository.findHistoryBefore(accountId, from, to,
+                cursor.date(), cursor.id(), Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionExport exportTransactions(GetTransactionListRequest requestDTO, ExportFormat format) {
+        GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
+        if (data.getRib() == null)
+            throw new BusinessException("the rib of the bank account is required");
+        Long accountId = bankAccountRepository.findIdByRib(data.getRib()).
+                orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", data.getRib())));
+        Date from = data.getDateFrom() != null ? data.getDateFrom() : MIN_DATE;
+        Date to = data.getDateTo() != null ? data.getDateTo() : MAX_DATE;
+
+        //The rows are read while the response is written, in a read-only transaction of their own
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return outputStream -> {
+            try {
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<TransactionExportRow> rows =
+                                 bankAccountTransactionRepository.streamForExport(accountId, from, to)) {
+                        transactionExportWriter.write(rows, format, outputStream);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
     }
 }
@@ -1,111 +1,343 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.dao.BankAccountRepository;
-import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferItemResult;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferRequest;
+import ma.formations.multiconnector.dtos.transfer.BatchTransferResponse;
 import ma.formations.multiconnector.dtos.transfer.TransferRequest;
 import ma.formations.multiconnector.dtos.transfer.TransferResponse;
 import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.BatchMode;
 import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.concurrency.TransferExecutor;
+import ma.formations.multiconnector.service.engine.TransferEngine;
+import ma.formations.multiconnector.service.event.AccountPosting;
+import ma.formations.multiconnector.service.event.TransfersPosted;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.idempotency.IdempotencyStore;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import ma.formations.multiconnector.service.model.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class TransferServiceImpl implements ITransferService {
 
+    private static final int MAX_BATCH_SIZE = 5000;
+
     private final BankAccountRepository bankAccountRepository;
-    private final BankAccountTransactionRepository transactionRepository;
+    private final TransactionWriter transactionWriter;
     private final UserRepository userRepository;
+    private final TransferExecutor transferExecutor;
+    private final TransferEngine transferEngine;
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * The transfer engine opens the transaction itself (see bank.transfer.engine), the response and its idempotency
+     * record are built inside it.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TransferResponse executeTransfer(TransferRequest request, String username) {
         // Validate inputs
-        if (request.getAmount() == null || request.getAmount() <= 0) {
+        if (request.getAmount() == null || !request.getAmount().isPositive()) {
             throw new BusinessException("Le montant doit être positif");
         }
+        if (request.getSourceRib() == null || request.getDestinationRib() == null) {
+            throw new BusinessException("Les RIB source et destinataire sont obligatoires");
+        }
+
+        return idempotencyStore.execute(request.getIdempotencyKey(), username, request, TransferResponse.class,
+                record -> transferEngine.transfer(request.getSourceRib(), request.getDestinationRib(), request.getAmount(),
+                        userRepository.findByUsername(username)
+                                .orElseThrow(() -> new BusinessException("Utilisateur non trouvé")),
+                        (debit, credit) -> record.apply(transferPosted(request, debit, credit)),
+                        () -> rejectTransfer(request)));
+    }
+
+    /**
+     * Runs all the legs in one transaction while holding the locks of every involved account.
+     * In ALL_OR_NOTHING mode the first rejected leg rolls the whole batch back,
+     * in BEST_EFFORT mode rejected legs are reported and the others are committed.
+     * A batch retried after an optimistic conflict starts again from the validation results.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BatchTransferResponse executeBatch(BatchTransferRequest request, String username) {
+        List<TransferRequest> legs = request.getTransfers();
+        if (legs == null || legs.isEmpty()) {
+            throw new BusinessException("Le lot de virements est vide");
+        }
+        if (legs.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(String.format("Un lot ne peut pas dépasser %d virements", MAX_BATCH_SIZE));
+        }
+        BatchMode mode = request.getMode() == null ? BatchMode.ALL_OR_NOTHING : request.getMode();
+
+        // Validate every leg before touching any account
+        BatchTransferItemResult[] results = new BatchTransferItemResult[legs.size()];
+        Set<String> ribs = new TreeSet<>();
+        for (int i = 0; i < legs.size(); i++) {
+            String error = validateLeg(legs.get(i));
+            if (error == null) {
+                ribs.add(legs.get(i).getSourceRib());
+                ribs.add(legs.get(i).getDestinationRib());
+            } else if (mode == BatchMode.ALL_OR_NOTHING) {
+                throw new BusinessException(String.format("Virement n°%d invalide : %s", i + 1, error));
+            } else {
+                results[i] = failedLeg(i, error);
+            }
+        }
+
+        return idempotencyStore.execute(request.getIdempotencyKey(), username, request, BatchTransferResponse.class,
+                record -> {
+                    if (ribs.isEmpty()) {
+                        // Every leg was rejected, the response is still recorded for the retries of the key
+                        return record.apply(batchResponse(results));
+                    }
+                    return transferExecutor.execute(ribs, () -> {
+                        BatchTransferItemResult[] attempt = results.clone();
+                        doBatch(legs, ribs, attempt, mode, username);
+                        return record.apply(batchResponse(attempt));
+                    });
+                });
+    }
+
+    private BatchTransferResponse batchResponse(BatchTransferItemResult[] results) {
+        int succeeded = (int) Arrays.stream(results).filter(BatchTransferItemResult::isSuccess).count();
+        int failed = results.length - succeeded;
+        return BatchTransferResponse.builder()
+                .success(failed == 0)
+                .message(String.format("%d virement(s) effectué(s), %d rejeté(s)", succeeded, failed))
+                .succeeded(succeeded)
+                .failed(failed)
+                .results(List.of(results))
+                .build();
+    }
 
-        // Find user
+    /**
+     * The legs are checked one after the other against the balances read when the batch starts, then every
+     * account gets a single update with its net change. The updates run in RIB order, like single transfers,
+     * so that batches and transfers always take the row locks in the same order and cannot deadlock.
+     * An account modified by another instance meanwhile fails its version check and the batch is retried.
+     */
+    private void doBatch(List<TransferRequest> legs, Set<String> ribs, BatchTransferItemResult[] results, BatchMode mode,
+                         String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new BusinessException("Utilisateur non trouvé"));
 
-        // Find source account
-        BankAccount sourceAccount = bankAccountRepository.findByRib(request.getSourceRib())
-                .orElseThrow(() -> new BusinessException("Compte source non trouvé avec le RIB: " + request.getSourceRib()));
+        Map<String, BatchAccount> accounts = new TreeMap<>();
+        for (BankAccountRepository.AccountState state : bankAccountRepository.findStatesByRibIn(ribs)) {
+            accounts.put(state.getRib(), new BatchAccount(state, bankAccountRepository.getReferenceById(state.getId())));
+        }
+        List<BankAccountTransaction> rows = new ArrayList<>(legs.size() * 2);
+        List<AccountPosting> postings = new ArrayList<>(legs.size() * 2);
+        Date now = new Date();
+        for (int i = 0; i < legs.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            TransferRequest leg = legs.get(i);
+            BatchAccount source = accounts.get(leg.getSourceRib());
+            BatchAccount destination = accounts.get(leg.getDestinationRib());
+            String reason = rejectionReason(leg, source, destination);
+            if (reason != null) {
+                if (mode == BatchMode.ALL_OR_NOTHING) {
+                    throw new BusinessException(String.format("Virement n°%d rejeté : %s", i + 1, reason));
+                }
+                results[i] = failedLeg(i, reason);
+                continue;
+            }
+            source.post(-leg.getAmount().getMinorUnits());
+            destination.post(leg.getAmount().getMinorUnits());
+            rows.add(BankAccountTransaction.builder()
+                    .amount(leg.getAmount())
+                    .transactionType(TransactionType.DEBIT)
+                    .bankAccount(source.reference)
+                    .user(user)
+                    .date(now)
+                    .createdAt(now)
+                    .build());
+            postings.add(new AccountPosting(leg.getSourceRib(), rows.get(rows.size() - 1)));
+            rows.add(BankAccountTransaction.builder()
+                    .amount(leg.getAmount())
+                    .transactionType(TransactionType.CREDIT)
+                    .bankAccount(destination.reference)
+                    .user(user)
+                    .date(now)
+                    .createdAt(now)
+                    .build());
+            postings.add(new AccountPosting(leg.getDestinationRib(), rows.get(rows.size() - 1)));
+        }
 
-        // Find destination account
-        BankAccount destinationAccount = bankAccountRepository.findByRib(request.getDestinationRib())
-                .orElseThrow(() -> new BusinessException("Compte destinataire non trouvé avec le RIB: " + request.getDestinationRib()));
+        for (BatchAccount account : accounts.values()) {
+            if (account.postings > 0 && bankAccountRepository.postBatch(account.state.getRib(), Money.ofMinor(account.delta),
+                    account.postings, now, Objects.requireNonNullElse(account.state.getVersion(), 0L)) == 0) {
+                throw new ObjectOptimisticLockingFailureException(BankAccount.class, account.state.getId());
+            }
+        }
+        // Written after the last balance update so that Hibernate sends the rows as JDBC batches
+        for (int row = 0; row < rows.size(); row += 2) {
+            transactionWriter.writeTransfer(rows.get(row), rows.get(row + 1));
+        }
+        if (!postings.isEmpty()) {
+            eventPublisher.publishEvent(new TransfersPosted(postings));
+        }
+        int row = 0;
+        for (int i = 0; i < legs.size(); i++) {
+            if (results[i] == null) {
+                results[i] = BatchTransferItemResult.builder()
+                        .index(i)
+                        .success(true)
+                        .message(String.format("Virement de %s MAD effectué avec succès de %s vers %s",
+                                legs.get(i).getAmount(), legs.get(i).getSourceRib(), legs.get(i).getDestinationRib()))
+                        .debitTransactionId(rows.get(row++).getId())
+                        .creditTransactionId(rows.get(row++).getId())
+                        .build();
+            }
+        }
+    }
 
-        // Validate business rules (RG_11, RG_12)
-        validateTransfer(sourceAccount, destinationAccount, request.getAmount());
-
-        // Perform transfer (RG_13, RG_14)
-        sourceAccount.setAmount(sourceAccount.getAmount() - request.getAmount());
-        destinationAccount.setAmount(destinationAccount.getAmount() + request.getAmount());
-
-        // Create debit transaction (RG_15)
-        BankAccountTransaction debitTransaction = BankAccountTransaction.builder()
-                .amount(request.getAmount())
-                .transactionType(TransactionType.DEBIT)
-                .bankAccount(sourceAccount)
-                .user(user)
-                .date(new Date())
-                .createdAt(new Date())
-                .build();
+    private String validateLeg(TransferRequest leg) {
+        if (leg == null) {
+            return "virement absent";
+        }
+        if (leg.getAmount() == null || !leg.getAmount().isPositive()) {
+            return "Le montant doit être positif";
+        }
+        if (leg.getSourceRib() == null || leg.getDestinationRib() == null) {
+            return "Les RIB source et destinataire sont obligatoires";
+        }
+        return null;
+    }
+
+    /**
+     * Same rules as a single transfer (RG_11, RG_12), on the balances left by the previous legs of the batch.
+     *
+     * @return null if the leg can be applied
+     */
+    private String rejectionReason(TransferRequest leg, BatchAccount source, BatchAccount destination) {
+        if (source == null) {
+            return "Compte source non trouvé avec le RIB: " + leg.getSourceRib();
+        }
+        if (destination == null) {
+            return "Compte destinataire non trouvé avec le RIB: " + leg.getDestinationRib();
+        }
+        try {
+            validateTransfer(source.state.getAccountStatus(), destination.state.getAccountStatus(),
+                    Money.ofMinor(source.balance), leg.getAmount());
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
 
-        // Create credit transaction (RG_15)
-        BankAccountTransaction creditTransaction = BankAccountTransaction.builder()
-                .amount(request.getAmount())
-                .transactionType(TransactionType.CREDIT)
-                .bankAccount(destinationAccount)
-                .user(user)
-                .date(new Date())
-                .createdAt(new Date())
+    private BatchTransferItemResult failedLeg(int index, String message) {
+        return BatchTransferItemResult.builder()
+                .index(index)
+                .success(false)
+                .message(message)
                 .build();
+    }
 
-        // Save transactions
-        BankAccountTransaction savedDebit = transactionRepository.save(debitTransaction);
-        BankAccountTransaction savedCredit = transactionRepository.save(creditTransaction);
+    /**
+     * Called by the transfer engine once both balances are updated and the rows (RG_15) written, in the same transaction.
+     */
+    private TransferResponse transferPosted(TransferRequest request, BankAccountTransaction debitTransaction,
+                                            BankAccountTransaction creditTransaction) {
+        eventPublisher.publishEvent(new TransfersPosted(List.of(
+                new AccountPosting(request.getSourceRib(), debitTransaction),
+                new AccountPosting(request.getDestinationRib(), creditTransaction))));
 
         return TransferResponse.builder()
                 .success(true)
-                .message(String.format("Virement de %.2f MAD effectué avec succès de %s vers %s", 
+                .message(String.format("Virement de %s MAD effectué avec succès de %s vers %s", 
                     request.getAmount(), request.getSourceRib(), request.getDestinationRib()))
-                .debitTransactionId(savedDebit.getId())
-                .creditTransactionId(savedCredit.getId())
+                .debitTransactionId(debitTransaction.getId())
+                .creditTransactionId(creditTransaction.getId())
                 .build();
     }
 
-    private void validateTransfer(BankAccount source, BankAccount destination, Double amount) {
+    private BusinessException rejectTransfer(TransferRequest request) {
+        // Find source account
+        BankAccount sourceAccount = bankAccountRepository.findByRib(request.getSourceRib())
+                .orElseThrow(() -> new BusinessException("Compte source non trouvé avec le RIB: " + request.getSourceRib()));
+
+        // Find destination account
+        BankAccount destinationAccount = bankAccountRepository.findByRib(request.getDestinationRib())
+                .orElseThrow(() -> new BusinessException("Compte destinataire non trouvé avec le RIB: " + request.getDestinationRib()));
+
+        // Validate business rules (RG_11, RG_12)
+        validateTransfer(sourceAccount.getAccountStatus(), destinationAccount.getAccountStatus(),
+                sourceAccount.getAmount(), request.getAmount());
+        return new BusinessException("Le virement n'a pas pu être effectué");
+    }
+
+    private void validateTransfer(AccountStatus sourceStatus, AccountStatus destinationStatus, Money sourceBalance,
+                                  Money amount) {
         // RG_11: Check source account status
-        if (source.getAccountStatus() == AccountStatus.BLOCKED) {
+        if (sourceStatus == AccountStatus.BLOCKED) {
             throw new BusinessException("Le compte source est bloqué");
         }
-        if (source.getAccountStatus() == AccountStatus.CLOSED) {
+        if (sourceStatus == AccountStatus.CLOSED) {
             throw new BusinessException("Le compte source est clôturé");
         }
 
         // Check destination account status
-        if (destination.getAccountStatus() == AccountStatus.BLOCKED) {
+        if (destinationStatus == AccountStatus.BLOCKED) {
             throw new BusinessException("Le compte destinataire est bloqué");
         }
-        if (destination.getAccountStatus() == AccountStatus.CLOSED) {
+        if (destinationStatus == AccountStatus.CLOSED) {
             throw new BusinessException("Le compte destinataire est clôturé");
         }
 
         // RG_12: Check sufficient balance
-        if (source.getAmount() < amount) {
-            throw new BusinessException(String.format("Solde insuffisant. Solde actuel: %.2f MAD, Montant demandé: %.2f MAD", 
-                source.getAmount(), amount));
+        if (sourceBalance.isLessThan(amount)) {
+            throw new BusinessException(String.format("Solde insuffisant. Solde actuel: %s MAD, Montant demandé: %s MAD", 
+                sourceBalance, amount));
+        }
+    }
+
+    /**
+     * Account involved in a batch: its state when the batch started and the net change of the legs applied so far.
+     */
+    private static final class BatchAccount {
+        private final BankAccountRepository.AccountState state;
+        private final BankAccount reference;
+        private long balance;
+        private long delta;
+        private long postings;
+
+        private BatchAccount(BankAccountRepository.AccountState state, BankAccount reference) {
+            this.state = state;
+            this.reference = reference;
+            this.balance = state.getAmount().getMinorUnits();
+        }
+
+        private void post(long amountMinor) {
+            balance = Money.addMinor(balance, amountMinor);
+            delta = Money.addMinor(delta, amountMinor);
+            postings++;
         }
     }
 }
@@ -7,6 +7,7 @@ import ma.formations.multiconnector.dao.RoleRepository;
 import ma.formations.multiconnector.dao.UserRepository;
 import ma.formations.multiconnector.dtos.user.PermissionVo;
 import ma.formations.multiconnector.dtos.user.RoleVo;
+import ma.formations.multiconnector.dtos.user.UserDto;
 import ma.formations.multiconnector.dtos.user.UserVo;
 
 import ma.formations.multiconnector.service.model.Role;
@@ -19,6 +20,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 @Service
@@ -60,4 +62,10 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
         return modelMapper.map(roleRepository.findByAuthority(authority).get(), RoleVo.class);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getUsersByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : userRepository.findDtosByIdIn(ids);
+    }
+
 }
\ No newline at end of file
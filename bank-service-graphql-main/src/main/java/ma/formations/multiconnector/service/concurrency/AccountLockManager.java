@@ -0,0 +1,80 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process striped locks keyed by RIB.
+ * Each RIB is hashed onto one of a fixed number of stripes, so transfers touching
+ * unrelated accounts run in parallel while transfers sharing an account are serialized.
+ * Stripes are always acquired in ascending index order, which rules out deadlocks
+ * whatever the order of the RIBs in the request.
+ */
+@Component
+public class AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+    private final Timer waitTimer;
+
+    public AccountLockManager(@Value("${bank.transfer.lock.stripes:1024}") int stripeCount,
+                              @Value("${bank.transfer.lock.timeout-ms:5000}") long timeoutMillis,
+                              MeterRegistry meterRegistry) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.waitTimer = Timer.builder("bank.transfer.lock.wait")
+                .description("Time spent waiting for account locks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the action while holding the locks of both accounts.
+     */
+    public <T> T executeLocked(String ribFrom, String ribTo, Supplier<T> action) {
+        return executeLocked(List.of(ribFrom, ribTo), action);
+    }
+
+    /**
+     * Runs the action while holding the locks of every given account.
+     */
+    public <T> T executeLocked(Collection<String> ribs, Supplier<T> action) {
+        int[] indexes = ribs.stream().mapToInt(this::stripeIndex).sorted().distinct().toArray();
+        int acquired = 0;
+        long start = System.nanoTime();
+        try {
+            for (int index : indexes) {
+                if (!stripes[index].tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new BusinessException("Le compte est occupé, veuillez réessayer");
+                }
+                acquired++;
+            }
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Opération interrompue");
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeIndex(String rib) {
+        int h = rib.hashCode();
+        h ^= (h >>> 16);
+        return Math.floorMod(h, stripes.length);
+    }
+}
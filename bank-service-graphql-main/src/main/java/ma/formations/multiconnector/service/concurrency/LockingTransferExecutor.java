@@ -0,0 +1,37 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * The transfer runs on the caller thread.
+ * The account locks are taken before the transaction starts and released after it commits,
+ * so a concurrent transfer on the same account always reads the committed balance.
+ * Conflicts with writers outside this process are caught by the account version and retried.
+ */
+@Component
+@AllArgsConstructor
+public class LockingTransferExecutor implements TransferExecutor {
+
+    private final AccountLockManager accountLockManager;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public <T> T execute(String ribFrom, String ribTo, Supplier<T> transfer) {
+        return accountLockManager.executeLocked(ribFrom, ribTo,
+                () -> retryExecutor.execute(
+                        () -> transactionTemplate.execute(status -> transfer.get())));
+    }
+
+    @Override
+    public <T> T execute(Collection<String> ribs, Supplier<T> batch) {
+        return accountLockManager.executeLocked(ribs,
+                () -> retryExecutor.execute(
+                        () -> transactionTemplate.execute(status -> batch.get())));
+    }
+}
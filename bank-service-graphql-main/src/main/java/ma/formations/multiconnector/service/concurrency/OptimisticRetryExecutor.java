@@ -0,0 +1,81 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a transactional action when it fails on an optimistic lock conflict
+ * (a versioned entity modified by another transaction since it was read).
+ * The action must open and commit its own transaction: when called inside an
+ * already running transaction the conflict cannot be retried and is rethrown.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter attempts;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public OptimisticRetryExecutor(@Value("${bank.transfer.retry.max-attempts:3}") int maxAttempts,
+                                   @Value("${bank.transfer.retry.backoff-ms:20}") long backoffMillis,
+                                   MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.attempts = Counter.builder("bank.transfer.attempts")
+                .description("Transfer attempts, retries included")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("bank.transfer.conflicts")
+                .description("Optimistic lock conflicts detected on transfers")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("bank.transfer.retries.exhausted")
+                .description("Transfers abandoned after the last retry")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            attempts.increment();
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Optimistic lock conflict, giving up after {} attempts: {}", attempt, e.getMessage());
+                    throw new BusinessException("Le compte a été modifié par une autre opération, veuillez réessayer");
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        // Exponential backoff with full jitter so colliding transfers do not retry in lockstep
+        long bound = backoffMillis << Math.min(attempt - 1, 10);
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Opération interrompue");
+        }
+    }
+}
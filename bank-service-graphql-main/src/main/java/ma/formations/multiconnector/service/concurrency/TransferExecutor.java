@@ -0,0 +1,18 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Decides under which guard the balance updates of a transfer run.
+ * The transfer itself is given as a plain action: the executor opens and commits its transaction.
+ */
+public interface TransferExecutor {
+
+    <T> T execute(String ribFrom, String ribTo, Supplier<T> transfer);
+
+    /**
+     * Runs a batch touching every given account in a single transaction.
+     */
+    <T> T execute(Collection<String> ribs, Supplier<T> batch);
+}
@@ -0,0 +1,130 @@
+package ma.formations.multiconnector.service.engine;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit of the {@link ShardedTransferEngine}: the transfers accepted by all the shards are queued here and
+ * written by a single thread, in one transaction every {@code bank.transfer.group-commit.flush-ms} or as soon as
+ * {@code bank.transfer.group-commit.batch-rows} transaction rows are waiting, whichever comes first.
+ * <p>
+ * A transfer is only answered once its flush has committed, after its outcome was sent to both shards: the next
+ * transfer of the same caller always finds its shards settled. The queue needs no bound of its own, it never holds
+ * more than the transfers admitted by the shards.
+ */
+@Slf4j
+final class GroupCommitter {
+
+    private static final long POLL_MILLIS = 100;
+    private static final int ROWS_PER_TRANSFER = 2;
+
+    private final ShardBatchWriter writer;
+    private final long flushNanos;
+    private final int batchTransfers;
+    private final BlockingQueue<ShardTransfer<?>> pending = new LinkedBlockingQueue<>();
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final Thread thread;
+    private volatile boolean stopped;
+
+    GroupCommitter(ShardBatchWriter writer, long flushMillis, int batchRows, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.flushNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushMillis));
+        this.batchTransfers = Math.max(1, batchRows / ROWS_PER_TRANSFER);
+        this.flushSize = DistributionSummary.builder("bank.transactions.flush.size")
+                .description("Transaction rows committed per group commit")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("bank.transactions.flush.latency")
+                .description("Duration of a group commit")
+                .register(meterRegistry);
+        Gauge.builder("bank.transactions.flush.queued", pending, BlockingQueue::size)
+                .description("Accepted transfers waiting for the next group commit")
+                .register(meterRegistry);
+        this.thread = new Thread(this::run, "ledger-group-commit");
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops once the transfers already queued are written.
+     */
+    void stop() throws InterruptedException {
+        stopped = true;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Called by the shard of the destination account, never waits.
+     */
+    void submit(ShardTransfer<?> transfer) {
+        pending.add(transfer);
+    }
+
+    private void run() {
+        List<ShardTransfer<?>> batch = new ArrayList<>(batchTransfers);
+        while (!stopped || !pending.isEmpty()) {
+            try {
+                ShardTransfer<?> first = pending.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // The flush interval starts with the first transfer waiting, an idle engine adds no delay to it
+                long deadline = System.nanoTime() + flushNanos;
+                while (batch.size() < batchTransfers) {
+                    pending.drainTo(batch, batchTransfers - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() >= batchTransfers || wait <= 0) {
+                        break;
+                    }
+                    ShardTransfer<?> next = pending.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Group commit interrupted, {} transfers left", pending.size() + batch.size());
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<ShardTransfer<?>> batch) {
+        long start = System.nanoTime();
+        List<RuntimeException> failures;
+        try {
+            failures = writer.write(batch);
+        } catch (RuntimeException e) {
+            failures = Collections.nCopies(batch.size(), e);
+        }
+        flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        flushSize.record((double) batch.size() * ROWS_PER_TRANSFER);
+        for (int i = 0; i < batch.size(); i++) {
+            ShardTransfer<?> transfer = batch.get(i);
+            RuntimeException failure = failures.get(i);
+            LedgerShard.settle(transfer, failure == null);
+            if (failure == null) {
+                transfer.complete();
+            } else {
+                transfer.fail(failure);
+            }
+        }
+    }
+}
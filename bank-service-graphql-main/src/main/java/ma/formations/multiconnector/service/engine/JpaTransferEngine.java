@@ -0,0 +1,59 @@
+package ma.formations.multiconnector.service.engine;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.service.concurrency.TransferExecutor;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Default engine: each transfer runs in its own transaction under the account locks, its balances are checked
+ * by the conditional updates themselves.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "bank.transfer.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaTransferEngine implements TransferEngine {
+
+    private final TransferExecutor transferExecutor;
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionWriter transactionWriter;
+
+    @Override
+    public <T> T transfer(String ribFrom, String ribTo, Money amount, User user,
+                          BiFunction<BankAccountTransaction, BankAccountTransaction, T> posting,
+                          Supplier<BusinessException> rejection) {
+        return transferExecutor.execute(ribFrom, ribTo, () -> {
+            // The ids of both accounts are read in one query, the transaction rows only need them
+            Map<String, Long> accountIds = new HashMap<>();
+            for (BankAccountRepository.AccountId account : bankAccountRepository.findIdsByRibIn(List.of(ribFrom, ribTo))) {
+                accountIds.put(account.getRib(), account.getId());
+            }
+            Long sourceId = accountIds.get(ribFrom);
+            Long destinationId = accountIds.get(ribTo);
+
+            // Perform transfer (RG_13, RG_14): each conditional update enforces RG_11 and RG_12,
+            // the accounts are only loaded to explain a rejection
+            Date now = new Date();
+            if (sourceId == null || destinationId == null || !bankAccountRepository.transfer(ribFrom, ribTo, amount, now)) {
+                throw rejection.get();
+            }
+            BankAccountTransaction debit = TransferRows.debit(bankAccountRepository.getReferenceById(sourceId), amount, user, now);
+            BankAccountTransaction credit = TransferRows.credit(bankAccountRepository.getReferenceById(destinationId), amount, user, now);
+            transactionWriter.writeTransfer(debit, credit);
+            return posting.apply(debit, credit);
+        });
+    }
+}
@@ -0,0 +1,253 @@
+package ma.formations.multiconnector.service.engine;
+
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.enums.AccountStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * One shard of the {@link ShardedTransferEngine}: a single thread, the only one reading and changing the balances
+ * of the accounts hashed onto it, so that it needs no lock. The transfers it accepts are written by the
+ * {@link GroupCommitter}, which sends their outcome back to both shards.
+ * <p>
+ * The balance of an account is its committed balance minus the debits in flight, a credit only counts once written:
+ * the shard never accepts a debit the database could not cover, whatever the outcome of the transfers in flight.
+ * An account is read from the database when first used, when a transfer is about to be refused and when a write
+ * found it changed by another writer, as long as no transfer of the shard is in flight on it.
+ * <p>
+ * New transfers are bounded by the capacity of the shard. The messages between shards never are, so that two shards
+ * never wait on each other: the admitted transfers already bound them.
+ */
+@Slf4j
+final class LedgerShard {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BankAccountRepository bankAccountRepository;
+    private final GroupCommitter committer;
+    private final int capacity;
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<String, ShardAccount> accounts = new HashMap<>();
+    private final Thread thread;
+    private volatile boolean stopped;
+
+    LedgerShard(int index, BankAccountRepository bankAccountRepository, GroupCommitter committer, int capacity) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.committer = committer;
+        this.capacity = capacity;
+        this.thread = new Thread(this::run, "ledger-shard-" + index);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops once the messages already queued are processed.
+     */
+    void stop() throws InterruptedException {
+        stopped = true;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Queues a new transfer on the shard of its source account.
+     *
+     * @return false if the shard already holds its capacity of new transfers
+     */
+    boolean admit(ShardTransfer<?> transfer) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        tasks.add(() -> {
+            queued.decrementAndGet();
+            reserve(transfer);
+        });
+        return true;
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Called by the group committer once the transfer is written or dropped, before its caller is answered:
+     * both sides settle it before any later transfer of the caller reaches their shard.
+     */
+    static void settle(ShardTransfer<?> transfer, boolean written) {
+        transfer.destination.send(() -> transfer.destination.settleCredit(transfer, written));
+        transfer.source.send(() -> transfer.source.settleDebit(transfer, written));
+    }
+
+    private void send(Runnable task) {
+        tasks.add(task);
+    }
+
+    private void run() {
+        while (!stopped || !tasks.isEmpty()) {
+            Runnable task;
+            try {
+                task = tasks.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Shard {} interrupted, {} messages left", thread.getName(), tasks.size());
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Shard {} failed to process a message", thread.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Source side: the amount is taken from the balance until the transfer is written or dropped.
+     */
+    private void reserve(ShardTransfer<?> transfer) {
+        long amount = transfer.amount.getMinorUnits();
+        ShardAccount source;
+        try {
+            source = account(transfer.ribFrom, account -> account.isOpened() && Money.covers(account.balance, amount));
+        } catch (RuntimeException e) {
+            transfer.fail(e);
+            return;
+        }
+        if (source == null) {
+            transfer.refuse();
+            return;
+        }
+        source.balance -= amount;
+        source.inFlight++;
+        transfer.sourceAccount = source;
+        if (transfer.destination == this) {
+            accept(transfer);
+        } else {
+            transfer.destination.send(() -> transfer.destination.accept(transfer));
+        }
+    }
+
+    /**
+     * Destination side: an opened account is credited once the transfer is written.
+     */
+    private void accept(ShardTransfer<?> transfer) {
+        ShardAccount destination;
+        try {
+            destination = account(transfer.ribTo, ShardAccount::isOpened);
+        } catch (RuntimeException e) {
+            settleSource(transfer, false);
+            transfer.fail(e);
+            return;
+        }
+        if (destination == null) {
+            settleSource(transfer, false);
+            transfer.refuse();
+            return;
+        }
+        destination.inFlight++;
+        transfer.destinationAccount = destination;
+        committer.submit(transfer);
+    }
+
+    /**
+     * A written credit becomes available. One that was not written may still have been, the account is read again.
+     */
+    private void settleCredit(ShardTransfer<?> transfer, boolean written) {
+        ShardAccount destination = transfer.destinationAccount;
+        destination.inFlight--;
+        if (written) {
+            destination.balance += transfer.amount.getMinorUnits();
+        } else {
+            destination.stale = true;
+        }
+    }
+
+    private void settleSource(ShardTransfer<?> transfer, boolean written) {
+        if (transfer.source == this) {
+            settleDebit(transfer, written);
+        } else {
+            transfer.source.send(() -> transfer.source.settleDebit(transfer, written));
+        }
+    }
+
+    /**
+     * A debit that was not written gives its amount back. Its outcome may be unknown, the account is read again.
+     */
+    private void settleDebit(ShardTransfer<?> transfer, boolean written) {
+        ShardAccount source = transfer.sourceAccount;
+        source.inFlight--;
+        if (!written) {
+            source.balance += transfer.amount.getMinorUnits();
+            source.stale = true;
+        }
+    }
+
+    /**
+     * @return the account if it exists and passes the check, read again from the database before giving up
+     * unless a transfer of the shard is in flight on it
+     */
+    private ShardAccount account(String rib, Predicate<ShardAccount> check) {
+        ShardAccount account = accounts.get(rib);
+        boolean read = false;
+        if (account == null || (account.stale && account.inFlight == 0)) {
+            account = load(rib);
+            read = true;
+        }
+        if (account != null && check.test(account)) {
+            return account;
+        }
+        if (read || account.inFlight > 0) {
+            return null;
+        }
+        account = load(rib);
+        return account != null && check.test(account) ? account : null;
+    }
+
+    private ShardAccount load(String rib) {
+        List<BankAccountRepository.AccountState> states = bankAccountRepository.findStatesByRibIn(List.of(rib));
+        if (states.isEmpty()) {
+            accounts.remove(rib);
+            return null;
+        }
+        BankAccountRepository.AccountState state = states.get(0);
+        ShardAccount account = accounts.computeIfAbsent(rib, key -> new ShardAccount(state.getId()));
+        account.status = state.getAccountStatus();
+        account.balance = Objects.requireNonNullElse(state.getAmount(), Money.ZERO).getMinorUnits();
+        account.stale = false;
+        return account;
+    }
+
+    /**
+     * Account as seen by its shard, only read and changed by the shard thread.
+     */
+    static final class ShardAccount {
+        final long id;
+        AccountStatus status;
+        long balance;
+        int inFlight;
+        boolean stale;
+
+        private ShardAccount(long id) {
+            this.id = id;
+        }
+
+        boolean isOpened() {
+            return status == AccountStatus.OPENED;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ma.formations.multiconnector.service.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes a group commit, the transfers accepted by all the shards since the previous one, in one transaction:
+ * a single update per account with its net change, the debit and credit rows of every transfer, then what each
+ * posting records (idempotency record, events).
+ * <p>
+ * The update of an account only applies if it is still opened and stays covered, so that the balances of the shards
+ * are checked against the database. When the batch fails, each transfer is written again in a transaction of its own
+ * and only the faulty ones fail.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "bank.transfer.engine", havingValue = "sharded")
+class ShardBatchWriter {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionWriter transactionWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @return the failure of each transfer, null for the written ones
+     */
+    List<RuntimeException> write(List<ShardTransfer<?>> transfers) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> post(transfers));
+            return Collections.nCopies(transfers.size(), null);
+        } catch (RuntimeException e) {
+            if (transfers.size() == 1) {
+                return List.of(e);
+            }
+            log.info("Batch of {} transfers failed ({}), writing them one by one", transfers.size(), e.getMessage());
+        }
+        List<RuntimeException> failures = new ArrayList<>(transfers.size());
+        for (ShardTransfer<?> transfer : transfers) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> post(List.of(transfer)));
+                failures.add(null);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    private void post(List<ShardTransfer<?>> transfers) {
+        Date now = new Date();
+        // Net change and number of rows of each account, updated in RIB order like the other transfer paths
+        Map<String, long[]> changes = new TreeMap<>();
+        for (ShardTransfer<?> transfer : transfers) {
+            change(changes, transfer.ribFrom, -transfer.amount.getMinorUnits());
+            change(changes, transfer.ribTo, transfer.amount.getMinorUnits());
+        }
+        for (Map.Entry<String, long[]> change : changes.entrySet()) {
+            long delta = change.getValue()[0];
+            if (bankAccountRepository.postNet(change.getKey(), Money.ofMinor(delta), Money.ofMinor(-delta),
+                    change.getValue()[1], now) == 0) {
+                throw new ShardTransfer.AccountChanged(change.getKey());
+            }
+        }
+
+        // Rows of every transfer first, so that Hibernate sends them as JDBC batches
+        List<BankAccountTransaction> rows = new ArrayList<>(transfers.size() * 2);
+        for (ShardTransfer<?> transfer : transfers) {
+            BankAccountTransaction debit = TransferRows.debit(
+                    bankAccountRepository.getReferenceById(transfer.sourceAccount.id), transfer.amount, transfer.user, now);
+            BankAccountTransaction credit = TransferRows.credit(
+                    bankAccountRepository.getReferenceById(transfer.destinationAccount.id), transfer.amount, transfer.user, now);
+            transactionWriter.writeTransfer(debit, credit);
+            rows.add(debit);
+            rows.add(credit);
+        }
+        for (int i = 0; i < transfers.size(); i++) {
+            transfers.get(i).post(rows.get(2 * i), rows.get(2 * i + 1));
+        }
+    }
+
+    private static void change(Map<String, long[]> changes, String rib, long amount) {
+        long[] change = changes.computeIfAbsent(rib, key -> new long[2]);
+        change[0] = Money.addMinor(change[0], amount);
+        change[1]++;
+    }
+}
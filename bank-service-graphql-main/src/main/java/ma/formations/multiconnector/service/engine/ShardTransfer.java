@@ -0,0 +1,76 @@
+package ma.formations.multiconnector.service.engine;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * A transfer travelling through the shards: reserved by the shard of its source account, accepted by the shard
+ * of its destination account, written, then settled by both. Each field is written by one shard and read by the
+ * next ones, which receive the transfer through their queue.
+ */
+final class ShardTransfer<T> {
+    final String ribFrom;
+    final String ribTo;
+    final Money amount;
+    final User user;
+    final LedgerShard source;
+    final LedgerShard destination;
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    private final BiFunction<BankAccountTransaction, BankAccountTransaction, T> posting;
+    LedgerShard.ShardAccount sourceAccount;
+    LedgerShard.ShardAccount destinationAccount;
+    private T response;
+
+    ShardTransfer(String ribFrom, String ribTo, Money amount, User user,
+                  BiFunction<BankAccountTransaction, BankAccountTransaction, T> posting,
+                  LedgerShard source, LedgerShard destination) {
+        this.ribFrom = ribFrom;
+        this.ribTo = ribTo;
+        this.amount = amount;
+        this.user = user;
+        this.posting = posting;
+        this.source = source;
+        this.destination = destination;
+    }
+
+    /**
+     * Called inside the transaction writing the rows, the response is handed to the caller once it commits.
+     */
+    void post(BankAccountTransaction debit, BankAccountTransaction credit) {
+        response = posting.apply(debit, credit);
+    }
+
+    void complete() {
+        result.complete(response);
+    }
+
+    void refuse() {
+        result.completeExceptionally(new Refused());
+    }
+
+    void fail(RuntimeException failure) {
+        result.completeExceptionally(failure);
+    }
+
+    /**
+     * The shards refused the transfer: an account is missing, not opened or not covered.
+     */
+    static final class Refused extends RuntimeException {
+        Refused() {
+            super("Transfer refused by the shards", null, false, false);
+        }
+    }
+
+    /**
+     * The database refused the balances of the shards: an account was changed by another writer.
+     */
+    static final class AccountChanged extends RuntimeException {
+        AccountChanged(String rib) {
+            super("Account " + rib + " changed outside the shards", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ma.formations.multiconnector.service.engine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Sharded single-writer engine: every RIB is hashed onto one of {@code bank.transfer.shards} {@link LedgerShard}s,
+ * which decides the transfers of its accounts from its in-memory balances.
+ * <p>
+ * A transfer is reserved by the shard of its source account, which takes the amount from the balance, then accepted
+ * by the shard of its destination account, which hands it to the {@link GroupCommitter} without waiting: the
+ * transfers of all the shards are written together (net updates, rows and postings in one transaction per flush),
+ * then settled on both shards. A refused or failed destination gives the reservation back to the source shard.
+ * The caller thread waits until its transfer is committed. A shard already holding
+ * {@code bank.transfer.shard.queue-capacity} new transfers refuses the next ones at once.
+ * <p>
+ * The database stays the reference: an account changed by another writer (batch transfers, account status,
+ * other instances) fails its write, is read again by its shard and the transfer is submitted again,
+ * up to {@code bank.transfer.retry.max-attempts} times.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bank.transfer.engine", havingValue = "sharded")
+public class ShardedTransferEngine implements TransferEngine, DisposableBean {
+
+    private final LedgerShard[] shards;
+    private final GroupCommitter committer;
+    private final int maxAttempts;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Counter saturated;
+    private final Counter conflicts;
+    private volatile boolean stopping;
+
+    public ShardedTransferEngine(BankAccountRepository bankAccountRepository,
+                                 ShardBatchWriter writer,
+                                 @Value("${bank.transfer.shards:0}") int shardCount,
+                                 @Value("${bank.transfer.shard.queue-capacity:1024}") int queueCapacity,
+                                 @Value("${bank.transfer.group-commit.flush-ms:2}") long flushMillis,
+                                 @Value("${bank.transfer.group-commit.batch-rows:1000}") int batchRows,
+                                 @Value("${bank.transfer.retry.max-attempts:3}") int maxAttempts,
+                                 MeterRegistry meterRegistry) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.committer = new GroupCommitter(writer, flushMillis, batchRows, meterRegistry);
+        this.shards = new LedgerShard[count];
+        for (int i = 0; i < count; i++) {
+            LedgerShard shard = new LedgerShard(i, bankAccountRepository, committer, Math.max(1, queueCapacity));
+            shards[i] = shard;
+            Gauge.builder("bank.transfer.shard.queued", shard, LedgerShard::queued)
+                    .description("New transfers waiting for their shard")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+            shard.start();
+        }
+        committer.start();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.saturated = Counter.builder("bank.transfer.shard.saturated")
+                .description("Transfers refused because the shard of their source account was full")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("bank.transfer.shard.conflicts")
+                .description("Transfers submitted again because an account changed outside the shards")
+                .register(meterRegistry);
+        log.info("Sharded transfer engine started with {} shards", count);
+    }
+
+    @Override
+    public <T> T transfer(String ribFrom, String ribTo, Money amount, User user,
+                          BiFunction<BankAccountTransaction, BankAccountTransaction, T> posting,
+                          Supplier<BusinessException> rejection) {
+        for (int attempt = 1; ; attempt++) {
+            ShardTransfer<T> transfer = new ShardTransfer<>(ribFrom, ribTo, amount, user, posting,
+                    shardOf(ribFrom), shardOf(ribTo));
+            running.incrementAndGet();
+            if (stopping || !transfer.source.admit(transfer)) {
+                running.decrementAndGet();
+                saturated.increment();
+                throw new BusinessException("Trop de virements en attente, veuillez réessayer");
+            }
+            transfer.result.whenComplete((response, failure) -> running.decrementAndGet());
+            try {
+                return await(transfer.result);
+            } catch (ShardTransfer.Refused e) {
+                throw rejection.get();
+            } catch (ShardTransfer.AccountChanged e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    log.warn("Transfer from {} to {} given up after {} attempts: {}", ribFrom, ribTo, attempt, e.getMessage());
+                    throw new BusinessException("Le compte a été modifié par une autre opération, veuillez réessayer");
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops taking transfers, waits for the ones in flight, then stops the group commit and the shards, which
+     * still settle the last transfers written.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopping = true;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (running.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if (running.get() > 0) {
+            log.warn("{} transfers still in flight when the shards stop", running.get());
+        }
+        committer.stop();
+        for (LedgerShard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    private LedgerShard shardOf(String rib) {
+        int h = rib.hashCode();
+        h ^= (h >>> 16);
+        return shards[Math.floorMod(h, shards.length)];
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Opération interrompue");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.service.engine;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Moves the money of a single transfer and writes its debit and credit rows.
+ * The implementation is chosen with the {@code bank.transfer.engine} property, batches of transfers
+ * always run under the account locks of the {@code TransferExecutor}.
+ */
+public interface TransferEngine {
+
+    /**
+     * @param posting   builds the response from the debit and credit rows, inside the transaction that writes them
+     *                  once they have their id: what it records commits together with the transfer
+     * @param rejection explains a transfer refused for a missing account, a status or a balance, it is thrown to the caller
+     */
+    <T> T transfer(String ribFrom, String ribTo, Money amount, User user,
+                   BiFunction<BankAccountTransaction, BankAccountTransaction, T> posting,
+                   Supplier<BusinessException> rejection);
+}
@@ -0,0 +1,37 @@
+package ma.formations.multiconnector.service.engine;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.User;
+
+import java.util.Date;
+
+/**
+ * Debit and credit rows of a transfer (RG_15), built the same way by every engine.
+ */
+final class TransferRows {
+
+    private TransferRows() {
+    }
+
+    static BankAccountTransaction debit(BankAccount account, Money amount, User user, Date at) {
+        return row(TransactionType.DEBIT, account, amount, user, at);
+    }
+
+    static BankAccountTransaction credit(BankAccount account, Money amount, User user, Date at) {
+        return row(TransactionType.CREDIT, account, amount, user, at);
+    }
+
+    private static BankAccountTransaction row(TransactionType type, BankAccount account, Money amount, User user, Date at) {
+        return BankAccountTransaction.builder()
+                .amount(amount)
+                .transactionType(type)
+                .bankAccount(account)
+                .user(user)
+                .date(at)
+                .createdAt(at)
+                .build();
+    }
+}
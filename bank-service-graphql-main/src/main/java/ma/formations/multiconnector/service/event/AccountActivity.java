@@ -0,0 +1,13 @@
+package ma.formations.multiconnector.service.event;
+
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+
+import java.util.List;
+
+/**
+ * What the subscribers of an account receive for each committed transfer transaction:
+ * the balance after the commit and the transactions posted on the account, in posting order.
+ */
+public record AccountActivity(String rib, Money balance, String date, List<TransactionDto> transactions) {
+}
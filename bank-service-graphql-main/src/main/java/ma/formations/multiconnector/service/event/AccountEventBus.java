@@ -0,0 +1,105 @@
+package ma.formations.multiconnector.service.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-process fan-out of the committed transfers to the GraphQL subscriptions and the dashboard stream.
+ * <p>
+ * Nothing is read nor emitted while nobody is subscribed. Otherwise the balances of the accounts of a commit
+ * are read in one query and every subscriber gets the activity of its accounts. A subscriber that does not keep
+ * up loses the oldest events beyond {@code bank.events.buffer-size}, it never slows the transfers down.
+ * Events live in memory only: each instance pushes the transfers it executed itself.
+ */
+@Component
+@Slf4j
+public class AccountEventBus {
+    private final Sinks.Many<AccountActivity> sink = Sinks.many().multicast().directBestEffort();
+    private final BankAccountRepository bankAccountRepository;
+    private final CommonTools commonTools;
+    private final int bufferSize;
+    private final Counter dropped;
+
+    public AccountEventBus(BankAccountRepository bankAccountRepository, CommonTools commonTools,
+                           @Value("${bank.events.buffer-size:256}") int bufferSize,
+                           MeterRegistry meterRegistry) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.commonTools = commonTools;
+        this.bufferSize = bufferSize;
+        this.dropped = Counter.builder("bank.events.dropped")
+                .description("Account events dropped because a subscriber did not keep up")
+                .register(meterRegistry);
+        Gauge.builder("bank.events.subscribers", sink, Sinks.Many::currentSubscriberCount)
+                .description("Open subscriptions to the account events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the activity of the given accounts, from now on
+     */
+    public Flux<AccountActivity> subscribe(Collection<String> ribs) {
+        return sink.asFlux()
+                .filter(activity -> ribs.contains(activity.rib()))
+                .onBackpressureBuffer(bufferSize, activity -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransfersPosted(TransfersPosted event) {
+        if (sink.currentSubscriberCount() == 0)
+            return;
+        Map<String, List<TransactionDto>> transactions = new LinkedHashMap<>();
+        for (AccountPosting posting : event.postings())
+            transactions.computeIfAbsent(posting.rib(), rib -> new ArrayList<>()).add(toDto(posting));
+        //Read after the commit by a projection, the accounts of the persistence context may be stale references
+        Map<String, Money> balances = bankAccountRepository.findBalancesByRibIn(transactions.keySet()).stream()
+                .collect(Collectors.toMap(BankAccountRepository.RibBalance::getRib, BankAccountRepository.RibBalance::getAmount));
+
+        //Sinks reject concurrent emissions, transfers commit on several threads
+        synchronized (sink) {
+            for (Map.Entry<String, List<TransactionDto>> account : transactions.entrySet()) {
+                List<TransactionDto> posted = account.getValue();
+                AccountActivity activity = new AccountActivity(account.getKey(), balances.get(account.getKey()),
+                        posted.get(posted.size() - 1).getCreatedAt(), posted);
+                Sinks.EmitResult result = sink.tryEmitNext(activity);
+                if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER)
+                    log.warn("Account event of {} not emitted: {}", account.getKey(), result);
+            }
+        }
+    }
+
+    private TransactionDto toDto(AccountPosting posting) {
+        BankAccountTransaction transaction = posting.transaction();
+        return TransactionDto.builder().
+                id(transaction.getId()).
+                createdAt(transaction.getCreatedAt() == null ? null : commonTools.dateToString(transaction.getCreatedAt())).
+                transactionType(transaction.getTransactionType() == null ? null : transaction.getTransactionType().name()).
+                amount(transaction.getAmount()).
+                bankAccount(BankAccountDto.builder().id(transaction.getBankAccount().getId()).rib(posting.rib()).build()).
+                user(transaction.getUser() == null ? null :
+                        UserDto.builder().id(transaction.getUser().getId()).build()).
+                build();
+    }
+}
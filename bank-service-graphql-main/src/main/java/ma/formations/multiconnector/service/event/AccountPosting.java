@@ -0,0 +1,10 @@
+package ma.formations.multiconnector.service.event;
+
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+
+/**
+ * A transaction row written by a transfer, with the RIB of its account: the account of a batch row
+ * is an uninitialized reference that cannot be read once the transaction is over.
+ */
+public record AccountPosting(String rib, BankAccountTransaction transaction) {
+}
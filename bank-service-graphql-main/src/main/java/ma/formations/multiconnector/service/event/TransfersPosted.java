@@ -0,0 +1,10 @@
+package ma.formations.multiconnector.service.event;
+
+import java.util.List;
+
+/**
+ * Published from inside a transfer transaction, {@link AccountEventBus} forwards it to the subscribers
+ * only once that transaction is committed.
+ */
+public record TransfersPosted(List<AccountPosting> postings) {
+}
@@ -0,0 +1,8 @@
+package ma.formations.multiconnector.service.event;
+
+/**
+ * Published when the password, the status or the roles of a user change, or when the user is deleted:
+ * the tokens already issued to the user must be verified again.
+ */
+public record UserCredentialsChanged(String username) {
+}
@@ -0,0 +1,12 @@
+package ma.formations.multiconnector.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A validated export, written later to the response stream, row by row.
+ */
+@FunctionalInterface
+public interface TransactionExport {
+    void writeTo(OutputStream outputStream) throws IOException;
+}
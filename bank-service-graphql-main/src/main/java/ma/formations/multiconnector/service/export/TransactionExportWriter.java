@@ -0,0 +1,113 @@
+package ma.formations.multiconnector.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.dtos.transaction.TransactionExportRow;
+import ma.formations.multiconnector.enums.ExportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes exported rows as they are read, one NDJSON line or CSV record per transaction,
+ * flushing the output every {@value #FLUSH_EVERY} rows so that the client receives the file progressively.
+ */
+@Component
+public class TransactionExportWriter {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "id,createdAt,transactionType,amount,rib,username";
+
+    private final JsonFactory jsonFactory;
+    private final DateTimeFormatter dateFormatter;
+
+    public TransactionExportWriter(ObjectMapper objectMapper, CommonTools tools) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.dateFormatter = DateTimeFormatter.ofPattern(tools.getDateFormat()).withZone(ZoneId.systemDefault());
+    }
+
+    public void write(Stream<TransactionExportRow> rows, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsv(rows.iterator(), writer);
+        } else {
+            writeNdjson(rows.iterator(), writer);
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TransactionExportRow> rows, Writer writer) throws IOException {
+        int count = 0;
+        while (rows.hasNext()) {
+            TransactionExportRow row = rows.next();
+            // A generator per line: it is not closed so that it doesn't close the response writer
+            JsonGenerator generator = jsonFactory.createGenerator(writer);
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeStringField("createdAt", format(row));
+            generator.writeStringField("transactionType", row.transactionType() == null ? null : row.transactionType().name());
+            if (row.amount() == null) {
+                generator.writeNullField("amount");
+            } else {
+                generator.writeNumberField("amount", row.amount().toBigDecimal());
+            }
+            generator.writeStringField("rib", row.rib());
+            generator.writeStringField("username", row.username());
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<TransactionExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        int count = 0;
+        while (rows.hasNext()) {
+            TransactionExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(row.createdAt() == null ? "" : format(row));
+            writer.write(',');
+            writer.write(row.transactionType() == null ? "" : row.transactionType().name());
+            writer.write(',');
+            writer.write(row.amount() == null ? "" : row.amount().toBigDecimal().toPlainString());
+            writer.write(',');
+            writer.write(csv(row.rib()));
+            writer.write(',');
+            writer.write(csv(row.username()));
+            writer.write("\r\n");
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    private String format(TransactionExportRow row) {
+        return row.createdAt() == null ? null : dateFormatter.format(row.createdAt().toInstant());
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,240 @@
+package ma.formations.multiconnector.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.dao.IdempotencyRecordRepository;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.IdempotencyRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Remembers the response of transfers submitted with an Idempotency-Key so that a client retry
+ * gets the first response back instead of moving the money twice.
+ * Keys are scoped by user, a record is identified by the hash of both. Recent responses are served
+ * from a bounded in-memory cache, older ones from the IdempotencyRecord table. While a key is being executed, duplicates
+ * of the same key wait for the first execution and share its outcome.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final long retentionMillis;
+    private final long waitMillis;
+    private final Counter replays;
+    private final Counter waits;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            ObjectMapper objectMapper,
+                            @Value("${bank.idempotency.cache-size:10000}") int cacheSize,
+                            @Value("${bank.idempotency.ttl-minutes:10}") long ttlMinutes,
+                            @Value("${bank.idempotency.retention-hours:24}") long retentionHours,
+                            @Value("${bank.idempotency.wait-ms:10000}") long waitMillis,
+                            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.retentionMillis = TimeUnit.HOURS.toMillis(retentionHours);
+        this.waitMillis = waitMillis;
+        this.replays = Counter.builder("bank.idempotency.replays")
+                .description("Transfers answered from a stored response")
+                .register(meterRegistry);
+        this.waits = Counter.builder("bank.idempotency.waits")
+                .description("Duplicates that waited for the first execution of their key")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the action once per key and user.
+     * The action receives a recorder and must pass its response through it inside its own
+     * transaction, so that the record is committed together with the transfer.
+     * Without a key the action simply runs.
+     */
+    public <T> T execute(String key, String username, Object request, Class<T> responseType,
+                         Function<UnaryOperator<T>, T> action) {
+        if (key == null || key.isBlank()) {
+            return action.apply(UnaryOperator.identity());
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(String.format("La clé d'idempotence ne peut pas dépasser %d caractères", MAX_KEY_LENGTH));
+        }
+        String id = IdempotencyRecord.idOf(username, key);
+        String requestHash = hash(request);
+
+        StoredResponse stored = cached(id);
+        if (stored != null) {
+            return replay(key, stored, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(id, execution);
+        if (running != null) {
+            waits.increment();
+            return replay(key, await(running), requestHash, responseType);
+        }
+        try {
+            stored = load(id);
+            if (stored != null) {
+                execution.complete(stored);
+                return replay(key, stored, requestHash, responseType);
+            }
+            StoredResponse[] recorded = new StoredResponse[1];
+            T response;
+            try {
+                response = action.apply(result -> {
+                    recorded[0] = new StoredResponse(requestHash, write(result), System.currentTimeMillis());
+                    repository.saveAndFlush(IdempotencyRecord.builder()
+                            .id(id)
+                            .requestHash(requestHash)
+                            .response(recorded[0].json())
+                            .createdAt(new Date(recorded[0].storedAt()))
+                            .build());
+                    return result;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance committed the same key first, its transfer is the one that counts
+                stored = load(id);
+                if (stored == null) {
+                    throw e;
+                }
+                execution.complete(stored);
+                return replay(key, stored, requestHash, responseType);
+            }
+            if (recorded[0] != null) {
+                remember(id, recorded[0]);
+            }
+            execution.complete(recorded[0]);
+            return response;
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bank.idempotency.purge-interval-ms:600000}")
+    public void purgeExpiredRecords() {
+        int deleted = repository.deleteByCreatedAtBefore(new Date(System.currentTimeMillis() - retentionMillis));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    private <T> T replay(String key, StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BusinessException(String.format("La clé d'idempotence %s a déjà été utilisée pour une autre requête", key));
+        }
+        replays.increment();
+        try {
+            return objectMapper.readValue(stored.json(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable idempotency record for key " + key, e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            StoredResponse stored = running.get(waitMillis, TimeUnit.MILLISECONDS);
+            if (stored == null) {
+                throw new BusinessException("La requête d'origine n'a pas produit de réponse, veuillez réessayer");
+            }
+            return stored;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Opération interrompue");
+        } catch (TimeoutException e) {
+            throw new BusinessException("Une requête avec la même clé d'idempotence est en cours, veuillez réessayer");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private StoredResponse cached(String id) {
+        synchronized (cache) {
+            StoredResponse stored = cache.get(id);
+            if (stored != null && System.currentTimeMillis() - stored.storedAt() > ttlMillis) {
+                cache.remove(id);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void remember(String id, StoredResponse stored) {
+        synchronized (cache) {
+            cache.put(id, stored);
+        }
+    }
+
+    private StoredResponse load(String id) {
+        IdempotencyRecord record = repository.findById(id).orElse(null);
+        if (record == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - record.getCreatedAt().getTime() > retentionMillis) {
+            // Not purged yet: the key can be reused, the new record is inserted with the same id
+            repository.deleteExpired(id, new Date(System.currentTimeMillis() - retentionMillis));
+            return null;
+        }
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getResponse(),
+                record.getCreatedAt().getTime());
+        remember(id, stored);
+        return stored;
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize transfer response", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash transfer request", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String json, long storedAt) {
+    }
+}
@@ -0,0 +1,331 @@
+package ma.formations.multiconnector.service.journal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.JournalCommitRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.JournalCommit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Tails the {@link TransferJournal} on a single background thread:
+ * <ul>
+ *     <li>records left in doubt by a crash are resolved first: committed if their transaction
+ *     inserted its {@link JournalCommit} marker, aborted otherwise</li>
+ *     <li>committed transfers are inserted as BankAccountTransaction rows, in JDBC batches;
+ *     each row keeps its journal sequence, which is where projection resumes after a restart,
+ *     and the markers of the projected records are deleted in the same transaction</li>
+ *     <li>every record is folded into an in-memory balance table, saved as a snapshot file
+ *     every {@code bank.journal.snapshot-every} records</li>
+ * </ul>
+ * At startup the balances are rebuilt from the latest snapshot plus the journal tail and compared
+ * with the bank_account table, which stays the reference for the conditional debits.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bank.transactions.writer", havingValue = "journal")
+public class JournalProjector implements DisposableBean {
+
+    private static final int SNAPSHOT_MAGIC = 0x534E4150;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final TransferJournal journal;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankAccountTransactionRepository transactionRepository;
+    private final JournalCommitRepository journalCommitRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final long snapshotEvery;
+    private final long pollMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "journal-projector"));
+
+    private final Map<Long, Long> balances = new HashMap<>();
+    private volatile long projectedSeq;
+    private volatile long appliedSeq;
+    private long snapshotSeq;
+    private volatile int mismatches;
+
+    public JournalProjector(TransferJournal journal,
+                            BankAccountRepository bankAccountRepository,
+                            BankAccountTransactionRepository transactionRepository,
+                            JournalCommitRepository journalCommitRepository,
+                            UserRepository userRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${bank.journal.directory:./journal}") String directory,
+                            @Value("${bank.journal.snapshot-every:100000}") long snapshotEvery,
+                            @Value("${bank.journal.poll-ms:50}") long pollMillis,
+                            @Value("${bank.journal.batch-size:500}") int batchSize,
+                            MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.bankAccountRepository = bankAccountRepository;
+        this.transactionRepository = transactionRepository;
+        this.journalCommitRepository = journalCommitRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.directory = Paths.get(directory);
+        this.snapshotEvery = snapshotEvery;
+        this.pollMillis = pollMillis;
+        this.batchSize = batchSize;
+        Gauge.builder("bank.journal.projection.lag", this, projector -> projector.journal.lastSeq() - projector.projectedSeq)
+                .description("Committed journal records not yet inserted as transaction rows")
+                .register(meterRegistry);
+        Gauge.builder("bank.journal.reconciliation.mismatches", this, projector -> projector.mismatches)
+                .description("Accounts whose journal balance differed from the database at startup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs after the CommandLineRunners, so that accounts created at startup are part of the first snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.execute(this::recover);
+        executor.scheduleWithFixedDelay(this::drainSafely, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            drainSafely();
+        }
+    }
+
+    private void recover() {
+        resolveInDoubt();
+        projectedSeq = Objects.requireNonNullElse(transactionRepository.findMaxJournalSeq(), 0L);
+        if (!loadLatestSnapshot()) {
+            // First start with the journal: the database balances are the baseline
+            bankAccountRepository.findAllBalances()
+                    .forEach(balance -> balances.put(balance.getId(), balance.getAmount().getMinorUnits()));
+            appliedSeq = journal.lastSeq();
+            writeSnapshot();
+            log.info("Journal balances initialized from {} accounts at sequence {}", balances.size(), appliedSeq);
+            return;
+        }
+        long snapshotBase = appliedSeq;
+        while (applyBalances(journal.read(appliedSeq + 1, batchSize)) > 0) {
+            // replaying the journal tail
+        }
+        log.info("Journal balances rebuilt from snapshot {} and {} journal records", snapshotBase, appliedSeq - snapshotBase);
+        reconcile();
+    }
+
+    private void reconcile() {
+        int differences = 0;
+        for (BankAccountRepository.AccountBalance balance : bankAccountRepository.findAllBalances()) {
+            Long journalBalance = balances.get(balance.getId());
+            long databaseBalance = balance.getAmount().getMinorUnits();
+            if (journalBalance == null || journalBalance != databaseBalance) {
+                differences++;
+                log.warn("Account {}: journal balance {} but database balance {}", balance.getId(),
+                        journalBalance == null ? "unknown" : Money.ofMinor(journalBalance), balance.getAmount());
+            }
+        }
+        mismatches = differences;
+        if (differences == 0) {
+            log.info("Journal balances match the database");
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            while (drain() > 0) {
+                // keep going while there is a backlog
+            }
+        } catch (RuntimeException e) {
+            log.error("Journal projection failed, retrying at next poll", e);
+        }
+    }
+
+    /**
+     * Settles the records whose transaction was running when the application stopped.
+     * Retried at every poll until the database answers, the projection stops at the first one meanwhile.
+     */
+    private void resolveInDoubt() {
+        List<Long> inDoubt = journal.inDoubt();
+        if (inDoubt.isEmpty()) {
+            return;
+        }
+        Set<Long> committed = new HashSet<>();
+        journalCommitRepository.findAllById(inDoubt).forEach(marker -> committed.add(marker.getSeq()));
+        for (Long seq : inDoubt) {
+            journal.resolve(seq, committed.contains(seq) ? JournalRecord.Status.COMMITTED : JournalRecord.Status.ABORTED);
+        }
+        log.info("{} journal records in doubt resolved from the database: {} committed, {} aborted",
+                inDoubt.size(), committed.size(), inDoubt.size() - committed.size());
+    }
+
+    private int drain() {
+        resolveInDoubt();
+        long from = Math.min(projectedSeq, appliedSeq) + 1;
+        List<JournalRecord> records = resolvedPrefix(journal.read(from, batchSize));
+        if (records.isEmpty()) {
+            return 0;
+        }
+        List<BankAccountTransaction> rows = new ArrayList<>();
+        for (JournalRecord record : records) {
+            if (record.seq() > projectedSeq && record.type() == JournalRecord.Type.TRANSFER
+                    && record.status() == JournalRecord.Status.COMMITTED) {
+                rows.add(row(record, TransactionType.DEBIT, record.sourceAccountId()));
+                rows.add(row(record, TransactionType.CREDIT, record.destinationAccountId()));
+            }
+        }
+        long lastSeq = records.get(records.size() - 1).seq();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepository.saveAll(rows);
+            journalCommitRepository.deleteUpTo(lastSeq);
+        });
+        projectedSeq = Math.max(projectedSeq, lastSeq);
+        applyBalances(records);
+        if (appliedSeq - snapshotSeq >= snapshotEvery) {
+            writeSnapshot();
+            journal.prune(Math.min(snapshotSeq, projectedSeq));
+        }
+        return records.size();
+    }
+
+    /**
+     * Folds the records into the balances, stopping at the first one still pending.
+     */
+    private int applyBalances(List<JournalRecord> records) {
+        int applied = 0;
+        for (JournalRecord record : resolvedPrefix(records)) {
+            if (record.seq() <= appliedSeq) {
+                continue;
+            }
+            if (record.status() == JournalRecord.Status.COMMITTED) {
+                if (record.type() == JournalRecord.Type.OPEN) {
+                    balances.put(record.sourceAccountId(), record.amountMinor());
+                } else {
+                    balances.merge(record.sourceAccountId(), -record.amountMinor(), Money::addMinor);
+                    balances.merge(record.destinationAccountId(), record.amountMinor(), Money::addMinor);
+                }
+            }
+            appliedSeq = record.seq();
+            applied++;
+        }
+        return applied;
+    }
+
+    private List<JournalRecord> resolvedPrefix(List<JournalRecord> records) {
+        for (int i = 0; i < records.size(); i++) {
+            if (!records.get(i).isResolved()) {
+                return records.subList(0, i);
+            }
+        }
+        return records;
+    }
+
+    private BankAccountTransaction row(JournalRecord record, TransactionType type, long accountId) {
+        Date date = new Date(record.timestamp());
+        return BankAccountTransaction.builder()
+                .amount(Money.ofMinor(record.amountMinor()))
+                .transactionType(type)
+                .bankAccount(bankAccountRepository.getReferenceById(accountId))
+                .user(userRepository.getReferenceById(record.userId()))
+                .date(date)
+                .createdAt(date)
+                .journalSeq(record.seq())
+                .build();
+    }
+
+    private boolean loadLatestSnapshot() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = files.filter(this::isSnapshot).sorted().toList();
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshots.get(i))))) {
+                    if (in.readInt() != SNAPSHOT_MAGIC) {
+                        continue;
+                    }
+                    long seq = in.readLong();
+                    int count = in.readInt();
+                    balances.clear();
+                    for (int j = 0; j < count; j++) {
+                        balances.put(in.readLong(), in.readLong());
+                    }
+                    appliedSeq = seq;
+                    snapshotSeq = seq;
+                    return true;
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable snapshot {}: {}", snapshots.get(i), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot list journal snapshots: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Writes the balances to a temporary file moved into place, then keeps only the two latest snapshots.
+     */
+    private void writeSnapshot() {
+        Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, appliedSeq, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(appliedSeq);
+                out.writeInt(balances.size());
+                for (Map.Entry<Long, Long> balance : balances.entrySet()) {
+                    out.writeLong(balance.getKey());
+                    out.writeLong(balance.getValue());
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshotSeq = appliedSeq;
+            try (Stream<Path> files = Files.list(directory)) {
+                List<Path> snapshots = files.filter(this::isSnapshot).sorted().toList();
+                for (int i = 0; i < snapshots.size() - 2; i++) {
+                    Files.deleteIfExists(snapshots.get(i));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot write journal snapshot {}: {}", target, e.getMessage());
+        }
+    }
+
+    private boolean isSnapshot(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+}
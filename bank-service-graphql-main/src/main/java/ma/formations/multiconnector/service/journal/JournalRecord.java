@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.service.journal;
+
+/**
+ * One fixed-size journal entry: a transfer (debit and credit pair) or an account opening.
+ * For an opening only the source account and the amount are set.
+ */
+public record JournalRecord(long seq, Type type, Status status, long timestamp,
+                            long sourceAccountId, long destinationAccountId, long userId, long amountMinor) {
+
+    public enum Type {
+        OPEN, TRANSFER
+    }
+
+    /**
+     * A record is appended as PENDING inside the transfer transaction and resolved once the
+     * transaction completes. Records still pending after a crash are marked IN_DOUBT at startup,
+     * until the projector resolves them from their journal_commit marker.
+     */
+    public enum Status {
+        PENDING, COMMITTED, ABORTED, IN_DOUBT
+    }
+
+    boolean isResolved() {
+        return status == Status.COMMITTED || status == Status.ABORTED;
+    }
+}
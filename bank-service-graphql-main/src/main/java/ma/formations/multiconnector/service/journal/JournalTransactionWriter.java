@@ -0,0 +1,76 @@
+package ma.formations.multiconnector.service.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ma.formations.multiconnector.dao.JournalCommitRepository;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.JournalCommit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Journal writer: a transfer costs one append to the memory-mapped journal and the insert of a small
+ * {@link JournalCommit} marker instead of two rows. The record is forced to disk before the transaction
+ * commits, and the marker commits with the balances, so a record left in doubt by a crash is settled
+ * from the database. The rows are inserted later by the {@link JournalProjector}, so they have no id yet
+ * in the response.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.transactions.writer", havingValue = "journal")
+public class JournalTransactionWriter implements TransactionWriter {
+
+    private final TransferJournal journal;
+    private final JournalCommitRepository journalCommitRepository;
+    private final Counter appended;
+
+    public JournalTransactionWriter(TransferJournal journal, JournalCommitRepository journalCommitRepository,
+                                    MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.journalCommitRepository = journalCommitRepository;
+        this.appended = Counter.builder("bank.journal.appended")
+                .description("Records appended to the transfer journal")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void writeTransfer(BankAccountTransaction debit, BankAccountTransaction credit) {
+        long seq = journal.append(JournalRecord.Type.TRANSFER, debit.getCreatedAt().getTime(),
+                debit.getBankAccount().getId(), credit.getBankAccount().getId(),
+                debit.getUser().getId(), debit.getAmount().getMinorUnits());
+        resolveOnCompletion(seq);
+    }
+
+    @Override
+    public void accountOpened(BankAccount account) {
+        long seq = journal.append(JournalRecord.Type.OPEN, account.getCreatedAt().getTime(),
+                account.getId(), 0L, 0L, account.getAmount().getMinorUnits());
+        resolveOnCompletion(seq);
+    }
+
+    private void resolveOnCompletion(long seq) {
+        appended.increment();
+        journalCommitRepository.save(new JournalCommit(seq));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal.force(seq);
+            journal.resolve(seq, JournalRecord.Status.COMMITTED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                journal.force(seq);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                journal.resolve(seq, status == STATUS_COMMITTED
+                        ? JournalRecord.Status.COMMITTED
+                        : JournalRecord.Status.ABORTED);
+            }
+        });
+    }
+}
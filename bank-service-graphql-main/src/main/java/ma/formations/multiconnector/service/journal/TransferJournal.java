@@ -0,0 +1,289 @@
+package ma.formations.multiconnector.service.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only transfer journal made of memory-mapped segment files.
+ * Every entry is a {@link #RECORD_SIZE} bytes record addressed by its sequence number, so a record
+ * is located without any index and its status byte can be flipped in place once the transfer
+ * transaction completes. A new segment is started when the current one is full; segments fully
+ * covered by a balance snapshot and projected to the database are deleted by {@link #prune(long)}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bank.transactions.writer", havingValue = "journal")
+public class TransferJournal implements DisposableBean {
+
+    static final int RECORD_SIZE = 64;
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int STATUS_OFFSET = 9;
+    private static final int CRC_OFFSET = 56;
+    private static final int MAGIC_OFFSET = 60;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean fsync;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final Set<Long> inDoubt = new TreeSet<>();
+    private Segment current;
+    private long nextSeq;
+
+    public TransferJournal(@Value("${bank.journal.directory:./journal}") String directory,
+                           @Value("${bank.journal.segment-records:1048576}") int recordsPerSegment,
+                           @Value("${bank.journal.fsync:true}") boolean fsync) throws IOException {
+        if (recordsPerSegment <= 0 || recordsPerSegment > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("bank.journal.segment-records must be between 1 and "
+                    + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.fsync = fsync;
+        open();
+    }
+
+    /**
+     * Appends a PENDING record and returns its sequence number.
+     */
+    public synchronized long append(JournalRecord.Type type, long timestamp, long sourceAccountId,
+                                    long destinationAccountId, long userId, long amountMinor) {
+        if (nextSeq - current.firstSeq == recordsPerSegment) {
+            if (fsync) {
+                current.buffer.force();
+            }
+            current = createSegment(nextSeq);
+        }
+        long seq = nextSeq++;
+        MappedByteBuffer buffer = current.buffer;
+        int offset = current.offset(seq);
+        buffer.putLong(offset, seq);
+        buffer.put(offset + 8, (byte) type.ordinal());
+        buffer.put(offset + STATUS_OFFSET, (byte) JournalRecord.Status.PENDING.ordinal());
+        buffer.putLong(offset + 16, timestamp);
+        buffer.putLong(offset + 24, sourceAccountId);
+        buffer.putLong(offset + 32, destinationAccountId);
+        buffer.putLong(offset + 40, userId);
+        buffer.putLong(offset + 48, amountMinor);
+        buffer.putInt(offset + CRC_OFFSET, checksum(buffer, offset));
+        // Written last: a record without its magic is an unfinished append
+        buffer.putInt(offset + MAGIC_OFFSET, MAGIC);
+        return seq;
+    }
+
+    /**
+     * Makes an appended record durable, called before the transaction that appended it commits.
+     */
+    public synchronized void force(long seq) {
+        if (fsync) {
+            Segment segment = segmentOf(seq);
+            segment.buffer.force(segment.offset(seq), RECORD_SIZE);
+        }
+    }
+
+    /**
+     * Records the outcome of the transaction that appended the record.
+     */
+    public synchronized void resolve(long seq, JournalRecord.Status status) {
+        Segment segment = segmentOf(seq);
+        int offset = segment.offset(seq);
+        segment.buffer.put(offset + STATUS_OFFSET, (byte) status.ordinal());
+        if (fsync) {
+            segment.buffer.force(offset, RECORD_SIZE);
+        }
+        inDoubt.remove(seq);
+    }
+
+    /**
+     * @return the sequences of the records still in doubt, in ascending order
+     */
+    public synchronized List<Long> inDoubt() {
+        return List.copyOf(inDoubt);
+    }
+
+    /**
+     * Reads at most {@code max} records starting at {@code fromSeq}.
+     */
+    public synchronized List<JournalRecord> read(long fromSeq, int max) {
+        List<JournalRecord> records = new ArrayList<>();
+        for (long seq = Math.max(fromSeq, firstSeq()); seq < nextSeq && records.size() < max; seq++) {
+            records.add(readRecord(segmentOf(seq), seq));
+        }
+        return records;
+    }
+
+    public synchronized long lastSeq() {
+        return nextSeq - 1;
+    }
+
+    /**
+     * Deletes the segments whose records all have a sequence number up to {@code seq}.
+     */
+    public synchronized void prune(long seq) {
+        for (Map.Entry<Long, Segment> entry : List.copyOf(segments.entrySet())) {
+            Segment segment = entry.getValue();
+            if (segment != current && segment.firstSeq + recordsPerSegment - 1 <= seq) {
+                segments.remove(entry.getKey());
+                close(segment);
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    log.warn("Cannot delete journal segment {}: {}", segment.path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+            close(segment);
+        }
+        segments.clear();
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(this::isSegment).sorted().toList()) {
+                long firstSeq = Long.parseLong(path.getFileName().toString()
+                        .substring(SEGMENT_PREFIX.length()).replace(SEGMENT_SUFFIX, ""));
+                segments.put(firstSeq, mapSegment(path, firstSeq));
+            }
+        }
+        if (segments.isEmpty()) {
+            current = createSegment(1);
+            nextSeq = 1;
+            return;
+        }
+        current = segments.lastEntry().getValue();
+        nextSeq = current.firstSeq;
+        for (Segment segment : segments.values()) {
+            for (long seq = segment.firstSeq; seq < segment.firstSeq + recordsPerSegment; seq++) {
+                int offset = segment.offset(seq);
+                if (segment.buffer.getInt(offset + MAGIC_OFFSET) != MAGIC
+                        || segment.buffer.getInt(offset + CRC_OFFSET) != checksum(segment.buffer, offset)) {
+                    // Torn or never written: the journal ends here
+                    break;
+                }
+                byte status = segment.buffer.get(offset + STATUS_OFFSET);
+                if (status == JournalRecord.Status.PENDING.ordinal()) {
+                    segment.buffer.put(offset + STATUS_OFFSET, (byte) JournalRecord.Status.IN_DOUBT.ordinal());
+                    inDoubt.add(seq);
+                } else if (status == JournalRecord.Status.IN_DOUBT.ordinal()) {
+                    inDoubt.add(seq);
+                }
+                if (segment == current) {
+                    nextSeq = seq + 1;
+                }
+            }
+        }
+        // Clear a torn tail so that it cannot be mistaken for a record later on
+        if (nextSeq - current.firstSeq < recordsPerSegment) {
+            int offset = current.offset(nextSeq);
+            current.buffer.putInt(offset + MAGIC_OFFSET, 0);
+        }
+        if (!inDoubt.isEmpty()) {
+            log.warn("{} journal records were pending when the application stopped, they are marked in doubt", inDoubt.size());
+        }
+        log.info("Transfer journal opened in {}, next sequence {}", directory.toAbsolutePath(), nextSeq);
+    }
+
+    private boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private Segment createSegment(long firstSeq) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        try {
+            Segment segment = mapSegment(path, firstSeq);
+            segments.put(firstSeq, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal segment " + path, e);
+        }
+    }
+
+    private Segment mapSegment(Path path, long firstSeq) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        return new Segment(firstSeq, path, channel, buffer);
+    }
+
+    private Segment segmentOf(long seq) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(seq);
+        if (entry == null) {
+            throw new IllegalArgumentException("Journal record " + seq + " has been pruned");
+        }
+        return entry.getValue();
+    }
+
+    private long firstSeq() {
+        return segments.firstKey();
+    }
+
+    private JournalRecord readRecord(Segment segment, long seq) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = segment.offset(seq);
+        return new JournalRecord(
+                buffer.getLong(offset),
+                JournalRecord.Type.values()[buffer.get(offset + 8)],
+                JournalRecord.Status.values()[buffer.get(offset + STATUS_OFFSET)],
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32),
+                buffer.getLong(offset + 40),
+                buffer.getLong(offset + 48));
+    }
+
+    /**
+     * CRC of the record fields, the status byte excluded since it changes after the append.
+     */
+    private static int checksum(MappedByteBuffer buffer, int offset) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < CRC_OFFSET; i++) {
+            if (i != STATUS_OFFSET) {
+                crc.update(buffer.get(offset + i));
+            }
+        }
+        return (int) crc.getValue();
+    }
+
+    private static void close(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close journal segment {}: {}", segment.path, e.getMessage());
+        }
+    }
+
+    private record Segment(long firstSeq, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        int offset(long seq) {
+            return (int) (seq - firstSeq) * RECORD_SIZE;
+        }
+    }
+}
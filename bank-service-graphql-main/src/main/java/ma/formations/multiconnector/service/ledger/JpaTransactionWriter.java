@@ -0,0 +1,24 @@
+package ma.formations.multiconnector.service.ledger;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default writer: both rows are persisted with the transfer and carry their id in the response.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "bank.transactions.writer", havingValue = "jpa", matchIfMissing = true)
+public class JpaTransactionWriter implements TransactionWriter {
+
+    private final BankAccountTransactionRepository transactionRepository;
+
+    @Override
+    public void writeTransfer(BankAccountTransaction debit, BankAccountTransaction credit) {
+        transactionRepository.save(debit);
+        transactionRepository.save(credit);
+    }
+}
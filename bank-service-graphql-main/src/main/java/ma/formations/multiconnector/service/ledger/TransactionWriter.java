@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.service.ledger;
+
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+
+/**
+ * Receives the debit and credit rows of a transfer once both balances are updated.
+ * It is called inside the transfer transaction; the implementation is chosen with the
+ * {@code bank.transactions.writer} property.
+ */
+public interface TransactionWriter {
+
+    void writeTransfer(BankAccountTransaction debit, BankAccountTransaction credit);
+
+    /**
+     * Called inside the transaction that created the account, with its opening balance.
+     */
+    default void accountOpened(BankAccount account) {
+    }
+}
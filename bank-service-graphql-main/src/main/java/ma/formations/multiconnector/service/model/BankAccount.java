@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.enums.AccountStatus;
 
 import java.util.Date;
@@ -17,16 +18,33 @@ import java.util.List;
 @Data
 public class BankAccount {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_seq")
+    @SequenceGenerator(name = "bank_account_seq", sequenceName = "bank_account_seq", allocationSize = 100)
     private Long id;
     @Column(unique = true, nullable = false)
     private String rib;
-    private Double amount;
+    /**
+     * Null only until the account is first persisted, Spring Data relies on it to tell new accounts apart.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    private Money amount;
     private Date createdAt;
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus;
+    /**
+     * Date of the last transaction, maintained by the transfer updates so that summaries never read the history.
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastTransactionAt;
+    /**
+     * Number of transactions of the account, null until computed by {@code AccountActivityBackfill}.
+     */
+    @Builder.Default
+    private Long transactionCount = 0L;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Customer customer;
     @OneToMany(mappedBy = "bankAccount")
     private List<BankAccountTransaction> bankAccountTransactionList;
@@ -2,6 +2,7 @@ package ma.formations.multiconnector.service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import ma.formations.multiconnector.common.Money;
 import ma.formations.multiconnector.enums.TransactionType;
 
 import java.util.Date;
@@ -12,10 +13,17 @@ import java.util.Date;
 @Builder
 @Data
 @Getter
-
+@Table(indexes = {
+        @Index(name = "idx_transaction_journal_seq", columnList = "journalSeq"),
+        //History by creation date range (getTransactions)
+        @Index(name = "idx_transaction_account_created", columnList = "bank_account_id, createdAt"),
+        //Keyset pagination newest first (dashboard, transaction history)
+        @Index(name = "idx_transaction_account_date", columnList = "bank_account_id, date, id")
+})
 public class BankAccountTransaction {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_transaction_seq")
+    @SequenceGenerator(name = "bank_account_transaction_seq", sequenceName = "bank_account_transaction_seq", allocationSize = 1000)
     private Long id;
 
     @Temporal(TemporalType.TIMESTAMP)
@@ -26,10 +34,15 @@ public class BankAccountTransaction {
 
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
-    private Double amount;
-    @ManyToOne
+    private Money amount;
+    @ManyToOne(fetch = FetchType.LAZY)
     private BankAccount bankAccount;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
+
+    /**
+     * Sequence of the journal record the row was projected from, null when written directly.
+     */
+    private Long journalSeq;
 }
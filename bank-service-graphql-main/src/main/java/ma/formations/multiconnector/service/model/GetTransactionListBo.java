@@ -15,4 +15,7 @@ public class GetTransactionListBo {
     private String rib;
     private Date dateTo;
     private Date dateFrom;
+    private String cursor;
+    private Integer size;
+    private Boolean withTotal;
 }
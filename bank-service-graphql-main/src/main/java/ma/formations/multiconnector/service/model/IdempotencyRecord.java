@@ -0,0 +1,59 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Response of a transfer already executed for a given Idempotency-Key,
+ * stored in the same transaction as the transfer itself.
+ * A record is only ever inserted: {@code save} persists it instead of merging, so a key committed
+ * meanwhile by another instance fails on the primary key and rolls the transfer back.
+ * The id is the SHA-256 of the user and the key, whatever their length.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class IdempotencyRecord implements Persistable<String> {
+    public static final int ID_LENGTH = 64;
+
+    @Id
+    @Column(length = ID_LENGTH)
+    private String id;
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+    @Lob
+    @Column(nullable = false)
+    private String response;
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date createdAt;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    /**
+     * The username is prefixed by its length, so that no other user and key can produce the same id.
+     */
+    public static String idOf(String username, String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((username.length() + ":" + username + ":" + key).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash idempotency key", e);
+        }
+    }
+}
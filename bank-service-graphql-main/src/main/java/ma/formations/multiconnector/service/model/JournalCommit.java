@@ -0,0 +1,31 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Marker inserted by the transaction that appended a journal record: after a crash, a record left
+ * in doubt was committed if and only if its marker exists. Deleted once the record is projected.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class JournalCommit implements Persistable<Long> {
+    @Id
+    private Long seq;
+
+    @Override
+    public Long getId() {
+        return seq;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
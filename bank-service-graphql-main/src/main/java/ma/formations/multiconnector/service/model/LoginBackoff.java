@@ -0,0 +1,26 @@
+package ma.formations.multiconnector.service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * A username or a client address refused at login until the given time, shared by all the instances.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class LoginBackoff {
+    public static final int ID_LENGTH = 200;
+
+    @Id
+    @Column(length = ID_LENGTH)
+    private String id;
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date blockedUntil;
+}
@@ -13,9 +13,12 @@ import java.util.List;
 @AllArgsConstructor
 @Data
 @Inheritance(strategy = InheritanceType.JOINED)
+//Login lookups and the prefix search of the username generation, unique so that two users never get the same name
+@Table(indexes = @Index(name = "uk_user_username", columnList = "username", unique = true))
 public class User {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 100)
     protected Long id;
     protected String username;
     protected String firstname;
@@ -31,10 +34,20 @@ public class User {
     private boolean accountNonExpired;
     private boolean credentialsNonExpired;
     private boolean accountNonLocked;
+    // Incremented to revoke the tokens already issued, they carry the epoch they were issued in (null: 0)
+    private Long tokenEpoch;
     @Column(unique = true, nullable = false)
     private String email;
     public User(String username) {
         this.username = username;
 
     }
+
+    public long currentTokenEpoch() {
+        return tokenEpoch == null ? 0 : tokenEpoch;
+    }
+
+    public void revokeTokens() {
+        tokenEpoch = currentTokenEpoch() + 1;
+    }
 }
@@ -0,0 +1,72 @@
+package ma.formations.multiconnector.service.onboarding;
+
+import ma.formations.multiconnector.dao.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Usernames and initial passwords of the new customers, created one at a time or by a bulk import.
+ */
+@Component
+public class CredentialsGenerator {
+
+    private static final String PASSWORD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int PASSWORD_LENGTH = 12;
+
+    private final UserRepository userRepository;
+    private final SecureRandom random = new SecureRandom();
+
+    public CredentialsGenerator(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public String username(String firstname, String lastname) {
+        return username(firstname, lastname, new HashMap<>());
+    }
+
+    /**
+     * The first free name among base, base1, base2... found with a single query on the usernames sharing the base,
+     * whatever the number of homonyms. Agents are included, the username identifies any user at login.
+     * Two requests may still pick the same free name at once: the unique index on the username refuses the second
+     * insert, which its caller retries with a new name.
+     * <p>
+     * The suffixes taken for each base are kept in {@code takenByBase} and the returned name is added to them:
+     * an import chunk reads each base once and never hands the same name out twice.
+     */
+    public String username(String firstname, String lastname, Map<String, Set<Integer>> takenByBase) {
+        String base = (firstname.substring(0, 1) + lastname).toLowerCase().replaceAll("\\s+", "");
+        Set<Integer> taken = takenByBase.computeIfAbsent(base, this::takenSuffixes);
+        int counter = 0;
+        while (taken.contains(counter)) {
+            counter++;
+        }
+        taken.add(counter);
+        return counter == 0 ? base : base + counter;
+    }
+
+    private Set<Integer> takenSuffixes(String base) {
+        Set<Integer> taken = new HashSet<>();
+        for (String existing : userRepository.findUsernamesStartingWith(base.replaceAll("([!%_])", "!$1"))) {
+            String suffix = existing.toLowerCase().substring(base.length());
+            if (suffix.isEmpty()) {
+                taken.add(0);
+            } else if (suffix.chars().allMatch(Character::isDigit) && suffix.charAt(0) != '0' && suffix.length() < 10) {
+                taken.add(Integer.parseInt(suffix));
+            }
+        }
+        return taken;
+    }
+
+    public String password() {
+        StringBuilder password = new StringBuilder();
+        for (int i = 0; i < PASSWORD_LENGTH; i++) {
+            password.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+        }
+        return password.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package ma.formations.multiconnector.service.onboarding;
+
+import ma.formations.multiconnector.dtos.customer.CustomerImportError;
+import ma.formations.multiconnector.dtos.customer.CustomerImportStatus;
+import ma.formations.multiconnector.enums.ImportStatus;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one import, updated by the import thread and the mail thread, read by the status requests.
+ * The first {@code maxErrors} errors are kept, the failed count is always exact.
+ */
+class CustomerImportJob {
+
+    private final String id;
+    private final String startedBy;
+    private final int total;
+    private final int maxErrors;
+    private final Date startedAt = new Date();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger accountsCreated = new AtomicInteger();
+    private final AtomicInteger emailsSent = new AtomicInteger();
+    private final AtomicInteger emailsFailed = new AtomicInteger();
+    private final List<CustomerImportError> errors = new ArrayList<>();
+    private volatile ImportStatus status = ImportStatus.QUEUED;
+    private volatile String message;
+    private volatile Date finishedAt;
+
+    CustomerImportJob(String id, String startedBy, int total, int maxErrors) {
+        this.id = id;
+        this.startedBy = startedBy;
+        this.total = total;
+        this.maxErrors = maxErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    void started() {
+        status = ImportStatus.RUNNING;
+    }
+
+    void completed() {
+        finishedAt = new Date();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void failed(String message) {
+        this.message = message;
+        finishedAt = new Date();
+        status = ImportStatus.FAILED;
+    }
+
+    void created(int accounts) {
+        accountsCreated.addAndGet(accounts);
+        created.incrementAndGet();
+        processed.incrementAndGet();
+    }
+
+    void rejected(int row, String identityNumber, String message) {
+        error(row, identityNumber, message);
+        failed.incrementAndGet();
+        processed.incrementAndGet();
+    }
+
+    void emailSent() {
+        emailsSent.incrementAndGet();
+    }
+
+    //The customer is created, only the delivery of its credentials failed
+    void emailFailed(int row, String identityNumber, String message) {
+        error(row, identityNumber, message);
+        emailsFailed.incrementAndGet();
+    }
+
+    private void error(int row, String identityNumber, String message) {
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new CustomerImportError(row, identityNumber, message));
+            }
+        }
+    }
+
+    CustomerImportStatus toStatus() {
+        int createdCount = created.get();
+        int failedCount = failed.get();
+        int emailsSentCount = emailsSent.get();
+        int emailsFailedCount = emailsFailed.get();
+        List<CustomerImportError> errorList;
+        synchronized (errors) {
+            errorList = new ArrayList<>(errors);
+        }
+        return CustomerImportStatus.builder()
+                .id(id)
+                .status(status)
+                .message(message)
+                .startedBy(startedBy)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .total(total)
+                .processed(processed.get())
+                .created(createdCount)
+                .failed(failedCount)
+                .accountsCreated(accountsCreated.get())
+                .emailsSent(emailsSentCount)
+                .emailsFailed(emailsFailedCount)
+                .emailsPending(createdCount - emailsSentCount - emailsFailedCount)
+                .errors(errorList)
+                .errorsTruncated(failedCount + emailsFailedCount > errorList.size())
+                .build();
+    }
+}
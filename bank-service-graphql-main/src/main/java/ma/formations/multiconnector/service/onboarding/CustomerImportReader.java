@@ -0,0 +1,165 @@
+package ma.formations.multiconnector.service.onboarding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ma.formations.multiconnector.dtos.customer.CustomerImportRow;
+import ma.formations.multiconnector.enums.ExportFormat;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the customers of an import file, one NDJSON line or CSV record per customer.
+ * <p>
+ * The CSV header names the columns: {@code firstname,lastname,identityNumber,birthDate,email,postalAddress}
+ * and optionally {@code rib,amount} for an account opened with the customer. A record is converted with the same
+ * Jackson mapper as an NDJSON line, so dates and amounts are read the same way in both formats.
+ * A line that cannot be read is returned with its error, the others are still imported.
+ */
+@Component
+public class CustomerImportReader {
+
+    private static final List<String> CUSTOMER_COLUMNS =
+            List.of("firstname", "lastname", "identityNumber", "birthDate", "email", "postalAddress");
+    private static final Set<String> ACCOUNT_COLUMNS = Set.of("rib", "amount");
+
+    private final ObjectMapper objectMapper;
+    private final int maxRows;
+
+    public CustomerImportReader(ObjectMapper objectMapper,
+                                @Value("${bank.customers.import.max-rows:100000}") int maxRows) {
+        this.objectMapper = objectMapper;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * @param row  position of the customer in the file, from 1
+     * @param data the customer, null when the line could not be read
+     */
+    public record Line(int row, CustomerImportRow data, String error) {
+    }
+
+    public List<Line> read(InputStream input, ExportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return format == ExportFormat.CSV ? readCsv(reader) : readNdjson(reader);
+    }
+
+    private List<Line> readNdjson(BufferedReader reader) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        String text;
+        while ((text = reader.readLine()) != null) {
+            if (text.isBlank()) {
+                continue;
+            }
+            int row = checkSize(lines.size() + 1);
+            try {
+                lines.add(new Line(row, objectMapper.readValue(text, CustomerImportRow.class), null));
+            } catch (JsonProcessingException e) {
+                lines.add(new Line(row, null, "Ligne illisible: " + e.getOriginalMessage()));
+            }
+        }
+        return lines;
+    }
+
+    private List<Line> readCsv(BufferedReader reader) throws IOException {
+        List<String> firstRecord = readRecord(reader);
+        if (firstRecord == null) {
+            return List.of();
+        }
+        //Excel starts its UTF-8 files with a byte order mark
+        List<String> header = firstRecord.stream().map(column -> column.replace("\uFEFF", "").trim()).toList();
+        List<String> missing = CUSTOMER_COLUMNS.stream().filter(column -> !header.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Colonnes manquantes dans le fichier: " + String.join(", ", missing));
+        }
+
+        List<Line> lines = new ArrayList<>();
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            int row = checkSize(lines.size() + 1);
+            if (record.size() != header.size()) {
+                lines.add(new Line(row, null, String.format("%d colonnes au lieu de %d", record.size(), header.size())));
+                continue;
+            }
+            Map<String, Object> customer = new HashMap<>();
+            Map<String, Object> account = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.get(i).trim();
+                if (!value.isEmpty()) {
+                    (ACCOUNT_COLUMNS.contains(header.get(i)) ? account : customer).put(header.get(i), value);
+                }
+            }
+            if (!account.isEmpty()) {
+                customer.put("accounts", List.of(account));
+            }
+            try {
+                lines.add(new Line(row, objectMapper.convertValue(customer, CustomerImportRow.class), null));
+            } catch (IllegalArgumentException e) {
+                lines.add(new Line(row, null, "Ligne illisible: " + e.getMessage()));
+            }
+        }
+        return lines;
+    }
+
+    private int checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new BusinessException(String.format("Un import ne peut pas dépasser %d clients", maxRows));
+        }
+        return rows;
+    }
+
+    /**
+     * The fields of the next record (RFC 4180: quoted fields may hold commas, line breaks and doubled quotes),
+     * or null at the end of the input.
+     */
+    private static List<String> readRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        for (; c >= 0; c = reader.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,458 @@
+package ma.formations.multiconnector.service.onboarding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dao.RoleRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.customer.CustomerImportRow;
+import ma.formations.multiconnector.dtos.customer.CustomerImportStatus;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.ExportFormat;
+import ma.formations.multiconnector.service.EmailService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.ledger.TransactionWriter;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.Role;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk customer onboarding. An import runs in the background on its own thread and can be followed
+ * with its status; the customers are processed by chunks of {@code bank.customers.import.chunk-size}, in stages:
+ * <ul>
+ *     <li>check: the identity numbers, emails and RIBs of the chunk are looked up with one IN query each,
+ *     and the usernames with one prefix query per name not seen yet in the chunk;</li>
+ *     <li>hash: the passwords are encoded in parallel on a fork-join pool of {@code bank.customers.import.hash-threads};</li>
+ *     <li>insert: the chunk is saved in one transaction, the user, customer, role and account rows as JDBC batches;</li>
+ *     <li>mail: the credentials are sent once the chunk is committed, by a single mail thread whose queue holds
+ *     {@code bank.customers.import.mail-queue-capacity} emails, beyond which the import thread sends them itself.</li>
+ * </ul>
+ * A chunk refused by the database (a customer created meanwhile by another request) is inserted again
+ * customer by customer, so that only the conflicting ones fail. A customer whose generated username was taken
+ * meanwhile is inserted again under a new one.
+ * The time spent in each stage is recorded in {@code bank.customers.import.stage}.
+ */
+@Slf4j
+@Component
+public class CustomerImporter implements DisposableBean {
+
+    private static final String RIB_PATTERN = "MA\\d{22}";
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final CustomerImportReader reader;
+    private final CredentialsGenerator credentialsGenerator;
+    private final CustomerRepository customerRepository;
+    private final UserRepository userRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final RoleRepository roleRepository;
+    private final TransactionWriter transactionWriter;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long retentionMillis;
+    private final Map<String, CustomerImportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor importPool;
+    private final ForkJoinPool hashPool;
+    private final ThreadPoolExecutor mailPool;
+    private final Timer checkTimer;
+    private final Timer hashTimer;
+    private final Timer insertTimer;
+    private final Counter createdRows;
+    private final Counter failedRows;
+
+    public CustomerImporter(CustomerImportReader reader,
+                            CredentialsGenerator credentialsGenerator,
+                            CustomerRepository customerRepository,
+                            UserRepository userRepository,
+                            BankAccountRepository bankAccountRepository,
+                            RoleRepository roleRepository,
+                            TransactionWriter transactionWriter,
+                            PasswordEncoder passwordEncoder,
+                            EmailService emailService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${bank.customers.import.chunk-size:500}") int chunkSize,
+                            @Value("${bank.customers.import.hash-threads:0}") int hashThreads,
+                            @Value("${bank.customers.import.max-pending:2}") int maxPending,
+                            @Value("${bank.customers.import.max-errors:1000}") int maxErrors,
+                            @Value("${bank.customers.import.retention-minutes:60}") long retentionMinutes,
+                            @Value("${bank.customers.import.mail-queue-capacity:1000}") int mailQueueCapacity,
+                            MeterRegistry meterRegistry) {
+        this.reader = reader;
+        this.credentialsGenerator = credentialsGenerator;
+        this.customerRepository = customerRepository;
+        this.userRepository = userRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.roleRepository = roleRepository;
+        this.transactionWriter = transactionWriter;
+        this.passwordEncoder = passwordEncoder;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.importPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(maxPending, 1)), runnable -> new Thread(runnable, "customer-import"));
+        //Half of the cores by default, the logins verify their passwords with BCrypt too
+        int parallelism = hashThreads > 0 ? hashThreads : Math.max(Runtime.getRuntime().availableProcessors() / 2, 1);
+        this.hashPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("customer-import-hash-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        //The queued emails hold plaintext passwords: a full queue slows the import down instead of growing
+        this.mailPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(mailQueueCapacity, 1)), runnable -> new Thread(runnable, "customer-import-mail"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.checkTimer = stageTimer("check", meterRegistry);
+        this.hashTimer = stageTimer("hash", meterRegistry);
+        this.insertTimer = stageTimer("insert", meterRegistry);
+        this.createdRows = rowCounter("created", meterRegistry);
+        this.failedRows = rowCounter("failed", meterRegistry);
+        Gauge.builder("bank.customers.import.emails.queued", mailPool, executor -> executor.getQueue().size())
+                .description("Credential emails of imported customers waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("bank.customers.import.stage")
+                .description("Time spent by the import chunks in each stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static Counter rowCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("bank.customers.import.rows")
+                .description("Imported customers by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the file and queues its import.
+     *
+     * @throws RejectedExecutionException at once when {@code bank.customers.import.max-pending} imports are waiting
+     */
+    public CustomerImportStatus start(InputStream input, ExportFormat format, String startedBy) throws IOException {
+        List<CustomerImportReader.Line> lines = reader.read(input, format);
+        if (lines.isEmpty()) {
+            throw new BusinessException("Le fichier ne contient aucun client");
+        }
+        CustomerImportJob job = new CustomerImportJob(UUID.randomUUID().toString(), startedBy, lines.size(), maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            importPool.execute(() -> run(job, lines));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        log.info("Import {} of {} customer(s) queued by {}", job.getId(), lines.size(), startedBy);
+        return job.toStatus();
+    }
+
+    public CustomerImportStatus getStatus(String id) {
+        CustomerImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new BusinessException(String.format("Aucun import [%s] n'existe", id));
+        }
+        return job.toStatus();
+    }
+
+    @Scheduled(fixedDelayString = "${bank.customers.import.purge-interval-ms:60000}")
+    public void purge() {
+        long oldest = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().getTime() < oldest);
+    }
+
+    private void run(CustomerImportJob job, List<CustomerImportReader.Line> lines) {
+        job.started();
+        try {
+            List<CustomerImportReader.Line> valid = validate(job, lines);
+            for (int from = 0; from < valid.size(); from += chunkSize) {
+                importChunk(job, valid.subList(from, Math.min(from + chunkSize, valid.size())));
+            }
+            job.completed();
+            CustomerImportStatus status = job.toStatus();
+            log.info("Import {} completed: {} customer(s) created, {} rejected", job.getId(), status.getCreated(), status.getFailed());
+        } catch (RuntimeException e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.failed(e.getMessage());
+        }
+    }
+
+    /**
+     * The checks that need no database: required fields, age, RIB format and the duplicates inside the file,
+     * of which the first occurrence is kept.
+     */
+    private List<CustomerImportReader.Line> validate(CustomerImportJob job, List<CustomerImportReader.Line> lines) {
+        List<CustomerImportReader.Line> valid = new ArrayList<>(lines.size());
+        Set<String> identityNumbers = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> ribs = new HashSet<>();
+        for (CustomerImportReader.Line line : lines) {
+            String error = line.error() != null ? line.error() : check(line.data());
+            CustomerImportRow data = line.data();
+            if (error == null && !identityNumbers.add(data.getIdentityNumber())) {
+                error = String.format("Le numéro d'identité %s apparaît plusieurs fois dans le fichier", data.getIdentityNumber());
+            }
+            if (error == null && !emails.add(data.getEmail().toLowerCase(Locale.ROOT))) {
+                error = String.format("L'adresse email %s apparaît plusieurs fois dans le fichier", data.getEmail());
+            }
+            if (error == null) {
+                for (AddBankAccountRequest account : accounts(data)) {
+                    if (!ribs.add(account.getRib())) {
+                        error = String.format("Le RIB [%s] apparaît plusieurs fois dans le fichier", account.getRib());
+                        break;
+                    }
+                }
+            }
+            if (error == null) {
+                valid.add(line);
+            } else {
+                reject(job, line, error);
+            }
+        }
+        return valid;
+    }
+
+    private static String check(CustomerImportRow data) {
+        List<String> missing = new ArrayList<>();
+        if (isBlank(data.getFirstname())) missing.add("firstname");
+        if (isBlank(data.getLastname())) missing.add("lastname");
+        if (isBlank(data.getIdentityNumber())) missing.add("identityNumber");
+        if (data.getBirthDate() == null) missing.add("birthDate");
+        if (isBlank(data.getEmail())) missing.add("email");
+        if (!missing.isEmpty()) {
+            return "Champs obligatoires manquants: " + String.join(", ", missing);
+        }
+        LocalDate birthDate = data.getBirthDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        if (Period.between(birthDate, LocalDate.now()).getYears() < 18) {
+            return "Le client doit avoir au moins 18 ans";
+        }
+        for (AddBankAccountRequest account : accounts(data)) {
+            if (account.getRib() == null || !account.getRib().matches(RIB_PATTERN)) {
+                return "Le RIB doit contenir 24 caractères (MA suivi de 22 chiffres)";
+            }
+            if (account.getAmount() != null && account.getAmount().getMinorUnits() < 0) {
+                return String.format("Le solde initial du RIB [%s] ne peut pas être négatif", account.getRib());
+            }
+        }
+        return null;
+    }
+
+    private void importChunk(CustomerImportJob job, List<CustomerImportReader.Line> chunk) {
+        List<NewCustomer> customers = checkTimer.record(() -> checkExisting(job, chunk));
+        if (customers.isEmpty()) {
+            return;
+        }
+        hashTimer.record(() -> hashPasswords(customers));
+        insertTimer.record(() -> insert(job, customers));
+    }
+
+    /**
+     * The taken usernames are read again for each chunk, so that they include the customers created meanwhile.
+     */
+    private List<NewCustomer> checkExisting(CustomerImportJob job, List<CustomerImportReader.Line> chunk) {
+        Set<String> identityNumbers = new HashSet<>(customerRepository.findIdentityNumbersIn(
+                chunk.stream().map(line -> line.data().getIdentityNumber()).toList()));
+        //Compared without case, like the duplicates inside the file
+        Set<String> emails = new HashSet<>();
+        for (String email : userRepository.findEmailsIn(chunk.stream().map(line -> line.data().getEmail()).toList())) {
+            emails.add(email.toLowerCase(Locale.ROOT));
+        }
+        Map<String, Set<Integer>> takenUsernames = new HashMap<>();
+        List<String> chunkRibs = chunk.stream()
+                .flatMap(line -> accounts(line.data()).stream())
+                .map(AddBankAccountRequest::getRib)
+                .toList();
+        Set<String> ribs = chunkRibs.isEmpty() ? Set.of() : new HashSet<>(bankAccountRepository.findRibsIn(chunkRibs));
+
+        List<NewCustomer> customers = new ArrayList<>(chunk.size());
+        for (CustomerImportReader.Line line : chunk) {
+            CustomerImportRow data = line.data();
+            String existingRib = accounts(data).stream()
+                    .map(AddBankAccountRequest::getRib)
+                    .filter(ribs::contains)
+                    .findFirst()
+                    .orElse(null);
+            if (identityNumbers.contains(data.getIdentityNumber())) {
+                reject(job, line, "Le numéro d'identité " + data.getIdentityNumber() + " existe déjà");
+            } else if (emails.contains(data.getEmail().toLowerCase(Locale.ROOT))) {
+                reject(job, line, "L'adresse email " + data.getEmail() + " est déjà utilisée");
+            } else if (existingRib != null) {
+                reject(job, line, String.format("Le RIB [%s] existe déjà", existingRib));
+            } else {
+                String username = credentialsGenerator.username(data.getFirstname(), data.getLastname(), takenUsernames);
+                customers.add(new NewCustomer(line, username, credentialsGenerator.password()));
+            }
+        }
+        return customers;
+    }
+
+    private void hashPasswords(List<NewCustomer> customers) {
+        List<ForkJoinTask<String>> hashes = new ArrayList<>(customers.size());
+        for (NewCustomer customer : customers) {
+            hashes.add(hashPool.submit(() -> passwordEncoder.encode(customer.rawPassword)));
+        }
+        for (int i = 0; i < customers.size(); i++) {
+            customers.get(i).encodedPassword = hashes.get(i).join();
+        }
+    }
+
+    private void insert(CustomerImportJob job, List<NewCustomer> customers) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(customers));
+            customers.forEach(customer -> created(job, customer));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Import {}: chunk refused by the database, its customers are inserted one by one", job.getId());
+            for (NewCustomer customer : customers) {
+                insertAlone(job, customer);
+            }
+        }
+    }
+
+    private void insertAlone(CustomerImportJob job, NewCustomer customer) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(customer)));
+                created(job, customer);
+                return;
+            } catch (DataIntegrityViolationException duplicate) {
+                if (attempt >= MAX_INSERT_ATTEMPTS || !userRepository.existsByUsername(customer.username)) {
+                    reject(job, customer.line, "Le client, son adresse email ou l'un de ses RIB existe déjà");
+                    return;
+                }
+                // Another request took the username since the chunk was checked
+                CustomerImportRow data = customer.line.data();
+                customer.username = credentialsGenerator.username(data.getFirstname(), data.getLastname());
+            }
+        }
+    }
+
+    private void persist(List<NewCustomer> customers) {
+        Role clientRole = roleRepository.findByAuthority("ROLE_CLIENT")
+                .orElseThrow(() -> new BusinessException("Role CLIENT not found"));
+        List<Customer> entities = new ArrayList<>(customers.size());
+        List<BankAccount> accounts = new ArrayList<>();
+        Date now = new Date();
+        for (NewCustomer newCustomer : customers) {
+            CustomerImportRow data = newCustomer.line.data();
+            Customer customer = new Customer();
+            customer.setFirstname(data.getFirstname());
+            customer.setLastname(data.getLastname());
+            customer.setIdentityNumber(data.getIdentityNumber());
+            customer.setBirthDate(data.getBirthDate());
+            customer.setEmail(data.getEmail());
+            customer.setPostalAddress(data.getPostalAddress());
+            customer.setUsername(newCustomer.username);
+            customer.setPassword(newCustomer.encodedPassword);
+            customer.setEnabled(true);
+            customer.setAccountNonExpired(true);
+            customer.setAccountNonLocked(true);
+            customer.setCredentialsNonExpired(true);
+            customer.getAuthorities().add(clientRole);
+            entities.add(customer);
+            for (AddBankAccountRequest request : accounts(data)) {
+                BankAccount account = new BankAccount();
+                account.setRib(request.getRib());
+                account.setAmount(request.getAmount() != null ? request.getAmount() : Money.ZERO);
+                account.setAccountStatus(AccountStatus.OPENED);
+                account.setCustomer(customer);
+                account.setCreatedAt(now);
+                accounts.add(account);
+            }
+        }
+        customerRepository.saveAll(entities);
+        bankAccountRepository.saveAll(accounts).forEach(transactionWriter::accountOpened);
+    }
+
+    private void created(CustomerImportJob job, NewCustomer customer) {
+        job.created(accounts(customer.line.data()).size());
+        createdRows.increment();
+        mailPool.execute(() -> sendCredentials(job, customer));
+    }
+
+    private void sendCredentials(CustomerImportJob job, NewCustomer customer) {
+        CustomerImportRow data = customer.line.data();
+        try {
+            emailService.sendNewClientCredentials(data.getEmail(), data.getFirstname(), data.getLastname(),
+                    customer.username, customer.rawPassword);
+            job.emailSent();
+        } catch (RuntimeException e) {
+            job.emailFailed(customer.line.row(), data.getIdentityNumber(),
+                    "Client créé mais ses identifiants n'ont pas pu être envoyés: " + e.getMessage());
+        }
+    }
+
+    private void reject(CustomerImportJob job, CustomerImportReader.Line line, String message) {
+        job.rejected(line.row(), line.data() == null ? null : line.data().getIdentityNumber(), message);
+        failedRows.increment();
+    }
+
+    private static Collection<AddBankAccountRequest> accounts(CustomerImportRow data) {
+        return data.getAccounts() == null ? List.of() : data.getAccounts();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public void destroy() {
+        importPool.shutdownNow();
+        hashPool.shutdownNow();
+        //The queued credentials are still sent, they are not kept anywhere else
+        mailPool.shutdown();
+    }
+
+    private static final class NewCustomer {
+        private final CustomerImportReader.Line line;
+        private String username;
+        private final String rawPassword;
+        private String encodedPassword;
+
+        private NewCustomer(CustomerImportReader.Line line, String username, String rawPassword) {
+            this.line = line;
+            this.username = username;
+            this.rawPassword = rawPassword;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ma.formations.multiconnector.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the same transfers (balance check, debit, credit) to balances held as boxed Double (the former amounts),
+ * as {@link Money} and as primitive centimes through the static {@code *Minor} methods.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; the gc profiler it enables reports the bytes
+ * allocated per operation, expected to be zero for the centimes path only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1024"})
+    private int accounts;
+
+    private int[] sources;
+    private int[] destinations;
+    private Double[] doubleAmounts;
+    private Money[] moneyAmounts;
+    private long[] minorAmounts;
+
+    private Double[] doubleBalances;
+    private Money[] moneyBalances;
+    private long[] minorBalances;
+
+    @Setup(Level.Trial)
+    public void prepareTransfers() {
+        SplittableRandom random = new SplittableRandom(42);
+        sources = new int[accounts];
+        destinations = new int[accounts];
+        doubleAmounts = new Double[accounts];
+        moneyAmounts = new Money[accounts];
+        minorAmounts = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            sources[i] = random.nextInt(accounts);
+            destinations[i] = random.nextInt(accounts);
+            long centimes = random.nextLong(1, 50_000);
+            doubleAmounts[i] = centimes / 100.0;
+            moneyAmounts[i] = Money.ofMinor(centimes);
+            minorAmounts[i] = centimes;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        doubleBalances = new Double[accounts];
+        moneyBalances = new Money[accounts];
+        minorBalances = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            doubleBalances[i] = 1_000_000.0;
+            moneyBalances[i] = Money.ofMinor(100_000_000L);
+            minorBalances[i] = 100_000_000L;
+        }
+    }
+
+    @Benchmark
+    public Double[] doubleTransfers() {
+        for (int i = 0; i < accounts; i++) {
+            Double amount = doubleAmounts[i];
+            if (doubleBalances[sources[i]] >= amount) {
+                doubleBalances[sources[i]] = doubleBalances[sources[i]] - amount;
+                doubleBalances[destinations[i]] = doubleBalances[destinations[i]] + amount;
+            }
+        }
+        return doubleBalances;
+    }
+
+    @Benchmark
+    public Money[] moneyTransfers() {
+        for (int i = 0; i < accounts; i++) {
+            Money amount = moneyAmounts[i];
+            if (!moneyBalances[sources[i]].isLessThan(amount)) {
+                moneyBalances[sources[i]] = moneyBalances[sources[i]].minus(amount);
+                moneyBalances[destinations[i]] = moneyBalances[destinations[i]].plus(amount);
+            }
+        }
+        return moneyBalances;
+    }
+
+    @Benchmark
+    public long[] minorUnitTransfers() {
+        for (int i = 0; i < accounts; i++) {
+            long amount = minorAmounts[i];
+            if (Money.covers(minorBalances[sources[i]], amount)) {
+                minorBalances[sources[i]] = Money.subtractMinor(minorBalances[sources[i]], amount);
+                minorBalances[destinations[i]] = Money.addMinor(minorBalances[destinations[i]], amount);
+            }
+        }
+        return minorBalances;
+    }
+}
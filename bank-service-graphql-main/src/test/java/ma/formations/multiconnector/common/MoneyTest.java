@@ -0,0 +1,109 @@
+package ma.formations.multiconnector.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Conversions of {@link Money} at the API boundaries and overflow of the allocation-free paths on the centimes.
+ */
+class MoneyTest {
+
+    @Test
+    void decimalAmountsAreExactInCentimes() {
+        assertThat(Money.of(0.1).getMinorUnits()).isEqualTo(10);
+        assertThat(Money.of(19.99).getMinorUnits()).isEqualTo(1999);
+        assertThat(Money.of(0.1).plus(Money.of(0.2))).isEqualTo(Money.of(0.3));
+        assertThat(Money.of("  1234.5 ").getMinorUnits()).isEqualTo(123450);
+        assertThat(Money.of(new BigDecimal("7.00"))).isEqualTo(Money.ofMinor(700));
+    }
+
+    @Test
+    void moreThanTwoDecimalsAreRefusedRatherThanRounded() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.005")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10.005");
+        assertThatThrownBy(() -> Money.of(0.001)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of("1.999")).isInstanceOf(IllegalArgumentException.class);
+        // Trailing zeros are not decimals
+        assertThat(Money.of(new BigDecimal("10.500"))).isEqualTo(Money.ofMinor(1050));
+    }
+
+    @Test
+    void amountsBeyondTheCentimesRangeAreRefused() {
+        BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE).add(new BigDecimal("0.01"));
+
+        assertThatThrownBy(() -> Money.of(tooLarge)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Money.of(BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE)).getMinorUnits()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void minorUnitsRoundTrip() {
+        for (long minor : new long[]{0, 1, 99, 100, 1999, -1, -1999, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            Money money = Money.ofMinor(minor);
+
+            assertThat(money.getMinorUnits()).isEqualTo(minor);
+            assertThat(Money.of(money.toBigDecimal())).isEqualTo(money);
+            assertThat(Money.of(money.toString())).isEqualTo(money);
+        }
+        assertThat(Money.ofMinor(0)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void doubleRoundTrip() {
+        for (double amount : new double[]{0.01, 0.1, 0.29, 1.15, 19.99, 1234567.89, -0.07, -250.5}) {
+            Money money = Money.of(amount);
+
+            assertThat(money.toDouble()).isEqualTo(amount);
+            assertThat(Money.of(money.toDouble())).isEqualTo(money);
+        }
+        assertThat(Money.of(19.99).toBigDecimal()).isEqualByComparingTo("19.99");
+    }
+
+    @Test
+    void longPathOverflowThrowsInsteadOfWrapping() {
+        assertThatThrownBy(() -> Money.addMinor(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtractMinor(Long.MIN_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtractMinor(0, Long.MIN_VALUE)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.addMinor(Long.MAX_VALUE - 1, 1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(Money.subtractMinor(Long.MIN_VALUE + 1, 1)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void negativeAmounts() {
+        Money debt = Money.of("-12.34");
+
+        assertThat(debt.getMinorUnits()).isEqualTo(-1234);
+        assertThat(debt.isPositive()).isFalse();
+        assertThat(Money.ZERO.isPositive()).isFalse();
+        assertThat(debt.toString()).isEqualTo("-12.34");
+        assertThat(Money.ofMinor(-5).toString()).isEqualTo("-0.05");
+        assertThat(Money.ZERO.minus(Money.of(12.34))).isEqualTo(debt);
+        assertThat(debt.plus(Money.of(12.34))).isSameAs(Money.ZERO);
+        assertThat(debt.compareTo(Money.ZERO)).isNegative();
+        assertThat(debt.isLessThan(Money.ZERO)).isTrue();
+    }
+
+    @Test
+    void coverage() {
+        assertThat(Money.covers(1000, 1000)).isTrue();
+        assertThat(Money.covers(999, 1000)).isFalse();
+        assertThat(Money.covers(0, 0)).isTrue();
+        assertThat(Money.covers(-1, 0)).isFalse();
+        assertThat(Money.of(10).isLessThan(Money.of(10.01))).isTrue();
+        assertThat(Money.of(10).isLessThan(Money.of(10))).isFalse();
+    }
+
+    @Test
+    void equalityIgnoresTheDecimalScale() {
+        assertThat(Money.of("5")).isEqualTo(Money.of("5.00")).hasSameHashCodeAs(Money.of("5.0"));
+        assertThat(Money.of(5)).isNotEqualTo(Money.of(5.01));
+    }
+}
@@ -0,0 +1,83 @@
+package ma.formations.multiconnector.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks, with EXPLAIN on H2 in MySQL mode, that the history queries of {@link BankAccountTransactionRepository}
+ * are planned on the composite indexes declared by BankAccountTransaction.
+ * The schema is generated from the entities, the SQL below is the one Hibernate issues for each query.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BankAccountTransactionIndexTest {
+
+    private static final String COLUMNS = "select t.id, t.amount, t.bank_account_id, t.created_at, t.\"date\", " +
+            "t.journal_seq, t.transaction_type, t.user_id from bank_account_transaction t ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void createdAtRangeUsesAccountCreatedIndex() {
+        // findByAccountAndCreatedAtBetween
+        String plan = explain(COLUMNS + "where t.bank_account_id = 1 " +
+                "and t.created_at between timestamp '2024-01-01 00:00:00' and timestamp '2024-12-31 23:59:59'");
+
+        assertThat(plan).containsIgnoringCase("idx_transaction_account_created");
+    }
+
+    @Test
+    void exportRangeUsesAccountCreatedIndex() {
+        // streamForExport
+        String plan = explain("select t.id, t.created_at, t.transaction_type, t.amount, b.rib, u.username " +
+                "from bank_account_transaction t join bank_account b on b.id = t.bank_account_id " +
+                "left join \"user\" u on u.id = t.user_id where b.id = 1 " +
+                "and t.created_at between timestamp '2024-01-01 00:00:00' and timestamp '2024-12-31 23:59:59' " +
+                "order by t.created_at, t.id");
+
+        assertThat(plan).containsIgnoringCase("idx_transaction_account_created");
+    }
+
+    @Test
+    void historyPageUsesAccountDateIndex() {
+        // findHistory
+        String plan = explain(COLUMNS + "where t.bank_account_id = 1 " +
+                "and t.\"date\" between timestamp '2024-01-01 00:00:00' and timestamp '2024-12-31 23:59:59' " +
+                "order by t.\"date\" desc, t.id desc limit 21");
+
+        assertThat(plan).containsIgnoringCase("idx_transaction_account_date");
+    }
+
+    @Test
+    void historyNextPageUsesAccountDateIndex() {
+        // findHistoryBefore, the keyset page following a (date, id) cursor
+        String plan = explain(COLUMNS + "where t.bank_account_id = 1 " +
+                "and t.\"date\" between timestamp '2024-01-01 00:00:00' and timestamp '2024-12-31 23:59:59' " +
+                "and (t.\"date\" < timestamp '2024-06-01 00:00:00' " +
+                "or (t.\"date\" = timestamp '2024-06-01 00:00:00' and t.id < 500)) " +
+                "order by t.\"date\" desc, t.id desc limit 21");
+
+        assertThat(plan).containsIgnoringCase("idx_transaction_account_date");
+    }
+
+    private String explain(String sql) {
+        List<?> rows = entityManager.createNativeQuery("explain " + sql).getResultList();
+        return rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,156 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Transfers sharing an account are serialized, unrelated ones are not, and the stripe order leaves no room
+ * for a deadlock. The RIBs below hash onto distinct stripes of the 1024 used here.
+ */
+class AccountLockManagerTest {
+
+    private static final String RIB_A = "RIB-A";
+    private static final String RIB_B = "RIB-B";
+    private static final String RIB_C = "RIB-C";
+    private static final String RIB_D = "RIB-D";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccountLockManager lockManager = new AccountLockManager(1024, 5000, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfersSharingAnAccountNeverOverlap() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        long[] balance = {0};
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            // Half of the threads name the accounts in the opposite order
+            String from = t % 2 == 0 ? RIB_A : RIB_B;
+            String to = t % 2 == 0 ? RIB_B : RIB_A;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    lockManager.executeLocked(from, to, () -> {
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        long read = balance[0];
+                        Thread.yield();
+                        balance[0] = read + 1;
+                        inside.decrementAndGet();
+                        return null;
+                    });
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(balance[0]).isEqualTo(8000);
+        assertThat(maxInside).hasValue(1);
+    }
+
+    @Test
+    void unrelatedAccountsRunInParallel() throws Exception {
+        CountDownLatch bothInside = new CountDownLatch(2);
+        Future<Boolean> first = executor.submit(() -> lockManager.executeLocked(RIB_A, RIB_B, () -> meet(bothInside)));
+        Future<Boolean> second = executor.submit(() -> lockManager.executeLocked(RIB_C, RIB_D, () -> meet(bothInside)));
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void oppositeTransfersDoNotDeadlock() throws Exception {
+        AccountLockManager fewStripes = new AccountLockManager(2, 5000, meterRegistry);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            List<String> ribs = t % 2 == 0 ? List.of(RIB_A, RIB_B, RIB_C) : List.of(RIB_C, RIB_B, RIB_A);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    fewStripes.executeLocked(ribs, () -> null);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            // A deadlock would end in the 5s lock timeout
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void busyAccountFailsAfterTheTimeout() throws Exception {
+        AccountLockManager shortTimeout = new AccountLockManager(1024, 50, meterRegistry);
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> shortTimeout.executeLocked(RIB_A, RIB_C, () -> {
+            held.countDown();
+            return await(release);
+        }));
+        assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertThatThrownBy(() -> shortTimeout.executeLocked(RIB_B, RIB_A, () -> ran.getAndSet(true)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("occupé");
+        assertThat(ran).isFalse();
+
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        // The lock of RIB_B taken before the failure was released with it
+        assertThat(executor.submit(() -> shortTimeout.executeLocked(RIB_B, RIB_D, () -> true)).get(10, TimeUnit.SECONDS))
+                .isTrue();
+    }
+
+    @Test
+    void locksAreReleasedWhenTheActionFails() throws Exception {
+        assertThatThrownBy(() -> lockManager.executeLocked(RIB_A, RIB_B, () -> {
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Another thread, the locks are reentrant for the failing one
+        assertThat(executor.submit(() -> lockManager.executeLocked(RIB_A, RIB_B, () -> true)).get(10, TimeUnit.SECONDS))
+                .isTrue();
+    }
+
+    @Test
+    void lockWaitIsTimed() {
+        lockManager.executeLocked(RIB_A, RIB_A, () -> null);
+        lockManager.executeLocked(RIB_A, RIB_B, () -> null);
+
+        assertThat(meterRegistry.get("bank.transfer.lock.wait").timer().count()).isEqualTo(2);
+    }
+
+    private static boolean meet(CountDownLatch latch) {
+        latch.countDown();
+        return await(latch);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
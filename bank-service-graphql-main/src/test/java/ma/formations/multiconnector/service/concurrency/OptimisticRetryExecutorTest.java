@@ -0,0 +1,105 @@
+package ma.formations.multiconnector.service.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Conflicts are retried up to the configured attempts, everything else fails at once, and a conflict inside
+ * a running transaction is left to its caller. Backoff is disabled to keep the tests fast.
+ */
+class OptimisticRetryExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(3, 0, meterRegistry);
+
+    @Test
+    void conflictIsRetriedUntilTheTransferGoesThrough() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryExecutor.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "posted";
+        });
+
+        assertThat(result).isEqualTo("posted");
+        assertThat(calls).hasValue(3);
+        assertThat(count("bank.transfer.attempts")).isEqualTo(3);
+        assertThat(count("bank.transfer.conflicts")).isEqualTo(2);
+        assertThat(count("bank.transfer.retries.exhausted")).isZero();
+    }
+
+    @Test
+    void conflictsBeyondTheLastAttemptAreReportedToTheClient() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(BusinessException.class).hasMessageContaining("modifié par une autre opération");
+
+        assertThat(calls).hasValue(3);
+        assertThat(count("bank.transfer.conflicts")).isEqualTo(3);
+        assertThat(count("bank.transfer.retries.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(count("bank.transfer.conflicts")).isZero();
+    }
+
+    @Test
+    void atLeastOneAttemptIsMade() {
+        OptimisticRetryExecutor noRetry = new OptimisticRetryExecutor(0, 0, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> noRetry.execute(() -> {
+            calls.incrementAndGet();
+            throw conflict();
+        })).isInstanceOf(BusinessException.class);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void conflictInsideARunningTransactionIsRethrown() {
+        AtomicInteger calls = new AtomicInteger();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> retryExecutor.execute(() -> {
+                calls.incrementAndGet();
+                throw conflict();
+            })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(calls).hasValue(1);
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("BankAccount", 1L);
+    }
+}
@@ -0,0 +1,216 @@
+package ma.formations.multiconnector.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ma.formations.multiconnector.dao.IdempotencyRecordRepository;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.IdempotencyRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.security.MessageDigest;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A key runs its transfer once per user: retries and concurrent duplicates get the first response back,
+ * from the cache, the table or the execution still running. The table is a mock, the response goes
+ * through the same JSON round trip as in production.
+ */
+class IdempotencyStoreTest {
+
+    private static final String KEY = "3f1c9a6e-retry";
+    private static final Transfer REQUEST = new Transfer("RIB-A", "RIB-B", 1999);
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyStore store = newStore();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void recordIdHasAFixedLengthAndNeverMixesUsersAndKeys() {
+        String id = IdempotencyRecord.idOf("jdoe", KEY);
+
+        assertThat(id).hasSize(IdempotencyRecord.ID_LENGTH).matches("[0-9a-f]+");
+        assertThat(IdempotencyRecord.idOf("jdoe", "k".repeat(100))).hasSize(IdempotencyRecord.ID_LENGTH);
+        assertThat(IdempotencyRecord.idOf("jdoe", KEY)).isEqualTo(id);
+        assertThat(IdempotencyRecord.idOf("jdoe2", KEY)).isNotEqualTo(id);
+        // The same "user:key" text split differently
+        assertThat(IdempotencyRecord.idOf("a:b", "c")).isNotEqualTo(IdempotencyRecord.idOf("a", "b:c"));
+        assertThat(IdempotencyRecord.idOf("ab", "c")).isNotEqualTo(IdempotencyRecord.idOf("a", "bc"));
+    }
+
+    @Test
+    void retryGetsTheFirstResponseWithoutTransferringAgain() {
+        Receipt first = store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-1"));
+        Receipt retry = store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(retry).isEqualTo(first).isEqualTo(new Receipt("TX-1", 1999));
+        assertThat(executions).hasValue(1);
+        verify(repository, times(1)).saveAndFlush(any());
+        assertThat(meterRegistry.get("bank.idempotency.replays").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRefused() {
+        store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-1"));
+
+        assertThatThrownBy(() -> store.execute(KEY, "jdoe", new Transfer("RIB-A", "RIB-B", 2000), Receipt.class,
+                transfer("TX-2")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("déjà été utilisée");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void sameKeyOfAnotherUserIsAnotherTransfer() {
+        store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-1"));
+        Receipt other = store.execute(KEY, "asmith", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(other.reference()).isEqualTo("TX-2");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void responseStoredByAnotherInstanceIsReplayedFromTheTable() throws Exception {
+        String id = IdempotencyRecord.idOf("jdoe", KEY);
+        when(repository.findById(id)).thenReturn(Optional.of(storedRecord(id, new Receipt("TX-1", 1999))));
+
+        Receipt replayed = store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(replayed.reference()).isEqualTo("TX-1");
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void keyCommittedMeanwhileByAnotherInstanceIsReplayed() throws Exception {
+        String id = IdempotencyRecord.idOf("jdoe", KEY);
+        IdempotencyRecord committed = storedRecord(id, new Receipt("TX-1", 1999));
+        when(repository.findById(id)).thenReturn(Optional.empty(), Optional.of(committed));
+        when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        Receipt replayed = store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(replayed.reference()).isEqualTo("TX-1");
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Receipt> first = executor.submit(() -> store.execute(KEY, "jdoe", REQUEST, Receipt.class, recorder -> {
+            started.countDown();
+            await(release);
+            return transfer("TX-1").apply(recorder);
+        }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<Receipt> duplicate = executor.submit(() -> store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-2")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("bank.idempotency.waits").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(duplicate).isNotDone();
+
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS).reference()).isEqualTo("TX-1");
+        assertThat(duplicate.get(10, TimeUnit.SECONDS).reference()).isEqualTo("TX-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void failedExecutionLetsTheKeyBeRetried() {
+        assertThatThrownBy(() -> store.execute(KEY, "jdoe", REQUEST, Receipt.class, recorder -> {
+            throw new BusinessException("Solde insuffisant");
+        })).isInstanceOf(BusinessException.class);
+
+        Receipt retry = store.execute(KEY, "jdoe", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(retry.reference()).isEqualTo("TX-2");
+    }
+
+    @Test
+    void withoutKeyTheTransferSimplyRuns() {
+        store.execute(null, "jdoe", REQUEST, Receipt.class, transfer("TX-1"));
+        store.execute(" ", "jdoe", REQUEST, Receipt.class, transfer("TX-2"));
+
+        assertThat(executions).hasValue(2);
+        verify(repository, never()).findById(any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void tooLongKeyIsRefused() {
+        assertThatThrownBy(() -> store.execute("k".repeat(101), "jdoe", REQUEST, Receipt.class, transfer("TX-1")))
+                .isInstanceOf(BusinessException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(repository, objectMapper, 100, 10, 24, 10000, meterRegistry);
+    }
+
+    /**
+     * A transfer recording its response the way the transfer services do, inside their transaction.
+     */
+    private Function<UnaryOperator<Receipt>, Receipt> transfer(String reference) {
+        return recorder -> {
+            executions.incrementAndGet();
+            return recorder.apply(new Receipt(reference, REQUEST.amount()));
+        };
+    }
+
+    private IdempotencyRecord storedRecord(String id, Receipt response) throws Exception {
+        return IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(sha256(objectMapper.writeValueAsBytes(REQUEST)))
+                .response(objectMapper.writeValueAsString(response))
+                .createdAt(new Date())
+                .build();
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Transfer(String ribFrom, String ribTo, long amount) {
+    }
+
+    record Receipt(String reference, long amount) {
+    }
+}
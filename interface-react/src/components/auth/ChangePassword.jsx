@@ -2,6 +2,7 @@ import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import Layout from '../layout/Layout';
 import apiService from '../../services/apiService';
+import authService from '../../services/authService';
 import './ChangePassword.css';
 
 function ChangePassword() {
@@ -45,6 +46,10 @@ function ChangePassword() {
                 formData.newPassword
             );
 
+            // The previous token is revoked along with the old password
+            if (response.data.token) {
+                authService.setToken(response.data.token);
+            }
             setMessage({ type: 'success', text: response.data.message || 'Mot de passe changé avec succès' });
 
             // Reset form
@@ -4,10 +4,14 @@ import apiService from '../../services/apiService';
 import { FaWallet, FaCreditCard, FaHistory } from 'react-icons/fa';
 import './Dashboard.css';
 
+const PAGE_SIZE = 10;
+
 function Dashboard() {
     const [dashboardData, setDashboardData] = useState(null);
     const [selectedRib, setSelectedRib] = useState('');
     const [currentPage, setCurrentPage] = useState(0);
+    // cursors[i] is the cursor that loads page i, the first page has none
+    const [cursors, setCursors] = useState([null]);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState('');
 
@@ -15,10 +19,42 @@ function Dashboard() {
         loadDashboard();
     }, [selectedRib, currentPage]);
 
+    // Balances and new operations are pushed by the server instead of reloading the dashboard
+    useEffect(() => {
+        const controller = new AbortController();
+        apiService.streamDashboard(applyActivity, controller.signal);
+        return () => controller.abort();
+    }, [currentPage]);
+
+    const applyActivity = (activity) => {
+        setDashboardData((data) => {
+            if (!data) {
+                return data;
+            }
+            const accounts = data.accounts.map((account) => account.rib === activity.rib
+                ? { ...account, balance: activity.balance, transactionCount: account.transactionCount + activity.transactions.length }
+                : account);
+            if (activity.rib !== data.selectedRib) {
+                return { ...data, accounts };
+            }
+            const posted = [...activity.transactions].reverse();
+            return {
+                ...data,
+                accounts,
+                selectedAccountBalance: activity.balance,
+                totalTransactions: data.totalTransactions + activity.transactions.length,
+                // Only the first page shows the latest operations, the next pages are left as loaded
+                recentTransactions: currentPage === 0
+                    ? [...posted, ...data.recentTransactions].slice(0, PAGE_SIZE)
+                    : data.recentTransactions,
+            };
+        });
+    };
+
     const loadDashboard = async () => {
         try {
             setLoading(true);
-            const response = await apiService.getDashboard(selectedRib, currentPage, 10);
+            const response = await apiService.getDashboard(selectedRib, cursors[currentPage], PAGE_SIZE);
             setDashboardData(response.data);
             setError('');
         } catch (err) {
@@ -30,6 +66,7 @@ function Dashboard() {
 
     const handleAccountChange = (e) => {
         setSelectedRib(e.target.value);
+        setCursors([null]);
         setCurrentPage(0);
     };
 
@@ -178,8 +215,11 @@ function Dashboard() {
                                             <span>Page {currentPage + 1} sur {dashboardData.totalPages}</span>
                                             <button
                                                 className="btn btn-sm btn-outline-primary"
-                                                onClick={() => setCurrentPage(prev => Math.min(dashboardData.totalPages - 1, prev + 1))}
-                                                disabled={currentPage >= dashboardData.totalPages - 1}
+                                                onClick={() => {
+                                                    setCursors(prev => [...prev.slice(0, currentPage + 1), dashboardData.nextCursor]);
+                                                    setCurrentPage(prev => prev + 1);
+                                                }}
+                                                disabled={!dashboardData.hasNext}
                                             >
                                                 Suivant
                                             </button>
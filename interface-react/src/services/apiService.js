@@ -62,14 +62,58 @@ const apiService = {
     },
 
     // Dashboard APIs
-    getDashboard: (rib = null, page = 0, size = 10) => {
-        let url = `/api/rest/dashboard?page=${page}&size=${size}`;
+    getDashboard: (rib = null, cursor = null, size = 10) => {
+        let url = `/api/rest/dashboard?size=${size}`;
         if (rib) {
             url += `&rib=${rib}`;
         }
+        if (cursor) {
+            url += `&cursor=${encodeURIComponent(cursor)}`;
+        }
         return apiClient.get(url);
     },
 
+    // Pushes the committed transfers of the client accounts (Server-Sent Events) until the signal is aborted.
+    // EventSource cannot send the JWT header, so the stream is read with fetch and reopened when it ends.
+    streamDashboard: async (onActivity, signal) => {
+        while (!signal.aborted) {
+            try {
+                const response = await fetch(`${API_URL}/api/rest/dashboard/stream`, {
+                    headers: { Authorization: `Bearer ${authService.getToken()}` },
+                    signal,
+                });
+                if (!response.ok) {
+                    return;
+                }
+                const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) {
+                        break;
+                    }
+                    buffer += value;
+                    const events = buffer.split('\n\n');
+                    buffer = events.pop();
+                    events.forEach((event) => {
+                        const data = event.split('\n')
+                            .filter((line) => line.startsWith('data:'))
+                            .map((line) => line.slice(5))
+                            .join('\n');
+                        if (data) {
+                            onActivity(JSON.parse(data));
+                        }
+                    });
+                }
+            } catch (err) {
+                if (signal.aborted) {
+                    return;
+                }
+                await new Promise((resolve) => setTimeout(resolve, 5000));
+            }
+        }
+    },
+
     // Transfer APIs
     executeTransfer: (transferData) => {
         return apiClient.post('/api/rest/transaction/transfer', transferData);
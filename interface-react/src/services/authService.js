@@ -39,6 +39,11 @@ const authService = {
         return localStorage.getItem(AUTH_TOKEN_KEY);
     },
 
+    // Replaces a token revoked by the server, e.g. after a password change
+    setToken: (token) => {
+        localStorage.setItem(AUTH_TOKEN_KEY, token);
+    },
+
     isTokenExpired: () => {
         const token = authService.getToken();
         if (!token) return true;